@@ -0,0 +1,7 @@
+package net.minecraft.core.particles;
+
+/**
+ * Stand-in for the server's particle parameter type.
+ */
+public interface ParticleOptions {
+}
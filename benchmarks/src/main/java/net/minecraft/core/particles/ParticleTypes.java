@@ -0,0 +1,14 @@
+package net.minecraft.core.particles;
+
+/**
+ * Stand-in registry holding the particle types named in the default config.yml.
+ */
+public final class ParticleTypes {
+    public static final ParticleOptions ELECTRIC_SPARK = new ParticleOptions() { };
+    public static final ParticleOptions SWEEP_ATTACK = new ParticleOptions() { };
+    public static final ParticleOptions SMOKE_NORMAL = new ParticleOptions() { };
+    public static final ParticleOptions FALLING_OBSIDIAN_TEAR = new ParticleOptions() { };
+
+    private ParticleTypes() {
+    }
+}
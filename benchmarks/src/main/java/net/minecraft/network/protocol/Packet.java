@@ -0,0 +1,8 @@
+package net.minecraft.network.protocol;
+
+/**
+ * Stand-in for the server's packet type so {@code NMSUtil} can resolve its packet handles
+ * inside the benchmark JVM. Only the shape that the reflection lookups rely on is reproduced.
+ */
+public interface Packet {
+}
@@ -0,0 +1,14 @@
+package net.minecraft.network.protocol.game;
+
+import net.minecraft.network.protocol.Packet;
+
+/**
+ * Stand-in bundle packet wrapping a batch of packets.
+ */
+public class ClientboundBundlePacket implements Packet {
+    private final Iterable<Packet> packets;
+
+    public ClientboundBundlePacket(Iterable<Packet> packets) {
+        this.packets = packets;
+    }
+}
@@ -0,0 +1,34 @@
+package net.minecraft.network.protocol.game;
+
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.network.protocol.Packet;
+
+/**
+ * Stand-in particle packet that keeps its arguments, so construction costs are comparable to the real one.
+ */
+public class ClientboundLevelParticlesPacket implements Packet {
+    private final ParticleOptions particle;
+    private final boolean overrideLimiter;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final float xDist;
+    private final float yDist;
+    private final float zDist;
+    private final float maxSpeed;
+    private final int count;
+
+    public ClientboundLevelParticlesPacket(ParticleOptions particle, boolean overrideLimiter, double x, double y, double z,
+                                           float xDist, float yDist, float zDist, float maxSpeed, int count) {
+        this.particle = particle;
+        this.overrideLimiter = overrideLimiter;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.xDist = xDist;
+        this.yDist = yDist;
+        this.zDist = zDist;
+        this.maxSpeed = maxSpeed;
+        this.count = count;
+    }
+}
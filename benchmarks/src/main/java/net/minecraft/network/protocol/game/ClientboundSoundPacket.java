@@ -0,0 +1,24 @@
+package net.minecraft.network.protocol.game;
+
+import net.minecraft.network.protocol.Packet;
+
+/**
+ * Stand-in sound packet matching the constructor {@code NMSUtil} resolves.
+ */
+public class ClientboundSoundPacket implements Packet {
+    private final String sound;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final float volume;
+    private final float pitch;
+
+    public ClientboundSoundPacket(String sound, double x, double y, double z, float volume, float pitch) {
+        this.sound = sound;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.volume = volume;
+        this.pitch = pitch;
+    }
+}
@@ -0,0 +1,10 @@
+package net.minecraft.server.level;
+
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+
+/**
+ * Stand-in server-side player holding the connection field {@code NMSUtil} looks up by type name.
+ */
+public class ServerPlayer {
+    public final ServerGamePacketListenerImpl connection = new ServerGamePacketListenerImpl();
+}
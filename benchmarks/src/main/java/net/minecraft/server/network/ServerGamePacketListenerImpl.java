@@ -0,0 +1,18 @@
+package net.minecraft.server.network;
+
+import net.minecraft.network.protocol.Packet;
+
+/**
+ * Stand-in player connection that counts the packets sent through it instead of writing them to a socket.
+ */
+public class ServerGamePacketListenerImpl {
+    private long sent;
+
+    public void send(Packet packet) {
+        sent++;
+    }
+
+    public long getSent() {
+        return sent;
+    }
+}
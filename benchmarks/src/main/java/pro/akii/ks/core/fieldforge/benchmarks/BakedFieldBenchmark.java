@@ -0,0 +1,116 @@
+package pro.akii.ks.core.fieldforge.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.akii.ks.core.fieldforge.fields.BakedFieldGrid;
+import pro.akii.ks.core.fieldforge.fields.FieldManager;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.LinearField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+import pro.akii.ks.core.fieldforge.harness.HarnessPlugin;
+import pro.akii.ks.core.fieldforge.harness.StubServer;
+import pro.akii.ks.core.fieldforge.harness.StubWorld;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link FieldManager#updateFields()} tick over many permanent fields stacked on a 48x48 block
+ * area with a crowd of entities inside them, evaluating every field exactly or sampling the baked
+ * voxel grid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BakedFieldBenchmark {
+    private static final double AREA = 48;
+
+    @Param({"8", "32", "128"})
+    public int fields;
+
+    @Param({"1000"})
+    public int entities;
+
+    @Param({"false", "true"})
+    public boolean baked;
+
+    @Param({"1", "2", "4"})
+    public int voxelSize;
+
+    private HarnessPlugin plugin;
+    private FieldManager fieldManager;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        StubServer server = StubServer.install();
+        StubWorld world = server.createWorld("baked");
+        plugin = new HarnessPlugin(server);
+        plugin.getConfig().set("vector-fields.baked-fields.enabled", baked);
+        plugin.getConfig().set("vector-fields.baked-fields.voxel-size", voxelSize);
+        plugin.enable();
+        fieldManager = plugin.getFieldManager();
+
+        Random random = new Random(42);
+        for (int i = 0; i < fields; i++) {
+            Location center = new Location(world.asWorld(), random.nextDouble() * AREA, 64, random.nextDouble() * AREA);
+            int range = 12 + random.nextInt(9);
+            VectorField field;
+            switch (i % 3) {
+                case 0:
+                    field = new RadialField(center, 0.5, range, null, 0);
+                    break;
+                case 1:
+                    field = new LinearField(center, 0.2, range, new Vector(1, 0, 0), null, 0);
+                    break;
+                default:
+                    field = new VortexField(center, 0.5, range, null, 0);
+            }
+            field.setVisualsEnabled(false);
+            fieldManager.createField(field, null);
+        }
+        fieldManager.awaitShardLoads();
+        for (int i = 0; i < entities; i++) {
+            world.spawn(random.nextDouble() * AREA, 58 + random.nextDouble() * 12, random.nextDouble() * AREA);
+        }
+        fieldManager.updateFields();
+        awaitBake();
+    }
+
+    @TearDown
+    public void tearDown() {
+        plugin.disable();
+    }
+
+    @Benchmark
+    public void updateFields() {
+        fieldManager.updateFields();
+    }
+
+    /**
+     * Waits for the background rebuilds queued by the first tick, so the measurement does not
+     * include the exact fallback.
+     */
+    private void awaitBake() throws InterruptedException {
+        BakedFieldGrid grid = fieldManager.getBakedFieldGrid();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (grid.getPendingRebuilds() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package pro.akii.ks.core.fieldforge.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pro.akii.ks.core.fieldforge.benchmarks.kernels.ForceBatch;
+import pro.akii.ks.core.fieldforge.benchmarks.kernels.ForceKernel;
+import pro.akii.ks.core.fieldforge.fields.ForceAccumulator;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+import pro.akii.ks.core.fieldforge.harness.StubServer;
+import pro.akii.ks.core.fieldforge.harness.StubWorld;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One field evaluated over a struct-of-arrays {@link ForceBatch} by the scalar and the SIMD
+ * {@link ForceKernel}, against the per-entity paths as the reference: the allocating
+ * {@link VectorField#calculateForce(Entity)} wrapper, which also pays for the entity's location
+ * lookup, and the {@link VectorField#accumulateForce} kernel the tick loop uses. The {@code simd}
+ * kernel needs the suite built with {@code mvn -f benchmarks/pom.xml -Psimd package}; the fork
+ * already adds the incubator module.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BatchKernelBenchmark {
+    private static final int POINTS = 4096;
+
+    @Param({"radial", "vortex"})
+    public String type;
+
+    @Param({"scalar", "simd"})
+    public String kernel;
+
+    private VectorField field;
+    private ForceKernel forceKernel;
+    private ForceBatch batch;
+    private Entity[] entities;
+    private double[] positions;
+    private ForceAccumulator accumulator;
+
+    @Setup
+    public void setup() {
+        StubWorld world = StubServer.install().createWorld("batch");
+        Location center = new Location(world.asWorld(), 0, 64, 0);
+        field = type.equals("vortex")
+            ? new VortexField(center, 1.0, 16, null, 0)
+            : new RadialField(center, 1.0, 16, null, 0);
+        forceKernel = kernel.equals("simd") ? ForceKernel.load() : ForceKernel.scalar();
+        if (kernel.equals("simd") && forceKernel == ForceKernel.scalar()) {
+            throw new IllegalStateException("SIMD kernel not found; build the benchmarks with mvn -Psimd package");
+        }
+        Random random = new Random(42);
+        batch = new ForceBatch(POINTS);
+        entities = new Entity[POINTS];
+        positions = new double[POINTS * 3];
+        accumulator = new ForceAccumulator(POINTS);
+        for (int i = 0; i < POINTS; i++) {
+            double x = random.nextDouble() * 40 - 20;
+            double y = 64 + random.nextDouble() * 40 - 20;
+            double z = random.nextDouble() * 40 - 20;
+            batch.add(x, y, z);
+            entities[i] = world.spawn(x, y, z).asEntity();
+            accumulator.slot(entities[i]);
+            positions[i * 3] = x;
+            positions[i * 3 + 1] = y;
+            positions[i * 3 + 2] = z;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void calculateForce(Blackhole blackhole) {
+        for (Entity entity : entities) {
+            blackhole.consume(field.calculateForce(entity));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void accumulateForce(Blackhole blackhole) {
+        double strength = field.getStrength();
+        for (int i = 0; i < POINTS; i++) {
+            blackhole.consume(field.accumulateForce(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2],
+                strength, accumulator, i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public ForceBatch batch() {
+        forceKernel.evaluate(field, field.getStrength(), batch);
+        return batch;
+    }
+}
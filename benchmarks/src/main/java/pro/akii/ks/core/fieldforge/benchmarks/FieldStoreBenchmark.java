@@ -0,0 +1,197 @@
+package pro.akii.ks.core.fieldforge.benchmarks;
+
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pro.akii.ks.core.fieldforge.fields.ChunkCoverage;
+import pro.akii.ks.core.fieldforge.fields.FieldIndex;
+import pro.akii.ks.core.fieldforge.fields.FieldStore;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+import pro.akii.ks.core.fieldforge.harness.StubServer;
+import pro.akii.ks.core.fieldforge.harness.StubWorld;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of the {@link FieldStore} with the number of fields, at a constant density of one field
+ * per 16x16 column. {@code scanObjects} and {@code scanStore} run the same full pass (active fields
+ * within reach of a point) over the field objects and over the store's arrays; the object list is
+ * shuffled so its visiting order does not follow allocation order, as after a server has been
+ * creating and removing fields for a while. {@code query} is a point lookup through the
+ * {@link FieldIndex}, which should stay flat, and {@code churn} removes and re-adds a field,
+ * including the swap-remove compaction. {@code scheduleObjects} and {@code scheduleStore} pick the
+ * fields due this tick, with update intervals of one to four ticks: the first the way the tick did
+ * it from a set of armed field objects, copying it into a list and recording due and skipped fields
+ * in identity maps, the second over the store's flags, intervals and IDs with the armed flags kept
+ * by a {@link ChunkCoverage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldStoreBenchmark {
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    public int fields;
+
+    private FieldIndex index;
+    private FieldIndex.WorldGrid grid;
+    private List<VectorField> objects;
+    private Set<VectorField> armed;
+    private List<VectorField> tickFields;
+    private Map<VectorField, Integer> dueIntervals;
+    private Set<VectorField> skippedFields;
+    private int[] due;
+    private long tick;
+    private double[] points;
+    private double extent;
+    private Random random;
+
+    @Setup
+    public void setup() {
+        StubWorld world = StubServer.install().createWorld("store");
+        extent = Math.sqrt(fields) * 16;
+        random = new Random(42);
+        index = new FieldIndex();
+        ChunkCoverage coverage = new ChunkCoverage(index.getStore());
+        objects = new ArrayList<>(fields);
+        armed = new LinkedHashSet<>();
+        for (int i = 0; i < fields; i++) {
+            Location center = new Location(world.asWorld(), random.nextDouble() * extent, 64, random.nextDouble() * extent);
+            VectorField field = i % 2 == 0
+                ? new RadialField(center, 1.0, 4 + random.nextInt(13), null, 0)
+                : new VortexField(center, 1.0, 4 + random.nextInt(13), null, 0);
+            field.setActive(random.nextInt(8) != 0);
+            field.setUpdateInterval(1 + random.nextInt(4));
+            index.add(field);
+            coverage.add(field);
+            objects.add(field);
+            armed.add(field);
+        }
+        Collections.shuffle(objects, random);
+        tickFields = new ArrayList<>();
+        dueIntervals = new IdentityHashMap<>();
+        skippedFields = Collections.newSetFromMap(new IdentityHashMap<>());
+        due = new int[fields];
+        grid = index.getGrid(world.asWorld());
+        points = new double[QUERIES * 3];
+        for (int i = 0; i < QUERIES; i++) {
+            points[i * 3] = random.nextDouble() * extent;
+            points[i * 3 + 1] = 64;
+            points[i * 3 + 2] = random.nextDouble() * extent;
+        }
+    }
+
+    @Benchmark
+    public int scanObjects() {
+        double x = extent / 2;
+        double z = extent / 2;
+        int found = 0;
+        for (VectorField field : objects) {
+            if (!field.isActive()) continue;
+            Location center = field.getLocation();
+            double dx = center.getX() - x;
+            double dz = center.getZ() - z;
+            double reach = field.getRange() + 64;
+            if (dx * dx + dz * dz <= reach * reach) found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int scanStore() {
+        FieldStore store = index.getStore();
+        double x = extent / 2;
+        double z = extent / 2;
+        int found = 0;
+        for (int slot = 0, size = store.size(); slot < size; slot++) {
+            if (!store.isActive(slot)) continue;
+            double dx = store.getX(slot) - x;
+            double dz = store.getZ(slot) - z;
+            double reach = store.getRange(slot) + 64;
+            if (dx * dx + dz * dz <= reach * reach) found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int scheduleObjects() {
+        tick++;
+        tickFields.addAll(armed);
+        int selected = 0;
+        for (VectorField field : tickFields) {
+            if (!field.isActive()) continue;
+            int interval = field.getUpdateInterval();
+            if (interval == 1) {
+                selected++;
+            } else if ((tick + field.getId()) % interval == 0) {
+                dueIntervals.put(field, interval);
+                selected++;
+            } else {
+                skippedFields.add(field);
+            }
+        }
+        tickFields.clear();
+        dueIntervals.clear();
+        skippedFields.clear();
+        return selected;
+    }
+
+    @Benchmark
+    public int scheduleStore() {
+        FieldStore store = index.getStore();
+        tick++;
+        int selected = 0;
+        for (int slot = 0, size = store.size(); slot < size; slot++) {
+            if (!store.isArmed(slot) || !store.isActive(slot)) continue;
+            int interval = store.getUpdateInterval(slot);
+            if (interval == 1 || (tick + store.getId(slot)) % interval == 0) {
+                due[slot] = interval;
+                selected++;
+            }
+        }
+        return selected;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public void query(Blackhole blackhole) {
+        List<VectorField> result = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            grid.query(points[i * 3], points[i * 3 + 1], points[i * 3 + 2], 0, result);
+            blackhole.consume(result.size());
+            result.clear();
+        }
+    }
+
+    @Benchmark
+    public void churn() {
+        VectorField field = objects.get(random.nextInt(fields));
+        index.remove(field);
+        index.add(field);
+    }
+}
@@ -0,0 +1,114 @@
+package pro.akii.ks.core.fieldforge.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pro.akii.ks.core.fieldforge.fields.ForceAccumulator;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.ExpressionField;
+import pro.akii.ks.core.fieldforge.fields.types.LinearField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+import pro.akii.ks.core.fieldforge.harness.StubServer;
+import pro.akii.ks.core.fieldforge.harness.StubWorld;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-entity force evaluation of each field type, comparing the allocating
+ * {@link VectorField#calculateForce(Entity)} wrapper with the accumulator kernel used by the tick loop.
+ * The {@code *-expression} types are {@link ExpressionField}s written to match the built-in shape of
+ * the same name, showing the cost of compiled expressions over hand-written Java.
+ * Run with {@code -prof gc} to see the allocation difference.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForceKernelBenchmark {
+    private static final int POINTS = 1024;
+
+    @Param({"radial", "linear", "vortex", "radial-expression", "linear-expression", "vortex-expression"})
+    public String type;
+
+    private VectorField field;
+    private Entity[] entities;
+    private double[] positions;
+    private ForceAccumulator accumulator;
+
+    @Setup
+    public void setup() {
+        StubWorld world = StubServer.install().createWorld("kernel");
+        Location center = new Location(world.asWorld(), 0, 64, 0);
+        switch (type) {
+            case "linear":
+                field = new LinearField(center, 1.0, 16, new Vector(1, 0, 0), null, 0);
+                break;
+            case "vortex":
+                field = new VortexField(center, 1.0, 16, null, 0);
+                break;
+            case "radial-expression":
+                field = new ExpressionField(center, 1.0, 16, "-strength*dx/r^3", "-strength*dy/r^3", "-strength*dz/r^3", null, 0);
+                break;
+            case "linear-expression":
+                field = new ExpressionField(center, 1.0, 16, "strength", "0", "0", null, 0);
+                break;
+            case "vortex-expression":
+                field = new ExpressionField(center, 1.0, 16, "-strength*dz/(r*sqrt(dx^2+dz^2))", "0",
+                    "strength*dx/(r*sqrt(dx^2+dz^2))", null, 0);
+                break;
+            default:
+                field = new RadialField(center, 1.0, 16, null, 0);
+        }
+        Random random = new Random(42);
+        entities = new Entity[POINTS];
+        positions = new double[POINTS * 3];
+        for (int i = 0; i < POINTS; i++) {
+            double x = random.nextDouble() * 40 - 20;
+            double y = 64 + random.nextDouble() * 40 - 20;
+            double z = random.nextDouble() * 40 - 20;
+            entities[i] = world.spawn(x, y, z).asEntity();
+            positions[i * 3] = x;
+            positions[i * 3 + 1] = y;
+            positions[i * 3 + 2] = z;
+        }
+        accumulator = new ForceAccumulator(POINTS);
+        for (Entity entity : entities) {
+            accumulator.slot(entity);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void calculateForce(Blackhole blackhole) {
+        for (Entity entity : entities) {
+            blackhole.consume(field.calculateForce(entity));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void accumulateForce(Blackhole blackhole) {
+        double strength = field.getStrength();
+        for (int i = 0; i < POINTS; i++) {
+            blackhole.consume(field.accumulateForce(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2],
+                strength, accumulator, i));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package pro.akii.ks.core.fieldforge.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.akii.ks.core.fieldforge.fields.FieldManager;
+import pro.akii.ks.core.fieldforge.fields.MembershipTracker;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.harness.HarnessPlugin;
+import pro.akii.ks.core.fieldforge.harness.StubServer;
+import pro.akii.ks.core.fieldforge.harness.StubWorld;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One tick of {@link MembershipTracker} bookkeeping for a given number of (entity, field) pairs:
+ * every entity sits in {@value #FIELDS_PER_ENTITY} fields. In the steady case nothing changes
+ * between ticks; in the churn case every entity swaps one field per tick, producing an enter and
+ * an exit event each. Cost per tick should grow linearly with the pair count in both cases.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MembershipTrackerBenchmark {
+    private static final int FIELDS_PER_ENTITY = 4;
+    private static final int FIELD_POOL = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    public int pairs;
+
+    private HarnessPlugin plugin;
+    private MembershipTracker tracker;
+    private List<VectorField> fields;
+    private Entity[] entities;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        StubServer server = StubServer.install();
+        StubWorld world = server.createWorld("membership");
+        plugin = new HarnessPlugin(server);
+        plugin.enable();
+        FieldManager fieldManager = plugin.getFieldManager();
+        for (int i = 0; i < FIELD_POOL; i++) {
+            fieldManager.createField(new RadialField(new Location(world.asWorld(), i * 64, 64, 0), 1.0, 8, null, 0), null);
+        }
+        fieldManager.awaitShardLoads();
+        fields = new ArrayList<>(fieldManager.getFields());
+        tracker = new MembershipTracker(fieldManager.getFieldsById());
+        entities = new Entity[pairs / FIELDS_PER_ENTITY];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = world.spawn(i, 64, 0).asEntity();
+        }
+        observe(0);
+        tracker.commit();
+    }
+
+    @TearDown
+    public void tearDown() {
+        tracker.clear();
+        plugin.disable();
+    }
+
+    @Benchmark
+    public void steady() {
+        observe(0);
+        tracker.commit();
+    }
+
+    @Benchmark
+    public void churn() {
+        observe(++tick);
+        tracker.commit();
+    }
+
+    private void observe(int shift) {
+        for (int e = 0; e < entities.length; e++) {
+            for (int k = 0; k < FIELDS_PER_ENTITY - 1; k++) {
+                tracker.observe(fields.get((e + k) % FIELD_POOL), entities[e]);
+            }
+            tracker.observe(fields.get((e + FIELDS_PER_ENTITY - 1 + shift) % FIELD_POOL), entities[e]);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package pro.akii.ks.core.fieldforge.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pro.akii.ks.core.fieldforge.harness.HarnessPlugin;
+import pro.akii.ks.core.fieldforge.harness.StubServer;
+import pro.akii.ks.core.fieldforge.harness.StubWorld;
+import pro.akii.ks.core.fieldforge.particles.ParticleGeometry;
+import pro.akii.ks.core.fieldforge.particles.ParticleManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Particle point-cloud generation, cold (a fresh cache every call) against cached, and a full
+ * radial render through {@link ParticleManager} to one nearby viewer on the Bukkit fallback path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleGeometryBenchmark {
+    private static final double DENSITY = 0.5;
+    private static final Vector DIRECTION = new Vector(1, 0, 0);
+
+    @Param({"8", "32"})
+    public int range;
+
+    private HarnessPlugin plugin;
+    private ParticleManager particleManager;
+    private ParticleGeometry cached;
+    private Location center;
+
+    @Setup
+    public void setup() {
+        StubServer server = StubServer.install();
+        StubWorld world = server.createWorld("particles");
+        world.addPlayer("Viewer", 0, 64, 0);
+        plugin = new HarnessPlugin(server);
+        plugin.enable();
+        particleManager = plugin.getParticleManager();
+        cached = new ParticleGeometry();
+        center = new Location(world.asWorld(), 0, 64, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        plugin.disable();
+    }
+
+    @Benchmark
+    public void radialCold(Blackhole blackhole) {
+        blackhole.consume(new ParticleGeometry().radial(range, DENSITY));
+    }
+
+    @Benchmark
+    public void radialCached(Blackhole blackhole) {
+        blackhole.consume(cached.radial(range, DENSITY));
+    }
+
+    @Benchmark
+    public void linearCold(Blackhole blackhole) {
+        blackhole.consume(new ParticleGeometry().linear(range, DENSITY, DIRECTION));
+    }
+
+    @Benchmark
+    public void linearCached(Blackhole blackhole) {
+        blackhole.consume(cached.linear(range, DENSITY, DIRECTION));
+    }
+
+    @Benchmark
+    public void vortexCold(Blackhole blackhole) {
+        blackhole.consume(new ParticleGeometry().vortex(range, DENSITY));
+    }
+
+    @Benchmark
+    public void vortexCached(Blackhole blackhole) {
+        blackhole.consume(cached.vortex(range, DENSITY));
+    }
+
+    @Benchmark
+    public void renderRadialField() {
+        particleManager.renderRadialField(center, range);
+    }
+}
@@ -0,0 +1,93 @@
+package pro.akii.ks.core.fieldforge.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.akii.ks.core.fieldforge.fields.FieldManager;
+import pro.akii.ks.core.fieldforge.fields.types.LinearField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.harness.HarnessPlugin;
+import pro.akii.ks.core.fieldforge.harness.StubServer;
+import pro.akii.ks.core.fieldforge.harness.StubWorld;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip of the field store: {@link FieldManager#saveFields()} of the whole population, and
+ * {@link FieldManager#loadFields()} of it into an emptied manager, plus the main-thread cost of a
+ * journaled mutation. The population is spread over about 400 shards, and the chunk of every
+ * field is looked up once so that all shards count as loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersistenceBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int fields;
+
+    private HarnessPlugin plugin;
+    private FieldManager fieldManager;
+    private long nextModified;
+
+    @Setup
+    public void setup() {
+        StubServer server = StubServer.install();
+        StubWorld world = server.createWorld("persistence");
+        plugin = new HarnessPlugin(server);
+        plugin.enable();
+        fieldManager = plugin.getFieldManager();
+
+        Random random = new Random(42);
+        UUID owner = UUID.randomUUID();
+        for (int i = 0; i < fields; i++) {
+            Location center = new Location(world.asWorld(), random.nextDouble() * 10000, 64, random.nextDouble() * 10000);
+            world.asWorld().getChunkAt(center.getBlockX() >> 4, center.getBlockZ() >> 4);
+            if (i % 2 == 0) {
+                fieldManager.createField(new RadialField(center, 1.0, 8, null, i % 4 == 0 ? 0 : 72000), null);
+            } else {
+                fieldManager.createField(new LinearField(center, 1.0, 8, new Vector(0, 1, 0), owner, 0), null);
+            }
+        }
+        fieldManager.saveFields();
+    }
+
+    @TearDown
+    public void tearDown() {
+        fieldManager.clearFields();
+        plugin.disable();
+    }
+
+    @Benchmark
+    public void save() {
+        fieldManager.saveFields();
+    }
+
+    @Benchmark
+    public boolean modifyStrength() {
+        nextModified = nextModified % fields + 1;
+        return fieldManager.modifyFieldStrengthById(nextModified, 1.0 + (nextModified & 7), null);
+    }
+
+    @Benchmark
+    public int load() {
+        fieldManager.clearFields();
+        fieldManager.loadFields();
+        return fieldManager.getFields().size();
+    }
+}
@@ -0,0 +1,102 @@
+package pro.akii.ks.core.fieldforge.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.akii.ks.core.fieldforge.fields.FieldManager;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.LinearField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+import pro.akii.ks.core.fieldforge.harness.HarnessPlugin;
+import pro.akii.ks.core.fieldforge.harness.StubServer;
+import pro.akii.ks.core.fieldforge.harness.StubWorld;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full {@link FieldManager#updateFields()} tick over a mix of field types and a population of
+ * entities scattered across a 256x256 block area, in both update modes, with every field updated
+ * each tick or every 5 ticks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateFieldsBenchmark {
+    private static final double AREA = 256;
+
+    @Param({"10", "100", "1000"})
+    public int fields;
+
+    @Param({"100", "1000"})
+    public int entities;
+
+    @Param({"field", "entity"})
+    public String mode;
+
+    @Param({"1", "5"})
+    public int interval;
+
+    private HarnessPlugin plugin;
+    private FieldManager fieldManager;
+
+    @Setup
+    public void setup() {
+        StubServer server = StubServer.install();
+        StubWorld world = server.createWorld("update");
+        plugin = new HarnessPlugin(server);
+        plugin.getConfig().set("vector-fields.update-mode", mode);
+        plugin.enable();
+        fieldManager = plugin.getFieldManager();
+
+        Random random = new Random(42);
+        for (int i = 0; i < fields; i++) {
+            Location center = new Location(world.asWorld(), random.nextDouble() * AREA, 64, random.nextDouble() * AREA);
+            int range = 4 + random.nextInt(13);
+            VectorField field;
+            switch (i % 3) {
+                case 0:
+                    field = new RadialField(center, 0.5, range, null, 0);
+                    break;
+                case 1:
+                    field = new LinearField(center, 0.5, range, new Vector(1, 0, 0), null, 0);
+                    break;
+                default:
+                    field = new VortexField(center, 0.5, range, null, 0);
+            }
+            field.setVisualsEnabled(false);
+            field.setUpdateInterval(interval);
+            fieldManager.createField(field, null);
+        }
+        fieldManager.awaitShardLoads();
+        for (int i = 0; i < entities; i++) {
+            world.spawn(random.nextDouble() * AREA, 60 + random.nextDouble() * 8, random.nextDouble() * AREA);
+        }
+        fieldManager.updateFields();
+    }
+
+    @TearDown
+    public void tearDown() {
+        plugin.disable();
+    }
+
+    @Benchmark
+    public void updateFields() {
+        fieldManager.updateFields();
+    }
+}
@@ -0,0 +1,33 @@
+package pro.akii.ks.core.fieldforge.benchmarks.craftbukkit.v1_21_R1.entity;
+
+import net.minecraft.server.level.ServerPlayer;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+/**
+ * Stand-in CraftBukkit player. The remaining {@link Player} methods are supplied by a Mockito
+ * subclass, see {@code NMSUtilBenchmark}.
+ */
+public abstract class CraftPlayer implements Player {
+    private final ServerPlayer handle;
+    private final Location location;
+
+    protected CraftPlayer(Location location) {
+        this.handle = new ServerPlayer();
+        this.location = location;
+    }
+
+    public ServerPlayer getHandle() {
+        return handle;
+    }
+
+    @Override
+    public Location getLocation() {
+        return location.clone();
+    }
+
+    @Override
+    public boolean isOnline() {
+        return true;
+    }
+}
@@ -0,0 +1,133 @@
+package pro.akii.ks.core.fieldforge.benchmarks.kernels;
+
+import java.util.Arrays;
+
+/**
+ * A batch of points in struct-of-arrays form: packed X, Y and Z coordinates, the net force on each
+ * point and whether the last field evaluated reached it. {@link ForceKernel}s stream over the
+ * arrays, one field at a time. Reused across evaluations, so its arrays only grow.
+ */
+public final class ForceBatch {
+    double[] x;
+    double[] y;
+    double[] z;
+    double[] forceX;
+    double[] forceY;
+    double[] forceZ;
+    boolean[] hits;
+    int size;
+
+    /**
+     * Constructs a new, empty ForceBatch.
+     *
+     * @param capacity The number of points to size the arrays for.
+     */
+    public ForceBatch(int capacity) {
+        int length = Math.max(16, capacity);
+        this.x = new double[length];
+        this.y = new double[length];
+        this.z = new double[length];
+        this.forceX = new double[length];
+        this.forceY = new double[length];
+        this.forceZ = new double[length];
+        this.hits = new boolean[length];
+    }
+
+    /**
+     * Appends a point with zero force.
+     *
+     * @param px The X coordinate.
+     * @param py The Y coordinate.
+     * @param pz The Z coordinate.
+     * @return The point's index.
+     */
+    public int add(double px, double py, double pz) {
+        if (size == x.length) {
+            grow();
+        }
+        x[size] = px;
+        y[size] = py;
+        z[size] = pz;
+        forceX[size] = 0;
+        forceY[size] = 0;
+        forceZ[size] = 0;
+        hits[size] = false;
+        return size++;
+    }
+
+    /**
+     * Zeroes the force of every point, keeping the points.
+     */
+    public void resetForces() {
+        Arrays.fill(forceX, 0, size, 0);
+        Arrays.fill(forceY, 0, size, 0);
+        Arrays.fill(forceZ, 0, size, 0);
+    }
+
+    /**
+     * Removes every point while keeping the arrays.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Gets the number of points.
+     *
+     * @return The point count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the X component of a point's net force.
+     *
+     * @param index The point's index.
+     * @return The X component.
+     */
+    public double getForceX(int index) {
+        return forceX[index];
+    }
+
+    /**
+     * Gets the Y component of a point's net force.
+     *
+     * @param index The point's index.
+     * @return The Y component.
+     */
+    public double getForceY(int index) {
+        return forceY[index];
+    }
+
+    /**
+     * Gets the Z component of a point's net force.
+     *
+     * @param index The point's index.
+     * @return The Z component.
+     */
+    public double getForceZ(int index) {
+        return forceZ[index];
+    }
+
+    /**
+     * Checks whether the last field evaluated over the batch reached a point.
+     *
+     * @param index The point's index.
+     * @return True if the point was within that field.
+     */
+    public boolean isHit(int index) {
+        return hits[index];
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        forceX = Arrays.copyOf(forceX, capacity);
+        forceY = Arrays.copyOf(forceY, capacity);
+        forceZ = Arrays.copyOf(forceZ, capacity);
+        hits = Arrays.copyOf(hits, capacity);
+    }
+}
@@ -0,0 +1,108 @@
+package pro.akii.ks.core.fieldforge.benchmarks.kernels;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+
+/**
+ * Evaluates one field over a whole {@link ForceBatch}, adding its force into the batch and
+ * recording which points it reached. The math and the range test match the field types'
+ * {@link VectorField#accumulateForce} exactly; kernels only differ in how many points they
+ * process per instruction.
+ * <p>
+ * {@link #load()} picks the SIMD kernel built from {@code src/simd/java} with the {@code simd} Maven
+ * profile of the benchmark suite when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}, and the scalar kernel otherwise.
+ * <p>
+ * The kernels live in the benchmark suite because the tick does not use them: {@code ForceSnapshot}
+ * evaluates pairs entity by entity so that parallel ranges never write the same accumulator slot,
+ * while a kernel streams one field over many points.
+ */
+public interface ForceKernel {
+    /**
+     * Adds the force of a radial field to every point of a batch.
+     *
+     * @param centerX The X coordinate of the field's center.
+     * @param centerY The Y coordinate of the field's center.
+     * @param centerZ The Z coordinate of the field's center.
+     * @param range The field's range in blocks.
+     * @param strength The field strength.
+     * @param batch The points.
+     */
+    void radial(double centerX, double centerY, double centerZ, double range, double strength, ForceBatch batch);
+
+    /**
+     * Adds the force of a vortex field to every point of a batch.
+     *
+     * @param centerX The X coordinate of the field's center.
+     * @param centerY The Y coordinate of the field's center.
+     * @param centerZ The Z coordinate of the field's center.
+     * @param range The field's range in blocks.
+     * @param strength The field strength.
+     * @param batch The points.
+     */
+    void vortex(double centerX, double centerY, double centerZ, double range, double strength, ForceBatch batch);
+
+    /**
+     * Gets a short name for logs and benchmarks.
+     *
+     * @return The kernel name.
+     */
+    String getName();
+
+    /**
+     * Adds the force of a field to every point of a batch if the kernel has a batch form of its type.
+     *
+     * @param field The field.
+     * @param strength The field strength captured for this tick.
+     * @param batch The points.
+     * @return True if the field was evaluated, false if its type needs the per-entity path.
+     */
+    default boolean evaluate(VectorField field, double strength, ForceBatch batch) {
+        double cx = field.getLocation().getX();
+        double cy = field.getLocation().getY();
+        double cz = field.getLocation().getZ();
+        if (field instanceof RadialField) {
+            radial(cx, cy, cz, field.getRange(), strength, batch);
+            return true;
+        }
+        if (field instanceof VortexField) {
+            vortex(cx, cy, cz, field.getRange(), strength, batch);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the portable scalar kernel.
+     *
+     * @return The scalar kernel.
+     */
+    static ForceKernel scalar() {
+        return ScalarForceKernel.INSTANCE;
+    }
+
+    /**
+     * Gets the fastest kernel available in this JVM.
+     *
+     * @return The SIMD kernel if it was built and its module is present, otherwise the scalar kernel.
+     */
+    static ForceKernel load() {
+        Logger logger = LoggerFactory.getLogger(ForceKernel.class);
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            logger.debug("jdk.incubator.vector is not enabled; using the scalar force kernel");
+            return scalar();
+        }
+        try {
+            Class<?> kernel = Class.forName("pro.akii.ks.core.fieldforge.benchmarks.kernels.VectorForceKernel");
+            return (ForceKernel) kernel.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            logger.debug("Built without the simd profile; using the scalar force kernel");
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("SIMD force kernel unavailable, using the scalar kernel: {}", e.toString());
+        }
+        return scalar();
+    }
+}
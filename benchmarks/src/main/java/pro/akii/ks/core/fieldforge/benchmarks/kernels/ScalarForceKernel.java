@@ -0,0 +1,102 @@
+package pro.akii.ks.core.fieldforge.benchmarks.kernels;
+
+/**
+ * Portable {@link ForceKernel}: one point per iteration, with the same operations in the same order
+ * as {@link pro.akii.ks.core.fieldforge.fields.types.RadialField} and
+ * {@link pro.akii.ks.core.fieldforge.fields.types.VortexField}, so its results are bit-identical to
+ * the per-entity path.
+ */
+final class ScalarForceKernel implements ForceKernel {
+    static final ScalarForceKernel INSTANCE = new ScalarForceKernel();
+
+    private ScalarForceKernel() {
+    }
+
+    @Override
+    public void radial(double centerX, double centerY, double centerZ, double range, double strength, ForceBatch batch) {
+        radial(centerX, centerY, centerZ, range, strength, batch, 0, batch.size);
+    }
+
+    /**
+     * Adds the force of a radial field to a range of a batch's points; the SIMD kernel uses this for
+     * the tail that does not fill a vector.
+     *
+     * @param centerX The X coordinate of the field's center.
+     * @param centerY The Y coordinate of the field's center.
+     * @param centerZ The Z coordinate of the field's center.
+     * @param range The field's range in blocks.
+     * @param strength The field strength.
+     * @param batch The points.
+     * @param from The first point, inclusive.
+     * @param to The last point, exclusive.
+     */
+    static void radial(double centerX, double centerY, double centerZ, double range, double strength, ForceBatch batch,
+                       int from, int to) {
+        double rangeSquared = range * range;
+        double[] x = batch.x, y = batch.y, z = batch.z;
+        double[] forceX = batch.forceX, forceY = batch.forceY, forceZ = batch.forceZ;
+        boolean[] hits = batch.hits;
+        for (int i = from; i < to; i++) {
+            double dx = x[i] - centerX;
+            double dy = y[i] - centerY;
+            double dz = z[i] - centerZ;
+            double distanceSquared = dx * dx + dy * dy + dz * dz;
+            if (distanceSquared > rangeSquared || distanceSquared < 0.01) {
+                hits[i] = false;
+                continue;
+            }
+            double scale = strength / (distanceSquared * Math.sqrt(distanceSquared));
+            forceX[i] += -dx * scale;
+            forceY[i] += -dy * scale;
+            forceZ[i] += -dz * scale;
+            hits[i] = true;
+        }
+    }
+
+    @Override
+    public void vortex(double centerX, double centerY, double centerZ, double range, double strength, ForceBatch batch) {
+        vortex(centerX, centerY, centerZ, range, strength, batch, 0, batch.size);
+    }
+
+    /**
+     * Adds the force of a vortex field to a range of a batch's points; the SIMD kernel uses this for
+     * the tail that does not fill a vector.
+     *
+     * @param centerX The X coordinate of the field's center.
+     * @param centerY The Y coordinate of the field's center.
+     * @param centerZ The Z coordinate of the field's center.
+     * @param range The field's range in blocks.
+     * @param strength The field strength.
+     * @param batch The points.
+     * @param from The first point, inclusive.
+     * @param to The last point, exclusive.
+     */
+    static void vortex(double centerX, double centerY, double centerZ, double range, double strength, ForceBatch batch,
+                       int from, int to) {
+        double rangeSquared = range * range;
+        double[] x = batch.x, y = batch.y, z = batch.z;
+        double[] forceX = batch.forceX, forceZ = batch.forceZ;
+        boolean[] hits = batch.hits;
+        for (int i = from; i < to; i++) {
+            double dx = x[i] - centerX;
+            double dy = y[i] - centerY;
+            double dz = z[i] - centerZ;
+            double distanceSquared = dx * dx + dy * dy + dz * dz;
+            if (distanceSquared > rangeSquared || distanceSquared < 0.01) {
+                hits[i] = false;
+                continue;
+            }
+            hits[i] = true;
+            double horizontal = Math.sqrt(dx * dx + dz * dz);
+            if (horizontal == 0) continue;
+            double scale = strength / (Math.sqrt(distanceSquared) * horizontal);
+            forceX[i] += -dz * scale;
+            forceZ[i] += dx * scale;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,65 @@
+package pro.akii.ks.core.fieldforge.particles;
+
+import org.bukkit.Location;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.akii.ks.core.fieldforge.benchmarks.craftbukkit.v1_21_R1.entity.CraftPlayer;
+import pro.akii.ks.core.fieldforge.harness.StubServer;
+import pro.akii.ks.core.fieldforge.harness.StubWorld;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Packet path of {@link NMSUtil} against the stand-in server classes under {@code net.minecraft}:
+ * one render's worth of particle packets to every viewer, sent immediately or queued and flushed
+ * as bundles. Lives in the particles package to reach the constructor that takes the CraftBukkit
+ * package explicitly. Viewer players are Mockito subclasses of the stand-in {@link CraftPlayer}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NMSUtilBenchmark {
+    private static final String CRAFTBUKKIT_PACKAGE = "pro.akii.ks.core.fieldforge.benchmarks.craftbukkit.v1_21_R1";
+
+    @Param({"0", "4096"})
+    public int batchSize;
+
+    @Param({"1", "10"})
+    public int viewers;
+
+    private NMSUtil nmsUtil;
+    private StubWorld world;
+    private double[] offsets;
+
+    @Setup
+    public void setup() {
+        world = StubServer.install().createWorld("nms-" + batchSize + "-" + viewers);
+        for (int i = 0; i < viewers; i++) {
+            Location location = new Location(world.asWorld(), i, 64, 0);
+            world.addPlayer(Mockito.mock(CraftPlayer.class, Mockito.withSettings()
+                .useConstructor(location)
+                .defaultAnswer(Mockito.CALLS_REAL_METHODS)));
+        }
+        nmsUtil = new NMSUtil(batchSize, CRAFTBUKKIT_PACKAGE);
+        offsets = new ParticleGeometry().radial(8, 0.5);
+    }
+
+    @Benchmark
+    public int renderAndFlush() {
+        nmsUtil.spawnParticles(world.asWorld(), 0, 64, 0, offsets, "ELECTRIC_SPARK");
+        return nmsUtil.flushPackets();
+    }
+}
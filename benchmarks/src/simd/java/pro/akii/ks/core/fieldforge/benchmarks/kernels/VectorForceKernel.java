@@ -0,0 +1,82 @@
+package pro.akii.ks.core.fieldforge.benchmarks.kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ForceKernel} on the incubating Vector API: each iteration loads a full vector of points,
+ * computes the range mask and the force in every lane and adds it only where the mask is set, so
+ * the loop has no branches. Points past the last full vector go through {@link ScalarForceKernel}.
+ * Results match the scalar kernel to the last bit, as every lane performs the same IEEE operations.
+ * <p>
+ * Only compiled with the {@code simd} Maven profile of the benchmark suite and only loaded by
+ * {@link ForceKernel#load()} when the JVM runs with {@code --add-modules jdk.incubator.vector}.
+ */
+final class VectorForceKernel implements ForceKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    VectorForceKernel() {
+    }
+
+    @Override
+    public void radial(double centerX, double centerY, double centerZ, double range, double strength, ForceBatch batch) {
+        double rangeSquared = range * range;
+        DoubleVector strengths = DoubleVector.broadcast(SPECIES, strength);
+        int bound = SPECIES.loopBound(batch.size);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, batch.x, i).sub(centerX);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, batch.y, i).sub(centerY);
+            DoubleVector dz = DoubleVector.fromArray(SPECIES, batch.z, i).sub(centerZ);
+            DoubleVector distanceSquared = dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz));
+            VectorMask<Double> hit = distanceSquared.compare(VectorOperators.LE, rangeSquared)
+                    .and(distanceSquared.compare(VectorOperators.GE, 0.01));
+            hit.intoArray(batch.hits, i);
+            if (!hit.anyTrue()) continue;
+
+            DoubleVector scale = strengths.div(distanceSquared.mul(distanceSquared.lanewise(VectorOperators.SQRT)));
+            DoubleVector.fromArray(SPECIES, batch.forceX, i).lanewise(VectorOperators.SUB, dx.mul(scale), hit)
+                    .intoArray(batch.forceX, i);
+            DoubleVector.fromArray(SPECIES, batch.forceY, i).lanewise(VectorOperators.SUB, dy.mul(scale), hit)
+                    .intoArray(batch.forceY, i);
+            DoubleVector.fromArray(SPECIES, batch.forceZ, i).lanewise(VectorOperators.SUB, dz.mul(scale), hit)
+                    .intoArray(batch.forceZ, i);
+        }
+        ScalarForceKernel.radial(centerX, centerY, centerZ, range, strength, batch, i, batch.size);
+    }
+
+    @Override
+    public void vortex(double centerX, double centerY, double centerZ, double range, double strength, ForceBatch batch) {
+        double rangeSquared = range * range;
+        DoubleVector strengths = DoubleVector.broadcast(SPECIES, strength);
+        int bound = SPECIES.loopBound(batch.size);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, batch.x, i).sub(centerX);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, batch.y, i).sub(centerY);
+            DoubleVector dz = DoubleVector.fromArray(SPECIES, batch.z, i).sub(centerZ);
+            DoubleVector distanceSquared = dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz));
+            VectorMask<Double> hit = distanceSquared.compare(VectorOperators.LE, rangeSquared)
+                    .and(distanceSquared.compare(VectorOperators.GE, 0.01));
+            hit.intoArray(batch.hits, i);
+
+            DoubleVector horizontal = dx.mul(dx).add(dz.mul(dz)).lanewise(VectorOperators.SQRT);
+            VectorMask<Double> apply = hit.and(horizontal.compare(VectorOperators.NE, 0));
+            if (!apply.anyTrue()) continue;
+
+            DoubleVector scale = strengths.div(distanceSquared.lanewise(VectorOperators.SQRT).mul(horizontal));
+            DoubleVector.fromArray(SPECIES, batch.forceX, i).lanewise(VectorOperators.SUB, dz.mul(scale), apply)
+                    .intoArray(batch.forceX, i);
+            DoubleVector.fromArray(SPECIES, batch.forceZ, i).lanewise(VectorOperators.ADD, dx.mul(scale), apply)
+                    .intoArray(batch.forceZ, i);
+        }
+        ScalarForceKernel.vortex(centerX, centerY, centerZ, range, strength, batch, i, batch.size);
+    }
+
+    @Override
+    public String getName() {
+        return "simd-" + SPECIES.length() + "x64";
+    }
+}
@@ -0,0 +1,59 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import pro.akii.ks.core.fieldforge.FieldForgePlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+/**
+ * FieldForge running against {@link StubServer} with a throwaway data folder. Configuration can
+ * be adjusted through {@link #getConfig()} between construction and {@link #enable()}. Load
+ * shedding starts disabled so that runs measure the full amount of work.
+ */
+public class HarnessPlugin extends FieldForgePlugin {
+    /**
+     * Constructs a new, disabled HarnessPlugin in a fresh temporary data folder.
+     *
+     * @param server The stub server to run against.
+     */
+    @SuppressWarnings("deprecation")
+    public HarnessPlugin(StubServer server) {
+        super(new JavaPluginLoader(server.asServer()),
+            new PluginDescriptionFile("FieldForge", "1.0.0-SNAPSHOT", FieldForgePlugin.class.getName()),
+            createDataFolder(), new File("FieldForge.jar"));
+        server.register(this, new StubCommand("fieldforge", this));
+        getConfig().set("vector-fields.tick-budget-ms", 0.0);
+    }
+
+    /**
+     * Enables the plugin, running {@link #onEnable()}.
+     */
+    public void enable() {
+        setEnabled(true);
+    }
+
+    /**
+     * Disables the plugin, running {@link #onDisable()}, then unregisters its listeners and
+     * cancels its tasks as the plugin manager would.
+     */
+    public void disable() {
+        setEnabled(false);
+        HandlerList.unregisterAll(this);
+        getServer().getScheduler().cancelTasks(this);
+    }
+
+    private static File createDataFolder() {
+        try {
+            File folder = Files.createTempDirectory("fieldforge-harness").toFile();
+            folder.deleteOnExit();
+            return folder;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds implementations of large Bukkit interfaces from small state classes. Every interface method
+ * with a public counterpart of the same name and parameter types on the backing object is forwarded
+ * to it; everything else returns the zero value of its return type.
+ */
+public final class Proxies {
+    private static final Map<Class<?>, Map<Method, Method>> TARGETS = new ConcurrentHashMap<>();
+    private static final Method MISSING;
+
+    static {
+        try {
+            MISSING = Proxies.class.getDeclaredMethod("missing");
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Proxies() {
+    }
+
+    /**
+     * Creates a proxy of an interface backed by an object.
+     *
+     * @param type The interface to implement.
+     * @param backing The object receiving the forwarded calls.
+     * @param <T> The interface type.
+     * @return The proxy.
+     */
+    public static <T> T create(Class<T> type, Object backing) {
+        Map<Method, Method> targets = TARGETS.computeIfAbsent(backing.getClass(), k -> new ConcurrentHashMap<>());
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            Method target = targets.computeIfAbsent(method, m -> find(backing.getClass(), m));
+            if (target != MISSING) {
+                try {
+                    return target.invoke(backing, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "@" + backing;
+                default:
+                    return zero(method.getReturnType());
+            }
+        }));
+    }
+
+    private static Method find(Class<?> backingType, Method method) {
+        try {
+            Method target = backingType.getMethod(method.getName(), method.getParameterTypes());
+            return target.getDeclaringClass() == Object.class ? MISSING : target;
+        } catch (NoSuchMethodException e) {
+            return MISSING;
+        }
+    }
+
+    private static Object zero(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0F;
+        if (type == double.class) return 0D;
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        return 0;
+    }
+
+    @SuppressWarnings("unused")
+    private static void missing() {
+    }
+}
@@ -0,0 +1,254 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import pro.akii.ks.core.fieldforge.fields.FieldManager;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.LinearField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Headless multi-tick run of FieldForge. Each simulated tick integrates entity motion, optionally
+ * despawns and respawns some entities, then runs the scheduler, and only the scheduler part is
+ * timed. Every random choice comes from the seed, so with {@code force-threads: 0} two runs with
+ * the same seed and calls end in the same state, see {@link #getStateHash()}.
+ */
+public class Simulation {
+    private final StubServer server;
+    private final StubWorld world;
+    private final HarnessPlugin plugin;
+    private final Random random;
+    private double area;
+    private int churnPerTick;
+
+    /**
+     * Constructs a new Simulation with its own world and a disabled plugin. Adjust the plugin
+     * configuration through {@code getPlugin().getConfig()} before calling {@link #start()}.
+     *
+     * @param worldName The name of the simulation's world; must differ between live simulations.
+     * @param seed The random seed.
+     */
+    public Simulation(String worldName, long seed) {
+        this.server = StubServer.install();
+        this.world = server.createWorld(worldName);
+        this.plugin = new HarnessPlugin(server);
+        this.random = new Random(seed);
+        this.area = 256;
+    }
+
+    /**
+     * Gets the plugin under simulation.
+     *
+     * @return The plugin.
+     */
+    public HarnessPlugin getPlugin() {
+        return plugin;
+    }
+
+    /**
+     * Gets the simulated world.
+     *
+     * @return The world.
+     */
+    public StubWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * Sets the side length of the square area that fields, entities and players are spread over.
+     *
+     * @param area The side length in blocks.
+     */
+    public void setArea(double area) {
+        this.area = area;
+    }
+
+    /**
+     * Sets how many entities are despawned and replaced by new ones at random positions every tick.
+     *
+     * @param churnPerTick The number of entities to replace per tick.
+     */
+    public void setChurnPerTick(int churnPerTick) {
+        this.churnPerTick = churnPerTick;
+    }
+
+    /**
+     * Enables the plugin.
+     */
+    public void start() {
+        plugin.enable();
+    }
+
+    /**
+     * Disables the plugin, which saves and clears its fields.
+     */
+    public void stop() {
+        plugin.disable();
+    }
+
+    /**
+     * Creates fields of rotating types at random positions.
+     *
+     * @param count The number of fields.
+     * @param minRange The smallest field range.
+     * @param maxRange The largest field range.
+     * @param visuals Whether the fields render particles.
+     * @return The created fields.
+     */
+    public List<VectorField> spawnFields(int count, int minRange, int maxRange, boolean visuals) {
+        FieldManager fieldManager = plugin.getFieldManager();
+        List<VectorField> fields = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Location center = new Location(world.asWorld(), random.nextDouble() * area, 64, random.nextDouble() * area);
+            int range = minRange + random.nextInt(maxRange - minRange + 1);
+            double strength = 0.05 + random.nextDouble() * 0.2;
+            VectorField field;
+            switch (i % 3) {
+                case 0:
+                    field = new RadialField(center, strength, range, null, 0);
+                    break;
+                case 1:
+                    Vector direction = new Vector(random.nextDouble() - 0.5, 0, random.nextDouble() - 0.5).normalize();
+                    field = new LinearField(center, strength, range, direction, null, 0);
+                    break;
+                default:
+                    field = new VortexField(center, strength, range, null, 0);
+            }
+            field.setVisualsEnabled(visuals);
+            if (fieldManager.createField(field, null)) {
+                fields.add(field);
+            }
+        }
+        fieldManager.awaitShardLoads();
+        return fields;
+    }
+
+    /**
+     * Spawns entities at random positions.
+     *
+     * @param count The number of entities.
+     * @return The spawned entities.
+     */
+    public List<StubEntity> spawnEntities(int count) {
+        List<StubEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entities.add(spawnEntity());
+        }
+        return entities;
+    }
+
+    /**
+     * Adds players at random positions; they receive the particles and sounds fields produce.
+     *
+     * @param count The number of players.
+     * @return The added players.
+     */
+    public List<StubPlayer> addPlayers(int count) {
+        List<StubPlayer> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            players.add(world.addPlayer("Player" + i, random.nextDouble() * area, 64, random.nextDouble() * area));
+        }
+        return players;
+    }
+
+    /**
+     * Runs a number of ticks and measures how long the plugin's scheduled work took in each.
+     *
+     * @param ticks The number of ticks to run.
+     * @return The tick time statistics.
+     */
+    public TickStats run(int ticks) {
+        StubScheduler scheduler = server.getStubScheduler();
+        long[] nanos = new long[ticks];
+        for (int t = 0; t < ticks; t++) {
+            world.step();
+            churn();
+            long start = System.nanoTime();
+            scheduler.tick();
+            nanos[t] = System.nanoTime() - start;
+        }
+        return new TickStats(nanos);
+    }
+
+    /**
+     * Hashes the position and velocity of every entity, to check that two runs ended in the same state.
+     *
+     * @return The state hash.
+     */
+    public long getStateHash() {
+        long hash = 17;
+        for (StubEntity entity : world.getStubEntities()) {
+            hash = hash * 31 + Double.hashCode(entity.getX());
+            hash = hash * 31 + Double.hashCode(entity.getY());
+            hash = hash * 31 + Double.hashCode(entity.getZ());
+            hash = hash * 31 + entity.getVelocity().hashCode();
+        }
+        return hash;
+    }
+
+    private StubEntity spawnEntity() {
+        return world.spawn(random.nextDouble() * area, 60 + random.nextDouble() * 8, random.nextDouble() * area);
+    }
+
+    private void churn() {
+        List<StubEntity> entities = world.getStubEntities();
+        for (int i = 0; i < churnPerTick && !entities.isEmpty(); i++) {
+            StubEntity entity = entities.get(random.nextInt(entities.size()));
+            if (entity instanceof StubPlayer) continue;
+            entity.remove();
+            spawnEntity();
+        }
+    }
+
+    /**
+     * Runs a simulation from the command line and prints the tick time percentiles. Arguments are
+     * {@code key=value} pairs: fields, entities, players, ticks, warmup, area, churn, seed, mode
+     * (field or entity), threads, visuals, interval (update interval of every field in ticks),
+     * budget (tick budget in milliseconds, 0 to disable load shedding).
+     *
+     * @param args The arguments.
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int split = arg.indexOf('=');
+            if (split <= 0) {
+                System.err.println("Ignoring argument without key=value: " + arg);
+                continue;
+            }
+            options.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        int fields = Integer.parseInt(options.getOrDefault("fields", "1000"));
+        int entities = Integer.parseInt(options.getOrDefault("entities", "5000"));
+        int players = Integer.parseInt(options.getOrDefault("players", "0"));
+        int ticks = Integer.parseInt(options.getOrDefault("ticks", "1200"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "200"));
+
+        Simulation simulation = new Simulation("simulation", Long.parseLong(options.getOrDefault("seed", "42")));
+        simulation.setArea(Double.parseDouble(options.getOrDefault("area", "512")));
+        simulation.setChurnPerTick(Integer.parseInt(options.getOrDefault("churn", "0")));
+        simulation.getPlugin().getConfig().set("vector-fields.update-mode", options.getOrDefault("mode", "field"));
+        simulation.getPlugin().getConfig().set("vector-fields.force-threads", Integer.parseInt(options.getOrDefault("threads", "0")));
+        simulation.getPlugin().getConfig().set("vector-fields.tick-budget-ms", Double.parseDouble(options.getOrDefault("budget", "0")));
+        simulation.start();
+        int interval = Integer.parseInt(options.getOrDefault("interval", "1"));
+        for (VectorField field : simulation.spawnFields(fields, 4, 16, Boolean.parseBoolean(options.getOrDefault("visuals", "true")))) {
+            field.setUpdateInterval(interval);
+        }
+        simulation.spawnEntities(entities);
+        simulation.addPlayers(players);
+
+        simulation.run(warmup);
+        TickStats stats = simulation.run(ticks);
+        System.out.println(stats);
+        System.out.printf("ticks over 50ms: %d, state hash: %016x%n", stats.countOver(50), simulation.getStateHash());
+        simulation.stop();
+    }
+}
@@ -0,0 +1,19 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import org.bukkit.command.PluginCommand;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Plugin command that can be created outside of plugin.yml loading.
+ */
+public class StubCommand extends PluginCommand {
+    /**
+     * Constructs a new StubCommand.
+     *
+     * @param name The command name.
+     * @param owner The plugin owning the command.
+     */
+    public StubCommand(String name, Plugin owner) {
+        super(name, owner);
+    }
+}
@@ -0,0 +1,164 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.util.Vector;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory entity with a position, a velocity and a dead flag. Exposed to plugin code through
+ * {@link #asEntity()}; velocity set by the plugin is integrated by {@link StubWorld#step()}.
+ */
+public class StubEntity {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+
+    private final int entityId;
+    private final UUID uniqueId;
+    private final StubWorld world;
+    private final Entity entity;
+    private double x;
+    private double y;
+    private double z;
+    private double velocityX;
+    private double velocityY;
+    private double velocityZ;
+    private boolean dead;
+
+    /**
+     * Constructs a new StubEntity. Use {@link StubWorld#spawn(double, double, double)} to add one to a world.
+     *
+     * @param world The world holding the entity.
+     * @param x The X coordinate.
+     * @param y The Y coordinate.
+     * @param z The Z coordinate.
+     * @param type The Bukkit interface the entity is exposed as.
+     */
+    protected StubEntity(StubWorld world, double x, double y, double z, Class<? extends Entity> type) {
+        this.entityId = NEXT_ID.getAndIncrement();
+        this.uniqueId = new UUID(0, entityId);
+        this.world = world;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.entity = Proxies.create(type, this);
+    }
+
+    /**
+     * Gets the Bukkit view of this entity.
+     *
+     * @return The entity proxy.
+     */
+    public Entity asEntity() {
+        return entity;
+    }
+
+    /**
+     * Moves the entity without any physics.
+     *
+     * @param x The X coordinate.
+     * @param y The Y coordinate.
+     * @param z The Z coordinate.
+     */
+    public void moveTo(double x, double y, double z) {
+        double oldX = this.x;
+        double oldZ = this.z;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        world.moved(this, oldX, oldZ);
+    }
+
+    /**
+     * Advances the entity by its velocity and applies drag.
+     *
+     * @param drag The factor the velocity is multiplied by after moving.
+     */
+    void step(double drag) {
+        if (velocityX == 0 && velocityY == 0 && velocityZ == 0) return;
+        moveTo(x + velocityX, y + velocityY, z + velocityZ);
+        velocityX *= drag;
+        velocityY *= drag;
+        velocityZ *= drag;
+    }
+
+    /**
+     * Gets the X coordinate without allocating a location.
+     *
+     * @return The X coordinate.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the Y coordinate without allocating a location.
+     *
+     * @return The Y coordinate.
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the Z coordinate without allocating a location.
+     *
+     * @return The Z coordinate.
+     */
+    public double getZ() {
+        return z;
+    }
+
+    public int getEntityId() {
+        return entityId;
+    }
+
+    public UUID getUniqueId() {
+        return uniqueId;
+    }
+
+    public Location getLocation() {
+        return new Location(world.asWorld(), x, y, z);
+    }
+
+    public World getWorld() {
+        return world.asWorld();
+    }
+
+    public Vector getVelocity() {
+        return new Vector(velocityX, velocityY, velocityZ);
+    }
+
+    public void setVelocity(Vector velocity) {
+        this.velocityX = velocity.getX();
+        this.velocityY = velocity.getY();
+        this.velocityZ = velocity.getZ();
+    }
+
+    public boolean isDead() {
+        return dead;
+    }
+
+    public boolean isValid() {
+        return !dead;
+    }
+
+    /**
+     * Removes the entity from its world and fires an {@link EntityRemoveEvent}, as the server does on despawn.
+     */
+    public void remove() {
+        if (dead) return;
+        dead = true;
+        world.remove(this);
+        Bukkit.getPluginManager().callEvent(new EntityRemoveEvent(entity, EntityRemoveEvent.Cause.DESPAWN));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "#" + entityId;
+    }
+}
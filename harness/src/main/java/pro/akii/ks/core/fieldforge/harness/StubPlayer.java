@@ -0,0 +1,83 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.entity.Player;
+
+/**
+ * In-memory player that receives particles and sounds through the Bukkit API and counts them.
+ * Players are entities too, so fields push them like any other entity.
+ */
+public class StubPlayer extends StubEntity {
+    private final String name;
+    private long particles;
+    private long sounds;
+
+    /**
+     * Constructs a new StubPlayer. Use {@link StubWorld#addPlayer(String, double, double, double)} to add one to a world.
+     *
+     * @param world The world holding the player.
+     * @param name The player name.
+     * @param x The X coordinate.
+     * @param y The Y coordinate.
+     * @param z The Z coordinate.
+     */
+    StubPlayer(StubWorld world, String name, double x, double y, double z) {
+        super(world, x, y, z, Player.class);
+        this.name = name;
+    }
+
+    /**
+     * Gets the Bukkit view of this player.
+     *
+     * @return The player proxy.
+     */
+    public Player asPlayer() {
+        return (Player) asEntity();
+    }
+
+    /**
+     * Gets the number of particles sent to this player.
+     *
+     * @return The particle count.
+     */
+    public long getParticles() {
+        return particles;
+    }
+
+    /**
+     * Gets the number of sounds played to this player.
+     *
+     * @return The sound count.
+     */
+    public long getSounds() {
+        return sounds;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isOnline() {
+        return !isDead();
+    }
+
+    public boolean isOp() {
+        return false;
+    }
+
+    public boolean hasPermission(String permission) {
+        return true;
+    }
+
+    public void sendMessage(String message) {
+    }
+
+    public void spawnParticle(Particle particle, double x, double y, double z, int count) {
+        particles += count;
+    }
+
+    public void playSound(Location location, String sound, float volume, float pitch) {
+        sounds++;
+    }
+}
@@ -0,0 +1,192 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deterministic main-thread scheduler. Nothing runs until {@link #tick()} is called; each call
+ * advances the clock by one tick and runs every due task in the order it was scheduled.
+ * Asynchronous tasks are run on the calling thread like synchronous ones. Tasks may be scheduled
+ * from any thread, as on a server; they are queued and picked up by the next call to {@link #tick()}.
+ * Exposed to plugin code through {@link #asScheduler()}.
+ */
+public class StubScheduler {
+    private final List<Task> tasks;
+    private final Queue<Task> scheduled;
+    private final BukkitScheduler scheduler;
+    private final AtomicInteger nextTaskId;
+    private volatile long currentTick;
+
+    /**
+     * Constructs a new StubScheduler at tick 0.
+     */
+    public StubScheduler() {
+        this.tasks = new ArrayList<>();
+        this.scheduled = new ConcurrentLinkedQueue<>();
+        this.scheduler = Proxies.create(BukkitScheduler.class, this);
+        this.nextTaskId = new AtomicInteger(1);
+    }
+
+    /**
+     * Gets the Bukkit view of this scheduler.
+     *
+     * @return The scheduler proxy.
+     */
+    public BukkitScheduler asScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Advances the clock by one tick and runs the tasks that are due.
+     *
+     * @return The number of tasks run.
+     */
+    public int tick() {
+        currentTick++;
+        int ran = 0;
+        // Tasks scheduled while ticking stay queued and become due on a later tick at the earliest
+        for (Task task = scheduled.poll(); task != null; task = scheduled.poll()) {
+            tasks.add(task);
+        }
+        int count = tasks.size();
+        for (int i = 0; i < count; i++) {
+            Task task = tasks.get(i);
+            if (task.cancelled || task.nextRun > currentTick) continue;
+            task.runnable.run();
+            ran++;
+            if (task.period > 0) {
+                task.nextRun = currentTick + task.period;
+            } else {
+                task.cancelled = true;
+            }
+        }
+        tasks.removeIf(task -> task.cancelled);
+        return ran;
+    }
+
+    /**
+     * Gets the number of ticks run so far.
+     *
+     * @return The current tick.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Gets the number of tasks waiting to run.
+     *
+     * @return The pending task count.
+     */
+    public int getPendingTasks() {
+        return tasks.size() + scheduled.size();
+    }
+
+    private BukkitTask schedule(Plugin plugin, Runnable runnable, long delay, long period) {
+        Task task = new Task(nextTaskId.getAndIncrement(), plugin, runnable, currentTick + Math.max(1, delay), period);
+        scheduled.add(task);
+        return task.handle;
+    }
+
+    public BukkitTask runTask(Plugin plugin, Runnable task) {
+        return schedule(plugin, task, 0, 0);
+    }
+
+    public BukkitTask runTaskLater(Plugin plugin, Runnable task, long delay) {
+        return schedule(plugin, task, delay, 0);
+    }
+
+    public BukkitTask runTaskTimer(Plugin plugin, Runnable task, long delay, long period) {
+        return schedule(plugin, task, delay, Math.max(1, period));
+    }
+
+    public BukkitTask runTaskAsynchronously(Plugin plugin, Runnable task) {
+        return schedule(plugin, task, 0, 0);
+    }
+
+    public BukkitTask runTaskLaterAsynchronously(Plugin plugin, Runnable task, long delay) {
+        return schedule(plugin, task, delay, 0);
+    }
+
+    public BukkitTask runTaskTimerAsynchronously(Plugin plugin, Runnable task, long delay, long period) {
+        return schedule(plugin, task, delay, Math.max(1, period));
+    }
+
+    public void cancelTask(int taskId) {
+        for (Task task : allTasks()) {
+            if (task.id == taskId) {
+                task.cancelled = true;
+            }
+        }
+    }
+
+    public void cancelTasks(Plugin plugin) {
+        for (Task task : allTasks()) {
+            if (task.owner == plugin) {
+                task.cancelled = true;
+            }
+        }
+    }
+
+    public boolean isQueued(int taskId) {
+        for (Task task : allTasks()) {
+            if (task.id == taskId && !task.cancelled) return true;
+        }
+        return false;
+    }
+
+    private List<Task> allTasks() {
+        List<Task> all = new ArrayList<>(tasks);
+        all.addAll(scheduled);
+        return all;
+    }
+
+    /**
+     * A scheduled runnable and its timing.
+     */
+    public static final class Task {
+        private final int id;
+        private final Plugin owner;
+        private final Runnable runnable;
+        private final long period;
+        private final BukkitTask handle;
+        private long nextRun;
+        private volatile boolean cancelled;
+
+        private Task(int id, Plugin owner, Runnable runnable, long nextRun, long period) {
+            this.id = id;
+            this.owner = owner;
+            this.runnable = runnable;
+            this.nextRun = nextRun;
+            this.period = period;
+            this.handle = Proxies.create(BukkitTask.class, this);
+        }
+
+        public int getTaskId() {
+            return id;
+        }
+
+        public Plugin getOwner() {
+            return owner;
+        }
+
+        public boolean isSync() {
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
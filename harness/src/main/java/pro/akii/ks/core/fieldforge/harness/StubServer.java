@@ -0,0 +1,182 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.command.SimpleCommandMap;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.SimplePluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Minimal in-memory server. Bukkit only accepts one server per JVM, so a single instance is
+ * installed lazily and shared; worlds, plugins and commands can be added to it at any time.
+ * Scheduled tasks only run when the caller drives {@link StubScheduler#tick()}.
+ */
+public final class StubServer {
+    private static StubServer instance;
+
+    private final Logger logger;
+    private final Map<String, StubWorld> worlds;
+    private final Map<String, Plugin> plugins;
+    private final Map<String, PluginCommand> commands;
+    private final Server server;
+    private final PluginManager pluginManager;
+    private final StubScheduler scheduler;
+
+    private StubServer() {
+        this.logger = Logger.getLogger("StubServer");
+        this.worlds = new HashMap<>();
+        this.plugins = new HashMap<>();
+        this.commands = new HashMap<>();
+        this.server = Proxies.create(Server.class, this);
+        this.pluginManager = new StubPluginManager(server);
+        this.scheduler = new StubScheduler();
+    }
+
+    /**
+     * Installs the shared stub server into {@link Bukkit} on first use.
+     *
+     * @return The shared stub server.
+     */
+    public static synchronized StubServer install() {
+        if (instance == null) {
+            instance = new StubServer();
+            Bukkit.setServer(instance.server);
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the Bukkit view of this server.
+     *
+     * @return The server proxy.
+     */
+    public Server asServer() {
+        return server;
+    }
+
+    /**
+     * Gets the scheduler that runs plugin tasks.
+     *
+     * @return The scheduler.
+     */
+    public StubScheduler getStubScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Creates a world, or returns the existing world with that name.
+     *
+     * @param name The world name.
+     * @return The world.
+     */
+    public StubWorld createWorld(String name) {
+        return worlds.computeIfAbsent(name, StubWorld::new);
+    }
+
+    /**
+     * Makes a plugin and its command reachable through {@link PluginManager#getPlugin(String)} and
+     * {@link Server#getPluginCommand(String)}.
+     *
+     * @param plugin The plugin.
+     * @param command The plugin's command, or null if it has none.
+     */
+    public void register(Plugin plugin, PluginCommand command) {
+        plugins.put(plugin.getName(), plugin);
+        if (command != null) {
+            commands.put(command.getName(), command);
+        }
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+
+    public PluginManager getPluginManager() {
+        return pluginManager;
+    }
+
+    public BukkitScheduler getScheduler() {
+        return scheduler.asScheduler();
+    }
+
+    public World getWorld(String name) {
+        StubWorld world = worlds.get(name);
+        return world != null ? world.asWorld() : null;
+    }
+
+    public World getWorld(UUID uid) {
+        for (StubWorld world : worlds.values()) {
+            if (world.getUID().equals(uid)) return world.asWorld();
+        }
+        return null;
+    }
+
+    public List<World> getWorlds() {
+        List<World> result = new ArrayList<>(worlds.size());
+        for (StubWorld world : worlds.values()) {
+            result.add(world.asWorld());
+        }
+        return result;
+    }
+
+    public Player getPlayer(UUID uid) {
+        for (StubWorld world : worlds.values()) {
+            for (Player player : world.getPlayers()) {
+                if (uid.equals(player.getUniqueId())) return player;
+            }
+        }
+        return null;
+    }
+
+    public Collection<Player> getOnlinePlayers() {
+        List<Player> result = new ArrayList<>();
+        for (StubWorld world : worlds.values()) {
+            result.addAll(world.getPlayers());
+        }
+        return result;
+    }
+
+    public PluginCommand getPluginCommand(String name) {
+        return commands.get(name);
+    }
+
+    public String getName() {
+        return "StubServer";
+    }
+
+    public String getVersion() {
+        return "stub";
+    }
+
+    public String getBukkitVersion() {
+        return "1.21.1-R0.1-SNAPSHOT";
+    }
+
+    public boolean isPrimaryThread() {
+        return true;
+    }
+
+    private final class StubPluginManager extends SimplePluginManager {
+        private StubPluginManager(Server server) {
+            super(server, new SimpleCommandMap(server));
+        }
+
+        @Override
+        public Plugin getPlugin(String name) {
+            return plugins.get(name);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory world where every chunk is loaded. Entities are indexed by chunk, so chunk and
+ * bounding-box lookups cost what they cost on a real server rather than a scan of the whole
+ * world. Exposed to plugin code through {@link #asWorld()}.
+ */
+public class StubWorld {
+    private static final double DRAG = 0.91;
+
+    private final String name;
+    private final UUID uid;
+    private final List<StubEntity> entities;
+    private final List<Player> players;
+    private final Map<Long, List<StubEntity>> entitiesByChunk;
+    private final Map<Long, Chunk> chunks;
+    private final World world;
+
+    /**
+     * Constructs a new, empty StubWorld.
+     *
+     * @param name The world name.
+     */
+    public StubWorld(String name) {
+        this.name = name;
+        this.uid = UUID.nameUUIDFromBytes(name.getBytes());
+        this.entities = new ArrayList<>();
+        this.players = new ArrayList<>();
+        this.entitiesByChunk = new HashMap<>();
+        this.chunks = new HashMap<>();
+        this.world = Proxies.create(World.class, this);
+    }
+
+    /**
+     * Gets the Bukkit view of this world.
+     *
+     * @return The world proxy.
+     */
+    public World asWorld() {
+        return world;
+    }
+
+    /**
+     * Adds an entity to the world.
+     *
+     * @param x The X coordinate.
+     * @param y The Y coordinate.
+     * @param z The Z coordinate.
+     * @return The new entity.
+     */
+    public StubEntity spawn(double x, double y, double z) {
+        return add(new StubEntity(this, x, y, z, Entity.class));
+    }
+
+    /**
+     * Adds a player to the world. Players receive particles and sounds and are pushed by fields.
+     *
+     * @param name The player name.
+     * @param x The X coordinate.
+     * @param y The Y coordinate.
+     * @param z The Z coordinate.
+     * @return The new player.
+     */
+    public StubPlayer addPlayer(String name, double x, double y, double z) {
+        StubPlayer player = add(new StubPlayer(this, name, x, y, z));
+        players.add(player.asPlayer());
+        return player;
+    }
+
+    /**
+     * Adds an externally built player that {@link World#getPlayers()} reports but that is not simulated.
+     *
+     * @param player The player.
+     */
+    public void addPlayer(Player player) {
+        players.add(player);
+    }
+
+    /**
+     * Moves every entity by its velocity, the way the server integrates motion once per tick.
+     */
+    public void step() {
+        for (int i = 0; i < entities.size(); i++) {
+            entities.get(i).step(DRAG);
+        }
+    }
+
+    /**
+     * Gets the entities in this world.
+     *
+     * @return The live list of entities.
+     */
+    public List<StubEntity> getStubEntities() {
+        return entities;
+    }
+
+    private <T extends StubEntity> T add(T entity) {
+        entities.add(entity);
+        entitiesByChunk.computeIfAbsent(chunkKey(entity.getX(), entity.getZ()), k -> new ArrayList<>()).add(entity);
+        return entity;
+    }
+
+    void remove(StubEntity entity) {
+        entities.remove(entity);
+        List<StubEntity> chunk = entitiesByChunk.get(chunkKey(entity.getX(), entity.getZ()));
+        if (chunk != null) {
+            chunk.remove(entity);
+        }
+        players.remove(entity.asEntity());
+    }
+
+    void moved(StubEntity entity, double oldX, double oldZ) {
+        long oldKey = chunkKey(oldX, oldZ);
+        long newKey = chunkKey(entity.getX(), entity.getZ());
+        if (oldKey == newKey) return;
+        List<StubEntity> chunk = entitiesByChunk.get(oldKey);
+        if (chunk != null) {
+            chunk.remove(entity);
+        }
+        entitiesByChunk.computeIfAbsent(newKey, k -> new ArrayList<>()).add(entity);
+    }
+
+    private static long chunkKey(double x, double z) {
+        return key((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4);
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public UUID getUID() {
+        return uid;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public boolean isChunkLoaded(int x, int z) {
+        return true;
+    }
+
+    public List<Entity> getEntities() {
+        List<Entity> result = new ArrayList<>(entities.size());
+        for (StubEntity entity : entities) {
+            result.add(entity.asEntity());
+        }
+        return result;
+    }
+
+    public Collection<Entity> getNearbyEntities(Location location, double x, double y, double z) {
+        List<Entity> result = new ArrayList<>();
+        int minChunkX = (int) Math.floor(location.getX() - x) >> 4;
+        int maxChunkX = (int) Math.floor(location.getX() + x) >> 4;
+        int minChunkZ = (int) Math.floor(location.getZ() - z) >> 4;
+        int maxChunkZ = (int) Math.floor(location.getZ() + z) >> 4;
+        for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+            for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                List<StubEntity> chunk = entitiesByChunk.get(key(cx, cz));
+                if (chunk == null) continue;
+                for (StubEntity entity : chunk) {
+                    if (Math.abs(entity.getX() - location.getX()) <= x
+                        && Math.abs(entity.getY() - location.getY()) <= y
+                        && Math.abs(entity.getZ() - location.getZ()) <= z) {
+                        result.add(entity.asEntity());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public Chunk getChunkAt(int x, int z) {
+        return chunks.computeIfAbsent(key(x, z), k -> Proxies.create(Chunk.class, new StubChunk(x, z)));
+    }
+
+    /**
+     * Gets the chunks looked up so far, standing in for the chunks a server keeps loaded.
+     *
+     * @return The chunks.
+     */
+    public Chunk[] getLoadedChunks() {
+        return chunks.values().toArray(new Chunk[0]);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Chunk view over the entity index of its world.
+     */
+    public final class StubChunk {
+        private final int x;
+        private final int z;
+
+        private StubChunk(int x, int z) {
+            this.x = x;
+            this.z = z;
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public int getZ() {
+            return z;
+        }
+
+        public World getWorld() {
+            return world;
+        }
+
+        public boolean isLoaded() {
+            return true;
+        }
+
+        public Entity[] getEntities() {
+            List<StubEntity> chunk = entitiesByChunk.get(key(x, z));
+            if (chunk == null) return new Entity[0];
+            Entity[] result = new Entity[chunk.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = chunk.get(i).asEntity();
+            }
+            return result;
+        }
+    }
+}
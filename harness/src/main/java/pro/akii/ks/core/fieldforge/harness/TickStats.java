@@ -0,0 +1,90 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import java.util.Arrays;
+
+/**
+ * Summary of a run of tick durations, with nearest-rank percentiles.
+ */
+public class TickStats {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long[] sorted;
+    private final long total;
+
+    /**
+     * Constructs a new TickStats from raw tick durations.
+     *
+     * @param tickNanos The duration of each tick in nanoseconds.
+     */
+    public TickStats(long[] tickNanos) {
+        this.sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        long sum = 0;
+        for (long nanos : sorted) {
+            sum += nanos;
+        }
+        this.total = sum;
+    }
+
+    /**
+     * Gets the number of ticks measured.
+     *
+     * @return The tick count.
+     */
+    public int getTicks() {
+        return sorted.length;
+    }
+
+    /**
+     * Gets the mean tick time.
+     *
+     * @return The mean in milliseconds, or 0 if no ticks were measured.
+     */
+    public double getMeanMillis() {
+        return sorted.length == 0 ? 0 : total / NANOS_PER_MILLI / sorted.length;
+    }
+
+    /**
+     * Gets a percentile of the tick time using the nearest-rank method.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The tick time in milliseconds, or 0 if no ticks were measured.
+     */
+    public double getPercentileMillis(double percentile) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Gets the longest tick time.
+     *
+     * @return The maximum in milliseconds, or 0 if no ticks were measured.
+     */
+    public double getMaxMillis() {
+        return sorted.length == 0 ? 0 : sorted[sorted.length - 1] / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Gets the number of ticks that exceeded a budget, such as the 50 ms of a 20 TPS server.
+     *
+     * @param budgetMillis The budget in milliseconds.
+     * @return The number of ticks over budget.
+     */
+    public int countOver(double budgetMillis) {
+        long budget = (long) (budgetMillis * NANOS_PER_MILLI);
+        int index = Arrays.binarySearch(sorted, budget + 1);
+        if (index < 0) {
+            index = -index - 1;
+        } else {
+            while (index > 0 && sorted[index - 1] > budget) index--;
+        }
+        return sorted.length - index;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ticks=%d mean=%.3fms p50=%.3fms p95=%.3fms p99=%.3fms max=%.3fms",
+            getTicks(), getMeanMillis(), getPercentileMillis(50), getPercentileMillis(95), getPercentileMillis(99), getMaxMillis());
+    }
+}
@@ -0,0 +1,63 @@
+package pro.akii.ks.core.fieldforge.harness;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pro.akii.ks.core.fieldforge.fields.FieldManager;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Changing a field's strength must leave it armed: the field keeps pushing entities, now with the
+ * new strength, without waiting for a chunk or world event.
+ */
+class ModifyStrengthTest {
+    private Simulation simulation;
+    private FieldManager fieldManager;
+    private VectorField field;
+
+    @BeforeEach
+    void start() {
+        simulation = new Simulation("modify-strength", 1);
+        simulation.getPlugin().getConfig().set("vector-fields.force-threads", 0);
+        simulation.start();
+        fieldManager = simulation.getPlugin().getFieldManager();
+        field = new RadialField(new Location(simulation.getWorld().asWorld(), 100, 64, 100), 0.2, 8, null, 0);
+        assertTrue(fieldManager.createField(field, null));
+        fieldManager.awaitShardLoads();
+    }
+
+    @AfterEach
+    void stop() {
+        simulation.stop();
+    }
+
+    @Test
+    void modifiedFieldKeepsApplyingForce() {
+        double before = pushOnce();
+        assertTrue(before < 0, "radial field pushes toward its center before the change, got " + before);
+
+        assertTrue(fieldManager.modifyFieldStrengthById(field.getId(), 0.4, null));
+        assertEquals(0.4, field.getStrength());
+
+        double after = pushOnce();
+        assertTrue(after < before, "stronger field pushes harder after the change, got " + after + " after " + before);
+    }
+
+    /**
+     * Spawns a still entity beside the field, runs a tick and returns the X velocity it was given.
+     */
+    private double pushOnce() {
+        StubEntity entity = simulation.getWorld().spawn(104, 64, 100);
+        entity.setVelocity(new Vector());
+        simulation.run(1);
+        double velocity = entity.getVelocity().getX();
+        entity.remove();
+        return velocity;
+    }
+}
@@ -1,7 +1,9 @@
 package pro.akii.ks.core.fieldforge;
 
 import lombok.Getter;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.akii.ks.core.fieldforge.api.FieldForgeAPI;
@@ -10,6 +12,8 @@ import pro.akii.ks.core.fieldforge.fields.FieldManager;
 import pro.akii.ks.core.fieldforge.particles.ParticleManager;
 import pro.akii.ks.core.fieldforge.utils.ConfigManager;
 
+import java.io.File;
+
 @Getter
 public class FieldForgePlugin extends JavaPlugin {
     private static final Logger LOGGER = LoggerFactory.getLogger(FieldForgePlugin.class);
@@ -18,6 +22,25 @@ public class FieldForgePlugin extends JavaPlugin {
     private ConfigManager configManager;
     private FieldForgeAPI api;
 
+    /**
+     * Constructs the plugin when it is loaded by the server.
+     */
+    public FieldForgePlugin() {
+        super();
+    }
+
+    /**
+     * Constructs the plugin outside a running server, for benchmarks and test harnesses.
+     *
+     * @param loader The plugin loader.
+     * @param description The plugin description.
+     * @param dataFolder The plugin data folder.
+     * @param file The plugin jar file.
+     */
+    protected FieldForgePlugin(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+        super(loader, description, dataFolder, file);
+    }
+
     /**
      * Called when the plugin is enabled.
      */
@@ -34,11 +57,22 @@ public class FieldForgePlugin extends JavaPlugin {
         getCommand("fieldforge").setExecutor(command);
         getCommand("fieldforge").setTabCompleter(command);
         getServer().getScheduler().runTaskTimer(this, fieldManager::updateFields, 0L, 1L);
+        long compactTicks = Math.max(1, configManager.getJournalCompactInterval()) * 20L;
+        getServer().getScheduler().runTaskTimer(this, fieldManager::compactJournal, compactTicks, compactTicks);
 
         fieldManager.loadFields();
         LOGGER.info("FieldForge enabled successfully.");
     }
 
+    /**
+     * Reloads config.yml, rebuilds the cached configuration and drops derived render caches.
+     */
+    public void reloadPluginConfig() {
+        reloadConfig();
+        configManager = new ConfigManager(this);
+        particleManager.clearGeometry();
+    }
+
     /**
      * Called when the plugin is disabled.
      */
@@ -46,6 +80,7 @@ public class FieldForgePlugin extends JavaPlugin {
     public void onDisable() {
         fieldManager.saveFields();
         fieldManager.clearFields();
+        fieldManager.shutdown();
         LOGGER.info("FieldForge disabled.");
     }
 }
\ No newline at end of file
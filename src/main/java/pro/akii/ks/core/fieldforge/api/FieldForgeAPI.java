@@ -1,13 +1,16 @@
 package pro.akii.ks.core.fieldforge.api;
 
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.util.Vector;
 import pro.akii.ks.core.fieldforge.FieldForgePlugin;
 import pro.akii.ks.core.fieldforge.fields.FieldManager;
 import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.ExpressionField;
 import pro.akii.ks.core.fieldforge.fields.types.LinearField;
 import pro.akii.ks.core.fieldforge.fields.types.RadialField;
 import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+import pro.akii.ks.core.fieldforge.metrics.FieldMetrics;
 
 import java.util.List;
 import java.util.UUID;
@@ -18,6 +21,7 @@ import java.util.UUID;
 public class FieldForgeAPI {
     private final FieldForgePlugin plugin;
     private final FieldManager fieldManager;
+    private final FieldMetrics metrics;
 
     /**
      * Constructs a new FieldForgeAPI instance.
@@ -27,6 +31,16 @@ public class FieldForgeAPI {
     public FieldForgeAPI(FieldForgePlugin plugin) {
         this.plugin = plugin;
         this.fieldManager = plugin.getFieldManager();
+        this.metrics = new FieldMetrics(fieldManager.getProfiler(), fieldManager.getLoadShedder());
+    }
+
+    /**
+     * Gets the read-only tick metrics: per-phase timings over rolling windows and tick counters.
+     *
+     * @return The metrics view.
+     */
+    public FieldMetrics getMetrics() {
+        return metrics;
     }
 
     /**
@@ -112,13 +126,153 @@ public class FieldForgeAPI {
         return createVortexField(location, strength, range, durationTicks, null);
     }
 
+    /**
+     * Creates an expression field programmatically with a creator. Each force component is an
+     * expression over dx, dy, dz, r, t and strength, compiled once; see
+     * {@link pro.akii.ks.core.fieldforge.fields.expr.FieldExpression} for the syntax.
+     *
+     * @param location The center of the field.
+     * @param strength The force magnitude, available to the expressions as {@code strength}.
+     * @param range The effective radius in blocks.
+     * @param forceX The expression of the force's X component.
+     * @param forceY The expression of the force's Y component.
+     * @param forceZ The expression of the force's Z component.
+     * @param durationTicks The duration in ticks (0 for permanent).
+     * @param creator The UUID of the field creator, or null if API-created.
+     * @return True if created, false if limit reached.
+     * @throws IllegalArgumentException If an expression does not compile.
+     */
+    public boolean createExpressionField(Location location, double strength, int range, String forceX, String forceY,
+                                         String forceZ, long durationTicks, UUID creator) {
+        return fieldManager.createField(new ExpressionField(location, strength, range, forceX, forceY, forceZ, creator, durationTicks), creator);
+    }
+
+    /**
+     * Creates an expression field programmatically without a creator.
+     *
+     * @param location The center of the field.
+     * @param strength The force magnitude, available to the expressions as {@code strength}.
+     * @param range The effective radius in blocks.
+     * @param forceX The expression of the force's X component.
+     * @param forceY The expression of the force's Y component.
+     * @param forceZ The expression of the force's Z component.
+     * @param durationTicks The duration in ticks (0 for permanent).
+     * @return True if created, false if limit reached.
+     * @throws IllegalArgumentException If an expression does not compile.
+     */
+    public boolean createExpressionField(Location location, double strength, int range, String forceX, String forceY,
+                                         String forceZ, long durationTicks) {
+        return createExpressionField(location, strength, range, forceX, forceY, forceZ, durationTicks, null);
+    }
+
+    /**
+     * Removes a field by its stable ID.
+     *
+     * @param id The ID of the field to remove.
+     * @param requester The UUID of the requester, or null for API.
+     * @return True if removed, false if the ID is unknown or permission denied.
+     */
+    public boolean removeFieldById(long id, UUID requester) {
+        return fieldManager.removeFieldById(id, requester);
+    }
+
+    /**
+     * Removes a field by its stable ID without a requester (API use).
+     *
+     * @param id The ID of the field to remove.
+     * @return True if removed, false if the ID is unknown.
+     */
+    public boolean removeFieldById(long id) {
+        return removeFieldById(id, null);
+    }
+
+    /**
+     * Modifies the strength of a field by its stable ID.
+     *
+     * @param id The ID of the field to modify.
+     * @param newStrength The new strength value.
+     * @param requester The UUID of the requester, or null for API.
+     * @return True if modified, false if the ID is unknown or permission denied.
+     */
+    public boolean modifyFieldStrengthById(long id, double newStrength, UUID requester) {
+        return fieldManager.modifyFieldStrengthById(id, newStrength, requester);
+    }
+
+    /**
+     * Modifies the strength of a field by its stable ID without a requester (API use).
+     *
+     * @param id The ID of the field to modify.
+     * @param newStrength The new strength value.
+     * @return True if modified, false if the ID is unknown.
+     */
+    public boolean modifyFieldStrengthById(long id, double newStrength) {
+        return modifyFieldStrengthById(id, newStrength, null);
+    }
+
+    /**
+     * Sets how often a field is evaluated, by its stable ID. Fields updated every n ticks apply
+     * n ticks' worth of impulse per update, so slow decorative fields can run at a few hertz.
+     *
+     * @param id The ID of the field to modify.
+     * @param ticks The update interval in ticks, at least 1.
+     * @param requester The UUID of the requester, or null for API.
+     * @return True if modified, false if the ID is unknown, the interval invalid or permission denied.
+     */
+    public boolean setUpdateIntervalById(long id, int ticks, UUID requester) {
+        return fieldManager.setUpdateIntervalById(id, ticks, requester);
+    }
+
+    /**
+     * Sets how often a field is evaluated, by its stable ID, without a requester (API use).
+     *
+     * @param id The ID of the field to modify.
+     * @param ticks The update interval in ticks, at least 1.
+     * @return True if modified, false if the ID is unknown or the interval invalid.
+     */
+    public boolean setUpdateIntervalById(long id, int ticks) {
+        return setUpdateIntervalById(id, ticks, null);
+    }
+
+    /**
+     * Toggles the active state of a field by its stable ID.
+     *
+     * @param id The ID of the field to toggle.
+     * @param requester The UUID of the requester, or null for API.
+     * @return True if toggled, false if the ID is unknown or permission denied.
+     */
+    public boolean toggleFieldActiveById(long id, UUID requester) {
+        return fieldManager.toggleFieldActiveById(id, requester);
+    }
+
+    /**
+     * Toggles the active state of a field by its stable ID without a requester (API use).
+     *
+     * @param id The ID of the field to toggle.
+     * @return True if toggled, false if the ID is unknown.
+     */
+    public boolean toggleFieldActiveById(long id) {
+        return toggleFieldActiveById(id, null);
+    }
+
+    /**
+     * Gets a field by its stable ID.
+     *
+     * @param id The field ID.
+     * @return The field, or null if no field has this ID.
+     */
+    public VectorField getField(long id) {
+        return fieldManager.getFieldById(id);
+    }
+
     /**
      * Removes a field by its index.
      *
      * @param index The index of the field to remove.
      * @param requester The UUID of the requester, or null for API.
      * @return True if removed, false if index invalid or permission denied.
+     * @deprecated Indices shift whenever a field is removed; use {@link #removeFieldById(long, UUID)}.
      */
+    @Deprecated
     public boolean removeField(int index, UUID requester) {
         return fieldManager.removeField(index, requester);
     }
@@ -128,7 +282,9 @@ public class FieldForgeAPI {
      *
      * @param index The index of the field to remove.
      * @return True if removed, false if index invalid.
+     * @deprecated Indices shift whenever a field is removed; use {@link #removeFieldById(long)}.
      */
+    @Deprecated
     public boolean removeField(int index) {
         return removeField(index, null);
     }
@@ -140,7 +296,9 @@ public class FieldForgeAPI {
      * @param newStrength The new strength value.
      * @param requester The UUID of the requester, or null for API.
      * @return True if modified, false if index invalid or permission denied.
+     * @deprecated Indices shift whenever a field is removed; use {@link #modifyFieldStrengthById(long, double, UUID)}.
      */
+    @Deprecated
     public boolean modifyFieldStrength(int index, double newStrength, UUID requester) {
         return fieldManager.modifyFieldStrength(index, newStrength, requester);
     }
@@ -151,7 +309,9 @@ public class FieldForgeAPI {
      * @param index The index of the field to modify.
      * @param newStrength The new strength value.
      * @return True if modified, false if index invalid.
+     * @deprecated Indices shift whenever a field is removed; use {@link #modifyFieldStrengthById(long, double)}.
      */
+    @Deprecated
     public boolean modifyFieldStrength(int index, double newStrength) {
         return modifyFieldStrength(index, newStrength, null);
     }
@@ -162,7 +322,9 @@ public class FieldForgeAPI {
      * @param index The index of the field to toggle.
      * @param requester The UUID of the requester, or null for API.
      * @return True if toggled, false if index invalid or permission denied.
+     * @deprecated Indices shift whenever a field is removed; use {@link #toggleFieldActiveById(long, UUID)}.
      */
+    @Deprecated
     public boolean toggleFieldActive(int index, UUID requester) {
         return fieldManager.toggleFieldActive(index, requester);
     }
@@ -172,7 +334,9 @@ public class FieldForgeAPI {
      *
      * @param index The index of the field to toggle.
      * @return True if toggled, false if index invalid.
+     * @deprecated Indices shift whenever a field is removed; use {@link #toggleFieldActiveById(long)}.
      */
+    @Deprecated
     public boolean toggleFieldActive(int index) {
         return toggleFieldActive(index, null);
     }
@@ -195,4 +359,29 @@ public class FieldForgeAPI {
     public List<VectorField> getFieldsByPlayer(UUID playerUUID) {
         return fieldManager.getFieldsByPlayer(playerUUID);
     }
+
+    /**
+     * Gets fields whose area of effect reaches within a radius of a location.
+     *
+     * @param location The center of the query.
+     * @param radius The query radius in blocks (0 for fields containing the location).
+     * @return List of matching fields.
+     */
+    public List<VectorField> getFieldsNear(Location location, double radius) {
+        return fieldManager.getFieldsNear(location, radius);
+    }
+
+    /**
+     * Gets fields centered within a block-aligned region of a world.
+     *
+     * @param world The world to search.
+     * @param minX The minimum X coordinate.
+     * @param minZ The minimum Z coordinate.
+     * @param maxX The maximum X coordinate.
+     * @param maxZ The maximum Z coordinate.
+     * @return List of matching fields.
+     */
+    public List<VectorField> getFieldsInRegion(World world, int minX, int minZ, int maxX, int maxZ) {
+        return fieldManager.getFieldsInRegion(world, minX, minZ, maxX, maxZ);
+    }
 }
\ No newline at end of file
@@ -16,12 +16,20 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.util.Vector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import pro.akii.ks.core.fieldforge.FieldForgePlugin;
 import pro.akii.ks.core.fieldforge.fields.FieldManager;
 import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.ExpressionField;
 import pro.akii.ks.core.fieldforge.fields.types.LinearField;
 import pro.akii.ks.core.fieldforge.fields.types.RadialField;
 import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+import pro.akii.ks.core.fieldforge.metrics.FieldMetrics;
+import pro.akii.ks.core.fieldforge.metrics.Metric;
+import pro.akii.ks.core.fieldforge.metrics.Phase;
+import pro.akii.ks.core.fieldforge.metrics.PhaseStats;
+import pro.akii.ks.core.fieldforge.metrics.Window;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,6 +37,7 @@ import java.util.List;
 import java.util.UUID;
 
 public class FieldCommand implements CommandExecutor, TabCompleter, Listener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FieldCommand.class);
     private final FieldForgePlugin plugin;
     private final FieldManager fieldManager;
 
@@ -65,7 +74,7 @@ public class FieldCommand implements CommandExecutor, TabCompleter, Listener {
         }
 
         if (args.length == 0) {
-            sender.sendMessage(ChatColor.RED + "Usage: /fieldforge <create|remove|list|reload|modify|toggle|activate|deactivate|gui> [args]");
+            sender.sendMessage(ChatColor.RED + "Usage: /fieldforge <create|remove|list|reload|modify|toggle|activate|deactivate|gui|stats> [args]");
             return true;
         }
 
@@ -102,6 +111,13 @@ public class FieldCommand implements CommandExecutor, TabCompleter, Listener {
                 }
                 handleGuiCommand(player, playerUUID);
                 break;
+            case "stats":
+                if (!player.hasPermission("fieldforge.admin")) {
+                    player.sendMessage(ChatColor.RED + "You lack permission to view field stats.");
+                    return true;
+                }
+                handleStatsCommand(player, args);
+                break;
             default:
                 sender.sendMessage(ChatColor.RED + "Unknown subcommand.");
         }
@@ -121,50 +137,85 @@ public class FieldCommand implements CommandExecutor, TabCompleter, Listener {
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         List<String> completions = new ArrayList<>();
         if (args.length == 1) {
-            completions.addAll(Arrays.asList("create", "remove", "list", "reload", "modify", "toggle", "activate", "deactivate", "gui"));
+            completions.addAll(Arrays.asList("create", "remove", "list", "reload", "modify", "toggle", "activate", "deactivate", "gui", "stats"));
         } else if (args.length == 2) {
             switch (args[0].toLowerCase()) {
                 case "create":
-                    completions.addAll(Arrays.asList("radial", "linear", "vortex"));
+                    completions.addAll(Arrays.asList("radial", "linear", "vortex", "expression"));
                     break;
                 case "modify":
-                    completions.add("strength");
+                    completions.addAll(Arrays.asList("strength", "interval"));
+                    break;
+                case "stats":
+                    for (Window window : Window.values()) {
+                        completions.add(window.getLabel());
+                    }
                     break;
                 case "remove":
                 case "toggle":
                 case "activate":
                 case "deactivate":
-                    for (int i = 0; i < fieldManager.getFields().size(); i++) {
-                        completions.add(String.valueOf(i));
-                    }
+                    addFieldIdCompletions(sender, completions);
                     break;
             }
         } else if (args.length == 3) {
             if (args[0].equalsIgnoreCase("create")) {
                 completions.add("<strength>");
-            } else if (args[0].equalsIgnoreCase("modify") && args[1].equalsIgnoreCase("strength")) {
-                for (int i = 0; i < fieldManager.getFields().size(); i++) {
-                    completions.add(String.valueOf(i));
-                }
+            } else if (args[0].equalsIgnoreCase("modify")) {
+                addFieldIdCompletions(sender, completions);
             }
         } else if (args.length == 4) {
             if (args[0].equalsIgnoreCase("create")) {
                 completions.add("<range>");
-            } else if (args[0].equalsIgnoreCase("modify") && args[1].equalsIgnoreCase("strength")) {
-                completions.add("<value>");
+            } else if (args[0].equalsIgnoreCase("modify")) {
+                completions.add(args[1].equalsIgnoreCase("interval") ? "<ticks>" : "<value>");
+            }
+        } else if (args[0].equalsIgnoreCase("create")) {
+            String type = args[1].toLowerCase();
+            int index = args.length - 1;
+            int optionalStart = optionalStart(type);
+            if (type.equals("linear") && index < optionalStart) {
+                completions.add(index == 4 ? "<x>" : index == 5 ? "<y>" : "<z>");
+            } else if (type.equals("expression") && index < optionalStart) {
+                completions.add("<fx;fy;fz>");
+            } else if (index == optionalStart) {
+                completions.add("<duration>");
+            } else if (index == optionalStart + 1) {
+                completions.add("<interval>");
             }
-        } else if (args.length >= 5 && args.length <= 7 && args[0].equalsIgnoreCase("create") && args[1].equalsIgnoreCase("linear")) {
-            completions.add(args.length == 5 ? "<x>" : args.length == 6 ? "<y>" : "<z>");
-        } else if ((args.length == 8 && args[0].equalsIgnoreCase("create") && args[1].equalsIgnoreCase("linear")) ||
-                   (args.length == 5 && args[0].equalsIgnoreCase("create") && !args[1].equalsIgnoreCase("linear"))) {
-            completions.add("<duration>");
         }
         return completions;
     }
 
+    /**
+     * Gets the index of the first optional argument of /fieldforge create, after the type-specific ones.
+     *
+     * @param type The lowercase field type.
+     * @return The argument index of the duration.
+     */
+    private static int optionalStart(String type) {
+        switch (type) {
+            case "linear":
+                return 7;
+            case "expression":
+                return 5;
+            default:
+                return 4;
+        }
+    }
+
+    private void addFieldIdCompletions(CommandSender sender, List<String> completions) {
+        UUID senderUUID = sender instanceof Player player ? player.getUniqueId() : null;
+        for (VectorField field : fieldManager.getFields()) {
+            if (senderUUID == null || fieldManager.canManage(field, senderUUID)) {
+                completions.add(String.valueOf(field.getId()));
+            }
+        }
+    }
+
     private void handleCreateCommand(Player player, String[] args, UUID playerUUID) {
-        if (args.length < 4 || (args[1].equalsIgnoreCase("linear") && args.length < 7)) {
-            player.sendMessage(ChatColor.RED + "Usage: /fieldforge create <type> <strength> <range> [x y z] [duration]");
+        if (args.length < 4 || args.length < optionalStart(args[1].toLowerCase())) {
+            player.sendMessage(ChatColor.RED + "Usage: /fieldforge create <type> <strength> <range> [x y z | fx;fy;fz] [duration] [interval]");
             return;
         }
 
@@ -172,7 +223,13 @@ public class FieldCommand implements CommandExecutor, TabCompleter, Listener {
         try {
             double strength = Double.parseDouble(args[2]);
             int range = Integer.parseInt(args[3]);
-            long durationTicks = args.length > (type.equals("linear") ? 7 : 4) ? parseDuration(args[type.equals("linear") ? 7 : 4]) : 0;
+            int optionalStart = optionalStart(type);
+            long durationTicks = args.length > optionalStart ? parseDuration(args[optionalStart]) : 0;
+            int interval = args.length > optionalStart + 1 ? Integer.parseInt(args[optionalStart + 1]) : 1;
+            if (interval < 1) {
+                player.sendMessage(ChatColor.RED + "Update interval must be at least 1 tick.");
+                return;
+            }
             VectorField field;
 
             switch (type) {
@@ -188,10 +245,19 @@ public class FieldCommand implements CommandExecutor, TabCompleter, Listener {
                 case "vortex":
                     field = new VortexField(player.getLocation(), strength, range, playerUUID, durationTicks);
                     break;
+                case "expression":
+                    try {
+                        field = ExpressionField.parse(player.getLocation(), strength, range, args[4], playerUUID, durationTicks);
+                    } catch (IllegalArgumentException e) {
+                        player.sendMessage(ChatColor.RED + "Invalid expression: " + e.getMessage());
+                        return;
+                    }
+                    break;
                 default:
-                    player.sendMessage(ChatColor.RED + "Unknown field type: radial, linear, vortex expected.");
+                    player.sendMessage(ChatColor.RED + "Unknown field type: radial, linear, vortex, expression expected.");
                     return;
             }
+            field.setUpdateInterval(interval);
 
             if (fieldManager.createField(field, playerUUID)) {
                 player.sendMessage(ChatColor.GREEN + type.substring(0, 1).toUpperCase() + type.substring(1) + " field created.");
@@ -199,28 +265,30 @@ public class FieldCommand implements CommandExecutor, TabCompleter, Listener {
                 player.sendMessage(ChatColor.RED + "Field limit reached.");
             }
         } catch (NumberFormatException e) {
-            player.sendMessage(ChatColor.RED + "Invalid numbers for strength, range, or direction.");
+            player.sendMessage(ChatColor.RED + "Invalid numbers for strength, range, direction, or interval.");
+        } catch (IllegalArgumentException e) {
+            player.sendMessage(ChatColor.RED + "Invalid arguments: " + e.getMessage());
         } catch (Exception e) {
             player.sendMessage(ChatColor.RED + "Failed to create field: " + e.getMessage());
-            plugin.getLogger().error("Error creating field", e);
+            LOGGER.error("Error creating field", e);
         }
     }
 
     private void handleRemoveCommand(Player player, String[] args, UUID playerUUID) {
         if (args.length < 2) {
-            player.sendMessage(ChatColor.RED + "Usage: /fieldforge remove <index>");
+            player.sendMessage(ChatColor.RED + "Usage: /fieldforge remove <id>");
             return;
         }
 
         try {
-            int index = Integer.parseInt(args[1]);
-            if (fieldManager.removeField(index, playerUUID)) {
-                player.sendMessage(ChatColor.GREEN + "Field at index " + index + " removed.");
+            long id = Long.parseLong(args[1]);
+            if (fieldManager.removeFieldById(id, playerUUID)) {
+                player.sendMessage(ChatColor.GREEN + "Field #" + id + " removed.");
             } else {
-                player.sendMessage(ChatColor.RED + "Invalid index or permission denied.");
+                player.sendMessage(ChatColor.RED + "Unknown field ID or permission denied.");
             }
         } catch (NumberFormatException e) {
-            player.sendMessage(ChatColor.RED + "Index must be a number.");
+            player.sendMessage(ChatColor.RED + "Field ID must be a number.");
         }
     }
 
@@ -232,126 +300,153 @@ public class FieldCommand implements CommandExecutor, TabCompleter, Listener {
         }
 
         player.sendMessage(ChatColor.GREEN + "Your Active Fields:");
-        int index = 0;
-        for (VectorField field : fieldManager.getFields()) {
-            if (field.getCreator() != null && field.getCreator().equals(playerUUID)) {
-                Location loc = field.getLocation();
-                String type = field.getClass().getSimpleName().replace("Field", "").toLowerCase();
-                String direction = field instanceof LinearField ? " Direction: " + ((LinearField) field).getDirection() : "";
-                String duration = field.getDurationTicks() > 0 ? " Duration: " + (field.getDurationTicks() / 20) + "s" : "";
-                player.sendMessage(ChatColor.GREEN + index + ": " + type + " at (" +
-                    loc.getBlockX() + ", " + loc.getBlockY() + ", " + loc.getBlockZ() +
-                    "), strength=" + field.getStrength() + ", range=" + field.getRange() + direction + duration +
-                    " [" + (field.isActive() ? "Active" : "Inactive") + "]");
-            }
-            index++;
+        for (VectorField field : playerFields) {
+            Location loc = field.getLocation();
+            String type = field.getClass().getSimpleName().replace("Field", "").toLowerCase();
+            String direction = field instanceof LinearField ? " Direction: " + ((LinearField) field).getDirection()
+                : field instanceof ExpressionField ? " Force: " + ((ExpressionField) field).getExpression() : "";
+            String duration = field.getDurationTicks() > 0 ? " Duration: " + (field.getDurationTicks() / 20) + "s" : "";
+            String interval = field.getUpdateInterval() > 1 ? " Every " + field.getUpdateInterval() + " ticks" : "";
+            player.sendMessage(ChatColor.GREEN + "#" + field.getId() + ": " + type + " at (" +
+                loc.getBlockX() + ", " + loc.getBlockY() + ", " + loc.getBlockZ() +
+                "), strength=" + field.getStrength() + ", range=" + field.getRange() + direction + duration + interval +
+                " [" + (field.isActive() ? "Active" : "Inactive") + "]");
         }
         if (player.hasPermission("fieldforge.admin")) {
             player.sendMessage(ChatColor.YELLOW + "All Fields (Admin View):");
-            index = 0;
             for (VectorField field : fieldManager.getFields()) {
                 Location loc = field.getLocation();
                 String type = field.getClass().getSimpleName().replace("Field", "").toLowerCase();
                 String owner = field.getCreator() != null ? field.getCreator().toString() : "None";
-                player.sendMessage(ChatColor.YELLOW + index + ": " + type + " at (" +
+                player.sendMessage(ChatColor.YELLOW + "#" + field.getId() + ": " + type + " at (" +
                     loc.getBlockX() + ", " + loc.getBlockY() + ", " + loc.getBlockZ() + ") by " + owner);
-                index++;
             }
         }
     }
 
+    private void handleStatsCommand(Player player, String[] args) {
+        Window window = args.length > 1 ? Window.fromLabel(args[1]) : Window.ONE_MINUTE;
+        if (window == null) {
+            player.sendMessage(ChatColor.RED + "Usage: /fieldforge stats [1m|5m]");
+            return;
+        }
+        FieldMetrics metrics = plugin.getApi().getMetrics();
+        player.sendMessage(ChatColor.GREEN + "Field tick phases over " + window.getLabel() + ":");
+        for (Phase phase : Phase.values()) {
+            PhaseStats stats = metrics.getPhaseStats(phase, window);
+            player.sendMessage(ChatColor.YELLOW + String.format("%-8s p50 %.2fms  p95 %.2fms  p99 %.2fms  max %.2fms",
+                phase.getLabel(), stats.getP50Millis(), stats.getP95Millis(), stats.getP99Millis(), stats.getMaxMillis()));
+        }
+        for (Metric metric : Metric.values()) {
+            player.sendMessage(ChatColor.YELLOW + metric.getLabel() + ": " + metrics.getCount(metric, window)
+                + " (total " + metrics.getTotal(metric) + ")");
+        }
+        player.sendMessage(ChatColor.YELLOW + String.format("load level: %s (average tick %.2fms, budget %.1fms)",
+            metrics.getLoadLevel().getLabel(), metrics.getAverageTickMillis(), plugin.getConfigManager().getTickBudgetMs()));
+    }
+
     private void handleReloadCommand(Player player) {
-        plugin.reloadConfig();
-        plugin.getConfigManager();
+        plugin.reloadPluginConfig();
         player.sendMessage(ChatColor.GREEN + "Configuration reloaded.");
-        plugin.getLogger().info("Configuration reloaded by {}", player.getName());
+        LOGGER.info("Configuration reloaded by {}", player.getName());
     }
 
     private void handleModifyCommand(Player player, String[] args, UUID playerUUID) {
-        if (args.length < 4 || !args[1].equalsIgnoreCase("strength")) {
-            player.sendMessage(ChatColor.RED + "Usage: /fieldforge modify strength <index> <value>");
+        if (args.length < 4 || !(args[1].equalsIgnoreCase("strength") || args[1].equalsIgnoreCase("interval"))) {
+            player.sendMessage(ChatColor.RED + "Usage: /fieldforge modify <strength|interval> <id> <value>");
             return;
         }
 
         try {
-            int index = Integer.parseInt(args[2]);
+            long id = Long.parseLong(args[2]);
+            if (args[1].equalsIgnoreCase("interval")) {
+                int ticks = Integer.parseInt(args[3]);
+                if (ticks < 1) {
+                    player.sendMessage(ChatColor.RED + "Update interval must be at least 1 tick.");
+                } else if (fieldManager.setUpdateIntervalById(id, ticks, playerUUID)) {
+                    player.sendMessage(ChatColor.GREEN + "Field #" + id + " now updates every " + ticks + " ticks");
+                } else {
+                    player.sendMessage(ChatColor.RED + "Unknown field ID or permission denied.");
+                }
+                return;
+            }
             double newStrength = Double.parseDouble(args[3]);
-            if (fieldManager.modifyFieldStrength(index, newStrength, playerUUID)) {
-                player.sendMessage(ChatColor.GREEN + "Field strength at index " + index + " set to " + newStrength);
+            if (fieldManager.modifyFieldStrengthById(id, newStrength, playerUUID)) {
+                player.sendMessage(ChatColor.GREEN + "Strength of field #" + id + " set to " + newStrength);
             } else {
-                player.sendMessage(ChatColor.RED + "Invalid index or permission denied.");
+                player.sendMessage(ChatColor.RED + "Unknown field ID or permission denied.");
             }
         } catch (NumberFormatException e) {
-            player.sendMessage(ChatColor.RED + "Index and value must be numbers.");
+            player.sendMessage(ChatColor.RED + "Field ID and value must be numbers.");
         }
     }
 
     private void handleToggleCommand(Player player, String[] args, UUID playerUUID) {
         if (args.length < 2) {
-            player.sendMessage(ChatColor.RED + "Usage: /fieldforge toggle <index>");
+            player.sendMessage(ChatColor.RED + "Usage: /fieldforge toggle <id>");
             return;
         }
 
         try {
-            int index = Integer.parseInt(args[1]);
-            if (index < 0 || index >= fieldManager.getFields().size()) {
-                player.sendMessage(ChatColor.RED + "Invalid field index: " + index);
+            long id = Long.parseLong(args[1]);
+            VectorField field = fieldManager.getFieldById(id);
+            if (field == null) {
+                player.sendMessage(ChatColor.RED + "Unknown field ID: " + id);
                 return;
             }
-            VectorField field = fieldManager.getFields().get(index);
             if (field.getCreator() != null && !field.getCreator().equals(playerUUID) && !player.hasPermission("fieldforge.admin")) {
                 player.sendMessage(ChatColor.RED + "You don’t own this field.");
                 return;
             }
             field.setVisualsEnabled(!field.isVisualsEnabled());
-            player.sendMessage(ChatColor.GREEN + "Visuals for field at index " + index + " set to " + (field.isVisualsEnabled() ? "on" : "off"));
-            plugin.getLogger().info("Player {} toggled visuals for field at index {} to {}", playerUUID, index, field.isVisualsEnabled());
+            player.sendMessage(ChatColor.GREEN + "Visuals for field #" + id + " set to " + (field.isVisualsEnabled() ? "on" : "off"));
+            LOGGER.info("Player {} toggled visuals for field #{} to {}", playerUUID, id, field.isVisualsEnabled());
         } catch (NumberFormatException e) {
-            player.sendMessage(ChatColor.RED + "Index must be a number.");
+            player.sendMessage(ChatColor.RED + "Field ID must be a number.");
         }
     }
 
     private void handleActivateCommand(Player player, String[] args, UUID playerUUID, boolean activate) {
         if (args.length < 2) {
-            player.sendMessage(ChatColor.RED + "Usage: /fieldforge " + (activate ? "activate" : "deactivate") + " <index>");
+            player.sendMessage(ChatColor.RED + "Usage: /fieldforge " + (activate ? "activate" : "deactivate") + " <id>");
             return;
         }
 
         try {
-            int index = Integer.parseInt(args[1]);
-            if (fieldManager.toggleFieldActive(index, playerUUID)) {
-                player.sendMessage(ChatColor.GREEN + "Field at index " + index + " set to " + (activate ? "active" : "inactive"));
+            long id = Long.parseLong(args[1]);
+            VectorField field = fieldManager.getFieldById(id);
+            // Check permission before the no-op case, so the reply does not reveal other players' fields.
+            if (field != null && fieldManager.canManage(field, playerUUID)
+                && (field.isActive() == activate || fieldManager.toggleFieldActiveById(id, playerUUID))) {
+                player.sendMessage(ChatColor.GREEN + "Field #" + id + " set to " + (activate ? "active" : "inactive"));
             } else {
-                player.sendMessage(ChatColor.RED + "Invalid index or permission denied.");
+                player.sendMessage(ChatColor.RED + "Unknown field ID or permission denied.");
             }
         } catch (NumberFormatException e) {
-            player.sendMessage(ChatColor.RED + "Index must be a number.");
+            player.sendMessage(ChatColor.RED + "Field ID must be a number.");
         }
     }
 
     private void handleGuiCommand(Player player, UUID playerUUID) {
         Inventory gui = Bukkit.createInventory(player, 27, ChatColor.GREEN + "FieldForge Management");
         List<VectorField> playerFields = fieldManager.getFieldsByPlayer(playerUUID);
-        int globalIndex = 0;
-        for (VectorField field : fieldManager.getFields()) {
-            if (field.getCreator() != null && field.getCreator().equals(playerUUID)) {
-                int localIndex = playerFields.indexOf(field);
-                ItemStack item = new ItemStack(Material.ENDER_PEARL);
-                ItemMeta meta = item.getItemMeta();
-                meta.setDisplayName(ChatColor.GREEN + field.getClass().getSimpleName().replace("Field", "") + " #" + globalIndex);
-                List<String> lore = new ArrayList<>();
-                lore.add(ChatColor.YELLOW + "Strength: " + field.getStrength());
-                lore.add(ChatColor.YELLOW + "Range: " + field.getRange());
-                lore.add(ChatColor.YELLOW + "Active: " + field.isActive());
-                lore.add(ChatColor.GRAY + "Left-click: Toggle Active");
-                lore.add(ChatColor.GRAY + "Right-click: Remove");
-                lore.add(ChatColor.GRAY + "Shift+Left: Increase Strength");
-                lore.add(ChatColor.GRAY + "Shift+Right: Decrease Strength");
-                meta.setLore(lore);
-                item.setItemMeta(meta);
-                gui.setItem(localIndex, item);
-            }
-            globalIndex++;
+        for (int slot = 0; slot < playerFields.size() && slot < gui.getSize(); slot++) {
+            VectorField field = playerFields.get(slot);
+            ItemStack item = new ItemStack(Material.ENDER_PEARL);
+            ItemMeta meta = item.getItemMeta();
+            meta.setDisplayName(ChatColor.GREEN + field.getClass().getSimpleName().replace("Field", "") + " #" + field.getId());
+            List<String> lore = new ArrayList<>();
+            lore.add(ChatColor.YELLOW + "Strength: " + field.getStrength());
+            lore.add(ChatColor.YELLOW + "Range: " + field.getRange());
+            lore.add(ChatColor.YELLOW + "Update Interval: " + field.getUpdateInterval() + " ticks");
+            lore.add(ChatColor.YELLOW + "Active: " + field.isActive());
+            lore.add(ChatColor.GRAY + "Left-click: Toggle Active");
+            lore.add(ChatColor.GRAY + "Right-click: Remove");
+            lore.add(ChatColor.GRAY + "Shift+Left: Increase Strength");
+            lore.add(ChatColor.GRAY + "Shift+Right: Decrease Strength");
+            meta.setLore(lore);
+            item.setItemMeta(meta);
+            gui.setItem(slot, item);
         }
         player.openInventory(gui);
     }
@@ -370,8 +465,13 @@ public class FieldCommand implements CommandExecutor, TabCompleter, Listener {
         ItemStack clickedItem = event.getCurrentItem();
         if (clickedItem == null || clickedItem.getType() == Material.AIR) return;
 
-        int index = Integer.parseInt(clickedItem.getItemMeta().getDisplayName().split("#")[1]);
-        VectorField field = fieldManager.getFields().get(index);
+        long id = Long.parseLong(clickedItem.getItemMeta().getDisplayName().split("#")[1]);
+        VectorField field = fieldManager.getFieldById(id);
+        if (field == null) {
+            player.sendMessage(ChatColor.RED + "That field no longer exists.");
+            player.closeInventory();
+            return;
+        }
 
         if (field.getCreator() != null && !field.getCreator().equals(playerUUID) && !player.hasPermission("fieldforge.admin")) {
             player.sendMessage(ChatColor.RED + "You don’t own this field.");
@@ -379,19 +479,19 @@ public class FieldCommand implements CommandExecutor, TabCompleter, Listener {
         }
 
         if (event.isLeftClick() && !event.isShiftClick()) {
-            fieldManager.toggleFieldActive(index, playerUUID);
-            player.sendMessage(ChatColor.GREEN + "Field at index " + index + " set to " + (field.isActive() ? "active" : "inactive"));
+            fieldManager.toggleFieldActiveById(id, playerUUID);
+            player.sendMessage(ChatColor.GREEN + "Field #" + id + " set to " + (field.isActive() ? "active" : "inactive"));
         } else if (event.isRightClick() && !event.isShiftClick()) {
-            if (fieldManager.removeField(index, playerUUID)) {
-                player.sendMessage(ChatColor.GREEN + "Field at index " + index + " removed.");
+            if (fieldManager.removeFieldById(id, playerUUID)) {
+                player.sendMessage(ChatColor.GREEN + "Field #" + id + " removed.");
             } else {
                 player.sendMessage(ChatColor.RED + "Failed to remove field.");
             }
         } else if (event.isShiftClick()) {
             double newStrength = field.getStrength() + (event.isLeftClick() ? 1.0 : -1.0);
             if (newStrength >= 0) {
-                fieldManager.modifyFieldStrength(index, newStrength, playerUUID);
-                player.sendMessage(ChatColor.GREEN + "Field strength at index " + index + " set to " + newStrength);
+                fieldManager.modifyFieldStrengthById(id, newStrength, playerUUID);
+                player.sendMessage(ChatColor.GREEN + "Strength of field #" + id + " set to " + newStrength);
             } else {
                 player.sendMessage(ChatColor.RED + "Strength cannot be negative.");
             }
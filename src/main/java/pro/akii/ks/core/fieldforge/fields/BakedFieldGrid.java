@@ -0,0 +1,431 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import org.bukkit.Location;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * Precomputed net force of overlapping static fields. Each 16×16×16 chunk section reached by at
+ * least {@code minOverlap} baked fields gets a lattice of force samples every {@code voxelSize}
+ * blocks, read back with trilinear interpolation, so an entity inside any number of overlapping
+ * baked fields costs eight lookups instead of one evaluation per field. Lattice cells the force is
+ * not smooth across, because a field's edge or center lies in them, are flagged while baking and
+ * evaluated exactly instead.
+ * <p>
+ * Only permanent, time-invariant fields evaluated every tick are baked. Creating, removing, toggling or changing the
+ * strength of one invalidates the sections it reaches at once, so they fall back to exact evaluation,
+ * and queues them for a rebuild on a background thread at the end of the tick. Every rebuild carries
+ * a generation and is only published if its section was not invalidated again in the meantime.
+ * Everything except {@link WorldLattice#sample} runs on the main thread.
+ */
+public class BakedFieldGrid {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BakedFieldGrid.class);
+    private final boolean enabled;
+    private final int voxelSize;
+    private final int samplesPerEdge;
+    private final int minOverlap;
+    private final Map<UUID, WorldLattice> worlds;
+    private final Map<VectorField, WorldLattice> baked;
+    private final AtomicInteger pendingRebuilds;
+    private ExecutorService executor;
+    private long generation;
+
+    /**
+     * Constructs a new BakedFieldGrid.
+     *
+     * @param enabled Whether fields are baked at all.
+     * @param voxelSize The lattice spacing in blocks, rounded down to a power of two between 1 and 16.
+     * @param minOverlap The number of baked fields a section must be reached by to get a lattice.
+     */
+    public BakedFieldGrid(boolean enabled, int voxelSize, int minOverlap) {
+        int size = Integer.highestOneBit(Math.max(1, Math.min(16, voxelSize)));
+        if (enabled && size != voxelSize) {
+            LOGGER.warn("Baked field voxel size {} does not divide a chunk section; using {}", voxelSize, size);
+        }
+        this.enabled = enabled;
+        this.voxelSize = size;
+        this.samplesPerEdge = 16 / size + 1;
+        this.minOverlap = Math.max(1, minOverlap);
+        this.worlds = new HashMap<>();
+        this.baked = new IdentityHashMap<>();
+        this.pendingRebuilds = new AtomicInteger();
+    }
+
+    /**
+     * Checks whether a field qualifies for baking: baking is enabled and the field is permanent,
+     * evaluated every tick and constant over time.
+     *
+     * @param field The field.
+     * @return True if the field's force can come from the lattice.
+     */
+    public boolean isBakeable(VectorField field) {
+        return enabled && field.getDurationTicks() == 0 && field.getUpdateInterval() == 1 && !field.isTimeVarying();
+    }
+
+    /**
+     * Checks whether a field is currently baked.
+     *
+     * @param field The field.
+     * @return True if the field was added and qualified for baking.
+     */
+    public boolean isBaked(VectorField field) {
+        return baked.containsKey(field);
+    }
+
+    /**
+     * Gets the lattice of a baked field's world.
+     *
+     * @param field The field.
+     * @return The lattice holding the field's force, or null if the field is not baked.
+     */
+    public WorldLattice getLattice(VectorField field) {
+        return baked.get(field);
+    }
+
+    /**
+     * Adds a field if it qualifies for baking, invalidating the sections it reaches.
+     *
+     * @param field The field to add.
+     */
+    public void add(VectorField field) {
+        if (!isBakeable(field) || baked.containsKey(field)) return;
+        WorldLattice lattice = worlds.computeIfAbsent(field.getLocation().getWorld().getUID(), k -> new WorldLattice());
+        baked.put(field, lattice);
+        forEachSection(field, key -> {
+            lattice.fieldsBySection.computeIfAbsent(key, k -> new ArrayList<>(4)).add(field);
+            lattice.invalidate(key);
+        });
+    }
+
+    /**
+     * Removes a field, invalidating the sections it reached.
+     *
+     * @param field The field to remove.
+     */
+    public void remove(VectorField field) {
+        WorldLattice lattice = baked.remove(field);
+        if (lattice == null) return;
+        forEachSection(field, key -> {
+            List<VectorField> reaching = lattice.fieldsBySection.get(key);
+            if (reaching != null && reaching.remove(field) && reaching.isEmpty()) {
+                lattice.fieldsBySection.remove(key);
+            }
+            lattice.invalidate(key);
+        });
+    }
+
+    /**
+     * Invalidates the sections a field reaches after its strength or active state changed.
+     *
+     * @param field The changed field.
+     */
+    public void invalidate(VectorField field) {
+        WorldLattice lattice = baked.get(field);
+        if (lattice == null) return;
+        forEachSection(field, lattice::invalidate);
+    }
+
+    /**
+     * Re-checks whether a field qualifies for baking after its update interval changed.
+     *
+     * @param field The changed field.
+     */
+    public void refresh(VectorField field) {
+        if (baked.containsKey(field) == isBakeable(field)) return;
+        if (baked.containsKey(field)) {
+            remove(field);
+        } else {
+            add(field);
+        }
+    }
+
+    /**
+     * Queues the rebuild of every section invalidated since the last flush. The strengths of the
+     * active fields are captured here, so the background rebuild never reads mutable field state.
+     * Sections reached by fewer than {@code minOverlap} active fields are dropped instead.
+     */
+    public void flush() {
+        for (WorldLattice lattice : worlds.values()) {
+            if (lattice.dirty.isEmpty()) continue;
+            for (long key : lattice.dirty) {
+                List<VectorField> reaching = lattice.fieldsBySection.getOrDefault(key, Collections.emptyList());
+                int active = 0;
+                for (VectorField field : reaching) {
+                    if (field.isActive()) active++;
+                }
+                if (active < minOverlap) continue;
+                VectorField[] fields = new VectorField[active];
+                double[] strengths = new double[active];
+                int i = 0;
+                for (VectorField field : reaching) {
+                    if (!field.isActive()) continue;
+                    fields[i] = field;
+                    strengths[i++] = field.getStrength();
+                }
+                Section pending = new Section(++generation, null, null);
+                lattice.published.put(key, pending);
+                pendingRebuilds.incrementAndGet();
+                executor().execute(() -> {
+                    try {
+                        lattice.published.replace(key, pending, bake(pending.generation(), key, fields, strengths));
+                    } finally {
+                        pendingRebuilds.decrementAndGet();
+                    }
+                });
+            }
+            lattice.dirty.clear();
+        }
+    }
+
+    /**
+     * Gets the number of section rebuilds queued by {@link #flush()} that have not finished.
+     *
+     * @return The pending rebuild count.
+     */
+    public int getPendingRebuilds() {
+        return pendingRebuilds.get();
+    }
+
+    /**
+     * Drops every field and lattice. Rebuilds still running are discarded when they finish.
+     */
+    public void clear() {
+        for (WorldLattice lattice : worlds.values()) {
+            lattice.published.clear();
+        }
+        worlds.clear();
+        baked.clear();
+    }
+
+    /**
+     * Stops the rebuild thread.
+     */
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Samples the net force of a section's fields on its lattice and flags its edge cells: those
+     * whose corners are not all within the same fields, or that hold or touch the cell of a
+     * field's center, where the force of a radial field is too steep to interpolate. Runs on the
+     * rebuild thread.
+     *
+     * @param generation The generation the rebuild was queued with.
+     * @param key The section key.
+     * @param fields The active fields reaching the section.
+     * @param strengths The strengths captured for them.
+     * @return The built section.
+     */
+    private Section bake(long generation, long key, VectorField[] fields, double[] strengths) {
+        int n = samplesPerEdge;
+        float[] samples = new float[n * n * n * 3];
+        long[] memberships = new long[n * n * n];
+        ForceAccumulator scratch = new ForceAccumulator(1);
+        double originX = sectionX(key) << 4;
+        double originY = sectionY(key) << 4;
+        double originZ = sectionZ(key) << 4;
+        int index = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                for (int k = 0; k < n; k++) {
+                    double x = originX + i * voxelSize;
+                    double y = originY + j * voxelSize;
+                    double z = originZ + k * voxelSize;
+                    scratch.set(0, 0, 0, 0);
+                    long membership = 0;
+                    for (int f = 0; f < fields.length; f++) {
+                        if (fields[f].accumulateForce(x, y, z, strengths[f], scratch, 0)) {
+                            membership = membership * 31 + f + 1;
+                        }
+                    }
+                    memberships[index / 3] = membership;
+                    samples[index++] = (float) scratch.getX(0);
+                    samples[index++] = (float) scratch.getY(0);
+                    samples[index++] = (float) scratch.getZ(0);
+                }
+            }
+        }
+        int cells = n - 1;
+        BitSet edgeCells = new BitSet(cells * cells * cells);
+        for (int i = 0; i < cells; i++) {
+            for (int j = 0; j < cells; j++) {
+                for (int k = 0; k < cells; k++) {
+                    long membership = memberships[(i * n + j) * n + k];
+                    for (int corner = 1; corner < 8; corner++) {
+                        int point = ((i + (corner >> 2)) * n + j + ((corner >> 1) & 1)) * n + k + (corner & 1);
+                        if (memberships[point] != membership) {
+                            edgeCells.set((i * cells + j) * cells + k);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        for (VectorField field : fields) {
+            Location center = field.getLocation();
+            int ci = (int) Math.floor((center.getX() - originX) / voxelSize);
+            int cj = (int) Math.floor((center.getY() - originY) / voxelSize);
+            int ck = (int) Math.floor((center.getZ() - originZ) / voxelSize);
+            for (int i = Math.max(0, ci - 1); i <= Math.min(cells - 1, ci + 1); i++) {
+                for (int j = Math.max(0, cj - 1); j <= Math.min(cells - 1, cj + 1); j++) {
+                    for (int k = Math.max(0, ck - 1); k <= Math.min(cells - 1, ck + 1); k++) {
+                        edgeCells.set((i * cells + j) * cells + k);
+                    }
+                }
+            }
+        }
+        return new Section(generation, samples, edgeCells);
+    }
+
+    private ExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "FieldForge-Bake");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Calls an action with the key of every section a field's range reaches into, including the
+     * sections of lattice points on the edge of its bounding box.
+     *
+     * @param field The field.
+     * @param action The action receiving each section key.
+     */
+    private static void forEachSection(VectorField field, LongConsumer action) {
+        Location center = field.getLocation();
+        double reach = field.getRange() + 1;
+        int minX = (int) Math.floor(center.getX() - reach) >> 4;
+        int minY = (int) Math.floor(center.getY() - reach) >> 4;
+        int minZ = (int) Math.floor(center.getZ() - reach) >> 4;
+        int maxX = (int) Math.floor(center.getX() + reach) >> 4;
+        int maxY = (int) Math.floor(center.getY() + reach) >> 4;
+        int maxZ = (int) Math.floor(center.getZ() + reach) >> 4;
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sy = minY; sy <= maxY; sy++) {
+                for (int sz = minZ; sz <= maxZ; sz++) {
+                    action.accept(sectionKey(sx, sy, sz));
+                }
+            }
+        }
+    }
+
+    /**
+     * Packs section coordinates into a key: 22 bits each for X and Z, 20 bits for Y.
+     *
+     * @param sectionX The section X coordinate (block X divided by 16).
+     * @param sectionY The section Y coordinate (block Y divided by 16).
+     * @param sectionZ The section Z coordinate (block Z divided by 16).
+     * @return The section key.
+     */
+    static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        return ((long) (sectionX & 0x3FFFFF) << 42) | ((long) (sectionZ & 0x3FFFFF) << 20) | (sectionY & 0xFFFFF);
+    }
+
+    private static int sectionX(long key) {
+        return (int) (key >> 42) << 10 >> 10;
+    }
+
+    private static int sectionY(long key) {
+        return (int) key << 12 >> 12;
+    }
+
+    private static int sectionZ(long key) {
+        return (int) (key >> 20) << 10 >> 10;
+    }
+
+    /**
+     * A published lattice: null samples while its rebuild is pending.
+     *
+     * @param generation The generation the rebuild was queued with.
+     * @param samples The force components of every lattice point, three floats per point in X, Y, Z
+     *                order, or null.
+     * @param edgeCells The cells to evaluate exactly, or null.
+     */
+    private record Section(long generation, float[] samples, BitSet edgeCells) {
+    }
+
+    /**
+     * The baked sections of one world. The section index and dirty set belong to the main thread;
+     * the published lattices are read by {@link #sample} from any thread.
+     */
+    public final class WorldLattice {
+        private final Map<Long, List<VectorField>> fieldsBySection;
+        private final Set<Long> dirty;
+        private final Map<Long, Section> published;
+
+        private WorldLattice() {
+            this.fieldsBySection = new HashMap<>();
+            this.dirty = new HashSet<>();
+            this.published = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Adds the interpolated force of the baked fields at a point into an accumulator.
+         *
+         * @param x The X coordinate of the point.
+         * @param y The Y coordinate of the point.
+         * @param z The Z coordinate of the point.
+         * @param accumulator The accumulator to add the force into.
+         * @param slot The entity's slot in the accumulator.
+         * @return True if the point's section has a lattice and the point is not in an edge cell;
+         *         false if the baked fields must be evaluated exactly, in which case nothing was added.
+         */
+        public boolean sample(double x, double y, double z, ForceAccumulator accumulator, int slot) {
+            int blockX = (int) Math.floor(x);
+            int blockY = (int) Math.floor(y);
+            int blockZ = (int) Math.floor(z);
+            Section section = published.get(sectionKey(blockX >> 4, blockY >> 4, blockZ >> 4));
+            if (section == null || section.samples() == null) return false;
+            float[] samples = section.samples();
+            int cells = samplesPerEdge - 1;
+            double gx = (x - (blockX >> 4 << 4)) / voxelSize;
+            double gy = (y - (blockY >> 4 << 4)) / voxelSize;
+            double gz = (z - (blockZ >> 4 << 4)) / voxelSize;
+            int i = Math.min((int) gx, cells - 1);
+            int j = Math.min((int) gy, cells - 1);
+            int k = Math.min((int) gz, cells - 1);
+            if (section.edgeCells().get((i * cells + j) * cells + k)) return false;
+            double tx = gx - i;
+            double ty = gy - j;
+            double tz = gz - k;
+            int n = samplesPerEdge;
+            int base = ((i * n + j) * n + k) * 3;
+            int stepJ = n * 3;
+            int stepI = n * n * 3;
+            double fx = 0;
+            double fy = 0;
+            double fz = 0;
+            for (int corner = 0; corner < 8; corner++) {
+                int ci = corner >> 2;
+                int cj = (corner >> 1) & 1;
+                int ck = corner & 1;
+                double weight = (ci == 0 ? 1 - tx : tx) * (cj == 0 ? 1 - ty : ty) * (ck == 0 ? 1 - tz : tz);
+                int index = base + ci * stepI + cj * stepJ + ck * 3;
+                fx += weight * samples[index];
+                fy += weight * samples[index + 1];
+                fz += weight * samples[index + 2];
+            }
+            accumulator.add(slot, fx, fy, fz);
+            return true;
+        }
+
+        private void invalidate(long key) {
+            published.remove(key);
+            dirty.add(key);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.*;
+
+/**
+ * Tracks the armed fields: those covering at least one loaded chunk. Every field is indexed by each
+ * chunk its range reaches into and remembers which of those chunks are loaded, so chunk and world
+ * events keep the armed flags in the {@link FieldStore} current at the cost of the fields covering
+ * the affected chunk, and a repeated event for the same chunk changes nothing.
+ */
+public class ChunkCoverage {
+    private final FieldStore store;
+    private final Map<UUID, Map<Long, List<VectorField>>> fieldsByChunk;
+    private final Map<VectorField, Footprint> footprints;
+
+    /**
+     * Constructs a new, empty ChunkCoverage.
+     *
+     * @param store The store of the fields to arm.
+     */
+    public ChunkCoverage(FieldStore store) {
+        this.store = store;
+        this.fieldsByChunk = new HashMap<>();
+        this.footprints = new IdentityHashMap<>();
+    }
+
+    /**
+     * Indexes a field by the chunks it covers, arming it if any of them is loaded.
+     *
+     * @param field The field to add, which must be in the store.
+     */
+    public void add(VectorField field) {
+        Location loc = field.getLocation();
+        World world = loc.getWorld();
+        Footprint footprint = new Footprint(
+            (int) Math.floor(loc.getX() - field.getRange()) >> 4, (int) Math.floor(loc.getZ() - field.getRange()) >> 4,
+            (int) Math.floor(loc.getX() + field.getRange()) >> 4, (int) Math.floor(loc.getZ() + field.getRange()) >> 4);
+        footprints.put(field, footprint);
+        Map<Long, List<VectorField>> chunks = fieldsByChunk.computeIfAbsent(world.getUID(), k -> new HashMap<>());
+        for (int cx = footprint.minX; cx <= footprint.maxX; cx++) {
+            for (int cz = footprint.minZ; cz <= footprint.maxZ; cz++) {
+                chunks.computeIfAbsent(FieldIndex.chunkKey(cx, cz), k -> new ArrayList<>(2)).add(field);
+                if (world.isChunkLoaded(cx, cz)) {
+                    footprint.loaded.set(footprint.bit(cx, cz));
+                }
+            }
+        }
+        store.setFlag(field.storeSlot, FieldStore.FLAG_ARMED, !footprint.loaded.isEmpty());
+    }
+
+    /**
+     * Removes a field from the chunk index. Its armed flag leaves the store together with its slot.
+     *
+     * @param field The field to remove.
+     */
+    public void remove(VectorField field) {
+        Footprint footprint = footprints.remove(field);
+        if (footprint == null) return;
+        UUID worldId = field.getLocation().getWorld().getUID();
+        Map<Long, List<VectorField>> chunks = fieldsByChunk.get(worldId);
+        if (chunks == null) return;
+        for (int cx = footprint.minX; cx <= footprint.maxX; cx++) {
+            for (int cz = footprint.minZ; cz <= footprint.maxZ; cz++) {
+                long key = FieldIndex.chunkKey(cx, cz);
+                List<VectorField> covering = chunks.get(key);
+                if (covering != null && covering.remove(field) && covering.isEmpty()) {
+                    chunks.remove(key);
+                }
+            }
+        }
+        if (chunks.isEmpty()) {
+            fieldsByChunk.remove(worldId);
+        }
+    }
+
+    /**
+     * Marks a chunk as loaded, arming the fields covering it.
+     *
+     * @param world The chunk's world.
+     * @param chunkX The chunk X coordinate.
+     * @param chunkZ The chunk Z coordinate.
+     */
+    public void chunkLoaded(World world, int chunkX, int chunkZ) {
+        for (VectorField field : covering(world, chunkX, chunkZ)) {
+            Footprint footprint = footprints.get(field);
+            footprint.loaded.set(footprint.bit(chunkX, chunkZ));
+            store.setFlag(field.storeSlot, FieldStore.FLAG_ARMED, true);
+        }
+    }
+
+    /**
+     * Marks a chunk as unloaded, disarming the fields covering it that have no other loaded chunk.
+     *
+     * @param world The chunk's world.
+     * @param chunkX The chunk X coordinate.
+     * @param chunkZ The chunk Z coordinate.
+     */
+    public void chunkUnloaded(World world, int chunkX, int chunkZ) {
+        for (VectorField field : covering(world, chunkX, chunkZ)) {
+            Footprint footprint = footprints.get(field);
+            footprint.loaded.clear(footprint.bit(chunkX, chunkZ));
+            if (footprint.loaded.isEmpty()) {
+                store.setFlag(field.storeSlot, FieldStore.FLAG_ARMED, false);
+            }
+        }
+    }
+
+    /**
+     * Re-checks every chunk covered by the fields of a world that was loaded.
+     *
+     * @param world The loaded world.
+     */
+    public void worldLoaded(World world) {
+        Map<Long, List<VectorField>> chunks = fieldsByChunk.get(world.getUID());
+        if (chunks == null) return;
+        for (Map.Entry<Long, List<VectorField>> chunk : chunks.entrySet()) {
+            long key = chunk.getKey();
+            if (world.isChunkLoaded((int) (key >> 32), (int) key)) {
+                chunkLoaded(world, (int) (key >> 32), (int) key);
+            }
+        }
+    }
+
+    /**
+     * Disarms every field of a world that is unloading.
+     *
+     * @param world The unloading world.
+     */
+    public void worldUnloaded(World world) {
+        Map<Long, List<VectorField>> chunks = fieldsByChunk.get(world.getUID());
+        if (chunks == null) return;
+        for (List<VectorField> covering : chunks.values()) {
+            for (VectorField field : covering) {
+                footprints.get(field).loaded.clear();
+                store.setFlag(field.storeSlot, FieldStore.FLAG_ARMED, false);
+            }
+        }
+    }
+
+    /**
+     * Adds the keys of the chunks a slot's field covers to a set, reading its center and range from
+     * the store.
+     *
+     * @param slot The field's slot.
+     * @param out The set to add {@link FieldIndex#chunkKey(int, int)} keys to.
+     */
+    public void addChunks(int slot, Set<Long> out) {
+        double x = store.x[slot];
+        double z = store.z[slot];
+        int range = store.ranges[slot];
+        int maxX = (int) Math.floor(x + range) >> 4;
+        int maxZ = (int) Math.floor(z + range) >> 4;
+        for (int cx = (int) Math.floor(x - range) >> 4; cx <= maxX; cx++) {
+            for (int cz = (int) Math.floor(z - range) >> 4; cz <= maxZ; cz++) {
+                out.add(FieldIndex.chunkKey(cx, cz));
+            }
+        }
+    }
+
+    /**
+     * Removes every field.
+     */
+    public void clear() {
+        fieldsByChunk.clear();
+        footprints.clear();
+    }
+
+    private List<VectorField> covering(World world, int chunkX, int chunkZ) {
+        Map<Long, List<VectorField>> chunks = fieldsByChunk.get(world.getUID());
+        if (chunks == null) return Collections.emptyList();
+        return chunks.getOrDefault(FieldIndex.chunkKey(chunkX, chunkZ), Collections.emptyList());
+    }
+
+    /**
+     * Chunk rectangle covered by a field, with one bit per chunk telling whether it is loaded.
+     */
+    private static final class Footprint {
+        private final int minX;
+        private final int minZ;
+        private final int maxX;
+        private final int maxZ;
+        private final BitSet loaded;
+
+        private Footprint(int minX, int minZ, int maxX, int maxZ) {
+            this.minX = minX;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxZ = maxZ;
+            this.loaded = new BitSet((maxX - minX + 1) * (maxZ - minZ + 1));
+        }
+
+        private int bit(int chunkX, int chunkZ) {
+            return (chunkX - minX) * (maxZ - minZ + 1) + (chunkZ - minZ);
+        }
+    }
+}
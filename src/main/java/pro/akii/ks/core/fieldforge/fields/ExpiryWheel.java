@@ -0,0 +1,179 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel that tracks field expiry deadlines in ticks.
+ * Level 0 has one slot per tick for the next 256 ticks; each coarser level has 64 slots,
+ * each as wide as the whole level below it, and is cascaded down as time reaches it.
+ * Scheduling and cancelling are O(1); {@link #advance(List)} is called once per tick.
+ */
+public class ExpiryWheel {
+    private static final int[] LEVEL_BITS = {8, 6, 6, 6};
+    private static final int[] LEVEL_SHIFT = {0, 8, 14, 20};
+    private static final long MAX_SPAN = 1L << 26;
+
+    private final Node[][] slots;
+    private final Map<Long, Node> nodes;
+    private long now;
+
+    /**
+     * Constructs a new, empty ExpiryWheel starting at tick 0.
+     */
+    public ExpiryWheel() {
+        this.slots = new Node[LEVEL_BITS.length][];
+        for (int level = 0; level < LEVEL_BITS.length; level++) {
+            slots[level] = new Node[1 << LEVEL_BITS[level]];
+        }
+        this.nodes = new HashMap<>();
+    }
+
+    /**
+     * Schedules a field to expire after the given number of ticks, replacing any previous deadline.
+     *
+     * @param id The field ID.
+     * @param delayTicks The number of {@link #advance(List)} calls until expiry (at least 1).
+     */
+    public void schedule(long id, long delayTicks) {
+        cancel(id);
+        Node node = new Node(id, now + Math.max(1, delayTicks) - 1);
+        nodes.put(id, node);
+        insert(node);
+    }
+
+    /**
+     * Cancels the pending expiry of a field.
+     *
+     * @param id The field ID.
+     * @return True if the field had a pending expiry.
+     */
+    public boolean cancel(long id) {
+        Node node = nodes.remove(id);
+        if (node == null) return false;
+        unlink(node);
+        return true;
+    }
+
+    /**
+     * Gets the number of ticks left before a field expires.
+     *
+     * @param id The field ID.
+     * @return The remaining ticks, or 0 if the field has no pending expiry.
+     */
+    public long getRemaining(long id) {
+        Node node = nodes.get(id);
+        return node != null ? node.deadline - now + 1 : 0;
+    }
+
+    /**
+     * Advances the wheel by one tick and collects every field whose deadline is this tick.
+     *
+     * @param expired The list to add the expired field IDs to.
+     * @return The number of fields that expired.
+     */
+    public int advance(List<Long> expired) {
+        int index = (int) (now & (slots[0].length - 1));
+        if (index == 0) {
+            for (int level = 1; level < slots.length; level++) {
+                int slot = (int) ((now >>> LEVEL_SHIFT[level]) & (slots[level].length - 1));
+                cascade(level, slot);
+                if (slot != 0) break;
+            }
+        }
+        int count = 0;
+        Node node = slots[0][index];
+        slots[0][index] = null;
+        while (node != null) {
+            Node next = node.next;
+            nodes.remove(node.id);
+            node.prev = node.next = null;
+            expired.add(node.id);
+            count++;
+            node = next;
+        }
+        now++;
+        return count;
+    }
+
+    /**
+     * Cancels every pending expiry.
+     */
+    public void clear() {
+        for (Node[] level : slots) {
+            Arrays.fill(level, null);
+        }
+        nodes.clear();
+    }
+
+    /**
+     * Gets the number of fields with a pending expiry.
+     *
+     * @return The pending expiry count.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    private void cascade(int level, int slot) {
+        Node node = slots[level][slot];
+        slots[level][slot] = null;
+        while (node != null) {
+            Node next = node.next;
+            node.prev = node.next = null;
+            insert(node);
+            node = next;
+        }
+    }
+
+    private void insert(Node node) {
+        long delta = node.deadline - now;
+        int level = 0;
+        long slotTick = node.deadline;
+        if (delta >= MAX_SPAN) {
+            level = LEVEL_BITS.length - 1;
+            slotTick = now + MAX_SPAN - (1L << LEVEL_SHIFT[level]);
+        } else {
+            while (level < LEVEL_BITS.length - 1 && delta >= 1L << LEVEL_SHIFT[level + 1]) {
+                level++;
+            }
+        }
+        int slot = (int) ((slotTick >>> LEVEL_SHIFT[level]) & (slots[level].length - 1));
+        node.level = level;
+        node.slot = slot;
+        Node head = slots[level][slot];
+        node.next = head;
+        if (head != null) {
+            head.prev = node;
+        }
+        slots[level][slot] = node;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            slots[node.level][node.slot] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = node.next = null;
+    }
+
+    private static final class Node {
+        private final long id;
+        private final long deadline;
+        private Node prev;
+        private Node next;
+        private int level;
+        private int slot;
+
+        private Node(long id, long deadline) {
+            this.id = id;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.*;
+
+/**
+ * Per-world spatial index of vector fields, bucketed by the chunk containing each field's center.
+ * The fields themselves live in a {@link FieldStore} owned by the index; cells hold store slots, so
+ * queries only read the store's arrays and touch a field object once it matches.
+ */
+public class FieldIndex {
+    private final FieldStore store;
+    private final Map<UUID, WorldGrid> grids;
+
+    /**
+     * Constructs a new, empty FieldIndex.
+     */
+    public FieldIndex() {
+        this.store = new FieldStore(64);
+        this.grids = new HashMap<>();
+    }
+
+    /**
+     * Adds a field to the store and the index.
+     *
+     * @param field The field to add.
+     */
+    public void add(VectorField field) {
+        World world = field.getLocation().getWorld();
+        int slot = store.add(field);
+        grids.computeIfAbsent(world.getUID(), k -> new WorldGrid(world, store)).add(slot);
+    }
+
+    /**
+     * Removes a field from the index and the store. The field that takes over its slot is moved to
+     * the new slot in its cell.
+     *
+     * @param field The field to remove.
+     * @return True if the field was indexed and has been removed.
+     */
+    public boolean remove(VectorField field) {
+        if (field.store != store) return false;
+        int slot = field.storeSlot;
+        UUID worldId = field.getLocation().getWorld().getUID();
+        WorldGrid grid = grids.get(worldId);
+        grid.remove(slot);
+        if (grid.isEmpty()) {
+            grids.remove(worldId);
+        }
+        int moved = store.remove(field);
+        if (moved >= 0) {
+            grids.get(store.fields[slot].getLocation().getWorld().getUID()).move(moved, slot);
+        }
+        return true;
+    }
+
+    /**
+     * Re-indexes a field after its parameters changed. The field keeps its armed flag, since the
+     * chunk coverage that sets it is not consulted here.
+     *
+     * @param field The field to update.
+     */
+    public void update(VectorField field) {
+        boolean armed = field.store == store && store.isArmed(field.storeSlot);
+        if (remove(field)) {
+            add(field);
+            store.setFlag(field.storeSlot, FieldStore.FLAG_ARMED, armed);
+        }
+    }
+
+    /**
+     * Removes every field from the index and the store.
+     */
+    public void clear() {
+        grids.clear();
+        store.clear();
+    }
+
+    /**
+     * Gets the store holding the indexed fields.
+     *
+     * @return The field store.
+     */
+    public FieldStore getStore() {
+        return store;
+    }
+
+    /**
+     * Gets the indexed grids, one per world that currently holds fields.
+     *
+     * @return The world grids.
+     */
+    public Collection<WorldGrid> getGrids() {
+        return grids.values();
+    }
+
+    /**
+     * Gets the grid for a world.
+     *
+     * @param world The world.
+     * @return The grid, or null if the world holds no fields.
+     */
+    public WorldGrid getGrid(World world) {
+        return grids.get(world.getUID());
+    }
+
+    /**
+     * Finds all fields whose area of effect intersects a sphere around a point.
+     *
+     * @param location The center of the query.
+     * @param radius The query radius in blocks (0 to find fields containing the point).
+     * @return List of matching fields.
+     */
+    public List<VectorField> query(Location location, double radius) {
+        List<VectorField> result = new ArrayList<>();
+        WorldGrid grid = grids.get(location.getWorld().getUID());
+        if (grid != null) {
+            grid.query(location.getX(), location.getY(), location.getZ(), radius, result);
+        }
+        return result;
+    }
+
+    /**
+     * Finds all fields whose center lies within a block-aligned box.
+     *
+     * @param world The world to search.
+     * @param minX The minimum X coordinate.
+     * @param minZ The minimum Z coordinate.
+     * @param maxX The maximum X coordinate.
+     * @param maxZ The maximum Z coordinate.
+     * @return List of matching fields.
+     */
+    public List<VectorField> queryRegion(World world, int minX, int minZ, int maxX, int maxZ) {
+        List<VectorField> result = new ArrayList<>();
+        WorldGrid grid = grids.get(world.getUID());
+        if (grid == null) return result;
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                Cell cell = grid.cells.get(chunkKey(cx, cz));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    int slot = cell.slots[i];
+                    int blockX = (int) Math.floor(store.x[slot]);
+                    int blockZ = (int) Math.floor(store.z[slot]);
+                    if (blockX >= minX && blockX <= maxX && blockZ >= minZ && blockZ <= maxZ) {
+                        result.add(store.fields[slot]);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Packs chunk coordinates into a single map key.
+     *
+     * @param chunkX The chunk X coordinate.
+     * @param chunkZ The chunk Z coordinate.
+     * @return The packed key.
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Chunk-keyed grid of the fields in a single world.
+     */
+    public static class WorldGrid {
+        private final World world;
+        private final FieldStore store;
+        private final Map<Long, Cell> cells;
+        private final TreeMap<Integer, Integer> rangeCounts;
+        private int size;
+
+        private WorldGrid(World world, FieldStore store) {
+            this.world = world;
+            this.store = store;
+            this.cells = new HashMap<>();
+            this.rangeCounts = new TreeMap<>();
+        }
+
+        private void add(int slot) {
+            cells.computeIfAbsent(cellKey(slot), k -> new Cell()).add(slot);
+            rangeCounts.merge(store.ranges[slot], 1, Integer::sum);
+            size++;
+        }
+
+        private void remove(int slot) {
+            long key = cellKey(slot);
+            Cell cell = cells.get(key);
+            cell.replace(slot, cell.slots[--cell.size]);
+            if (cell.size == 0) {
+                cells.remove(key);
+            }
+            rangeCounts.compute(store.ranges[slot], (k, v) -> v == null || v <= 1 ? null : v - 1);
+            size--;
+        }
+
+        private void move(int from, int to) {
+            cells.get(cellKey(to)).replace(from, to);
+        }
+
+        private long cellKey(int slot) {
+            return chunkKey((int) Math.floor(store.x[slot]) >> 4, (int) Math.floor(store.z[slot]) >> 4);
+        }
+
+        /**
+         * Collects fields whose area of effect intersects a sphere around a point.
+         *
+         * @param x The X coordinate of the query center.
+         * @param y The Y coordinate of the query center.
+         * @param z The Z coordinate of the query center.
+         * @param radius The query radius in blocks (0 to find fields containing the point).
+         * @param result The list to add matching fields to.
+         */
+        public void query(double x, double y, double z, double radius, List<VectorField> result) {
+            query(x, y, z, radius, (byte) 0, result);
+        }
+
+        /**
+         * Collects fields that have all the given {@link FieldStore} flags and whose area of effect
+         * intersects a sphere around a point. Non-matching fields are rejected on the arrays alone.
+         *
+         * @param x The X coordinate of the query center.
+         * @param y The Y coordinate of the query center.
+         * @param z The Z coordinate of the query center.
+         * @param radius The query radius in blocks (0 to find fields containing the point).
+         * @param flags The flags a field must have, or 0 for any field.
+         * @param result The list to add matching fields to.
+         */
+        void query(double x, double y, double z, double radius, byte flags, List<VectorField> result) {
+            int reach = (int) Math.ceil((radius + getMaxRange()) / 16.0);
+            int centerX = (int) Math.floor(x) >> 4;
+            int centerZ = (int) Math.floor(z) >> 4;
+            double[] fieldX = store.x;
+            double[] fieldY = store.y;
+            double[] fieldZ = store.z;
+            int[] ranges = store.ranges;
+            byte[] fieldFlags = store.flags;
+            for (int cx = centerX - reach; cx <= centerX + reach; cx++) {
+                for (int cz = centerZ - reach; cz <= centerZ + reach; cz++) {
+                    Cell cell = cells.get(chunkKey(cx, cz));
+                    if (cell == null) continue;
+                    for (int i = 0; i < cell.size; i++) {
+                        int slot = cell.slots[i];
+                        if ((fieldFlags[slot] & flags) != flags) continue;
+                        double dx = fieldX[slot] - x;
+                        double dy = fieldY[slot] - y;
+                        double dz = fieldZ[slot] - z;
+                        double limit = ranges[slot] + radius;
+                        if (dx * dx + dy * dy + dz * dz <= limit * limit) {
+                            result.add(store.fields[slot]);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Gets the world this grid belongs to.
+         *
+         * @return The world.
+         */
+        public World getWorld() {
+            return world;
+        }
+
+        /**
+         * Gets the largest range of any field in this world.
+         *
+         * @return The maximum range, or 0 if empty.
+         */
+        public int getMaxRange() {
+            return rangeCounts.isEmpty() ? 0 : rangeCounts.lastKey();
+        }
+
+        /**
+         * Gets the number of fields in this world.
+         *
+         * @return The field count.
+         */
+        public int size() {
+            return size;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    /**
+     * The store slots of the fields centered in one chunk.
+     */
+    private static final class Cell {
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        private void replace(int from, int to) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == from) {
+                    slots[i] = to;
+                    return;
+                }
+            }
+        }
+    }
+}
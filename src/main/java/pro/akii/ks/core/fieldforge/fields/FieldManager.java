@@ -2,29 +2,82 @@ package pro.akii.ks.core.fieldforge.fields;
 
 import lombok.Getter;
 import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
-import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.util.Vector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.akii.ks.core.fieldforge.FieldForgePlugin;
-import pro.akii.ks.core.fieldforge.events.FieldEnterEvent;
-import pro.akii.ks.core.fieldforge.events.FieldExitEvent;
+import pro.akii.ks.core.fieldforge.fields.types.ExpressionField;
+import pro.akii.ks.core.fieldforge.fields.types.LinearField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+import pro.akii.ks.core.fieldforge.metrics.Metric;
+import pro.akii.ks.core.fieldforge.metrics.Phase;
+import pro.akii.ks.core.fieldforge.metrics.TickProfiler;
 import pro.akii.ks.core.fieldforge.particles.NMSUtil;
+import pro.akii.ks.core.fieldforge.storage.BinaryFieldStore;
+import pro.akii.ks.core.fieldforge.storage.FieldJournal;
+import pro.akii.ks.core.fieldforge.storage.FieldRecord;
+import pro.akii.ks.core.fieldforge.storage.LegacyFieldsFile;
+import pro.akii.ks.core.fieldforge.storage.ShardIndex;
+import pro.akii.ks.core.fieldforge.storage.ShardKey;
+import pro.akii.ks.core.fieldforge.storage.ShardedFieldStore;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Getter
-public class FieldManager {
+public class FieldManager implements Listener {
     private static final Logger LOGGER = LoggerFactory.getLogger(FieldManager.class);
+    private static final int COMPACT_ENTRIES = 10_000;
     private final FieldForgePlugin plugin;
-    private final List<VectorField> fields;
-    private final File fieldsFile;
+    private final Map<Long, VectorField> fieldsById;
+    private final FieldIndex fieldIndex;
+    private final ChunkCoverage chunkCoverage;
+    private final BakedFieldGrid bakedFieldGrid;
+    private final ShardedFieldStore store;
+    private final File singleStoreFile;
+    private final File legacyFile;
+    private final File journalFile;
+    private final FieldJournal journal;
+    private final Map<ShardKey, FieldShard> shards;
+    private final Map<ShardKey, Map<UUID, Integer>> shardOwners;
+    private final Set<ShardKey> evictionCandidates;
     private final Map<UUID, Integer> playerFieldCounts;
-    private final Map<Entity, Set<Integer>> entitiesInFields;
+    private final Map<UUID, List<VectorField>> fieldsByOwner;
+    private final MembershipTracker membershipTracker;
+    private final Set<Long> sweepChunks;
+    private final List<VectorField> queryBuffer;
+    private final ExpiryWheel expiryWheel;
+    private final List<Long> expiredIds;
+    private final ForcePipeline forcePipeline;
     private final NMSUtil nmsUtil;
+    private final TickProfiler profiler;
+    private final LoadShedder loadShedder;
+    private final List<List<Player>> worldPlayers;
+    private long nextFieldId;
+    private long tickCount;
+    private long countedEvents;
+    private long countedPackets;
 
     /**
      * Constructs a new FieldManager instance.
@@ -33,16 +86,41 @@ public class FieldManager {
      */
     public FieldManager(FieldForgePlugin plugin) {
         this.plugin = plugin;
-        this.fields = new ArrayList<>();
-        this.fieldsFile = new File(plugin.getDataFolder(), "fields.yml");
+        this.fieldsById = new LinkedHashMap<>();
+        this.fieldIndex = new FieldIndex();
+        this.chunkCoverage = new ChunkCoverage(fieldIndex.getStore());
+        this.bakedFieldGrid = new BakedFieldGrid(plugin.getConfigManager().isBakedFieldsEnabled(),
+            plugin.getConfigManager().getBakedVoxelSize(), plugin.getConfigManager().getBakedMinOverlap());
+        this.store = new ShardedFieldStore(new File(plugin.getDataFolder(), "fields").toPath());
+        this.singleStoreFile = new File(plugin.getDataFolder(), "fields.dat");
+        this.legacyFile = new File(plugin.getDataFolder(), "fields.yml");
+        this.journalFile = new File(plugin.getDataFolder(), "fields.journal");
+        this.journal = new FieldJournal(journalFile.toPath());
+        this.shards = new HashMap<>();
+        this.shardOwners = new HashMap<>();
+        this.evictionCandidates = new HashSet<>();
         this.playerFieldCounts = new HashMap<>();
-        this.entitiesInFields = new HashMap<>();
-        this.nmsUtil = new NMSUtil();
+        this.fieldsByOwner = new HashMap<>();
+        this.membershipTracker = new MembershipTracker(fieldsById);
+        this.sweepChunks = new HashSet<>();
+        this.queryBuffer = new ArrayList<>();
+        this.expiryWheel = new ExpiryWheel();
+        this.expiredIds = new ArrayList<>();
+        this.forcePipeline = new ForcePipeline(plugin.getConfigManager().getForceThreads());
+        this.forcePipeline.getSnapshot().bakedGrid = bakedFieldGrid;
+        this.nmsUtil = new NMSUtil(plugin.getConfigManager().getPacketBatchSize());
+        this.profiler = new TickProfiler();
+        this.loadShedder = new LoadShedder();
+        this.worldPlayers = new ArrayList<>();
+        this.nextFieldId = 1;
         Bukkit.getPluginManager().registerEvents(this, plugin);
     }
 
     /**
-     * Creates a new vector field if within configured limits for the player.
+     * Creates a new vector field if within configured limits for the player. The field gets its ID
+     * right away, but if the shard of its region is not in memory yet, it is registered and
+     * journaled only once the shard's read completes, on a later tick; until then it is not
+     * returned by the field lookups.
      *
      * @param field The vector field to add.
      * @param creator The UUID of the player creating the field, or null if API-created.
@@ -55,243 +133,1334 @@ public class FieldManager {
             LOGGER.warn("Player {} reached field limit: {}", creator, maxFields);
             return false;
         }
-        fields.add(field);
+        FieldShard shard = acquireShard(shardKey(field));
+        field.setId(nextFieldId++);
         if (creator != null) {
-            playerFieldCounts.put(creator, currentCount + 1);
+            countOwner(shard.key, creator, 1);
         }
-        LOGGER.info("Created field: {} at {} by {}", field.getClass().getSimpleName(), field.getLocation(), creator);
         if (field.getDurationTicks() > 0) {
-            Bukkit.getScheduler().runTaskLater(plugin, () -> removeField(fields.indexOf(field), null), field.getDurationTicks());
+            expiryWheel.schedule(field.getId(), field.getDurationTicks());
+        }
+        if (shard.isLoaded()) {
+            registerCreated(field, shard);
+            LOGGER.info("Created field #{}: {} at {} by {}", field.getId(), field.getClass().getSimpleName(), field.getLocation(), creator);
+        } else {
+            shard.created.add(field);
+            LOGGER.info("Created field #{}: {} at {} by {}, registering once shard {} is loaded", field.getId(),
+                field.getClass().getSimpleName(), field.getLocation(), creator, shard.key);
         }
         return true;
     }
 
     /**
-     * Removes a field by its index if the player has permission.
+     * Registers and journals a new field in its loaded shard.
      *
-     * @param index The index of the field to remove.
+     * @param field The field, with its ID assigned and its owner counted.
+     * @param shard The loaded shard of the field.
+     */
+    private void registerCreated(VectorField field, FieldShard shard) {
+        addField(field, shard);
+        shard.dirty = true;
+        journal.put(toRecord(field));
+        compactJournalIfLarge();
+    }
+
+    /**
+     * Removes a field by its stable ID if the player has permission.
+     *
+     * @param id The ID of the field to remove.
      * @param requester The UUID of the player requesting removal, or null for API.
-     * @return True if removed, false if index invalid or permission denied.
+     * @return True if removed, false if the ID is unknown or permission denied.
      */
-    public boolean removeField(int index, UUID requester) {
-        if (index < 0 || index >= fields.size()) {
-            LOGGER.warn("Invalid field index for removal: {}", index);
+    public boolean removeFieldById(long id, UUID requester) {
+        VectorField field = fieldsById.get(id);
+        if (field == null) {
+            LOGGER.warn("Unknown field ID for removal: {}", id);
             return false;
         }
-        VectorField field = fields.get(index);
-        if (requester != null && field.getCreator() != null && !field.getCreator().equals(requester) &&
-            !plugin.getServer().getPlayer(requester).hasPermission("fieldforge.admin")) {
-            LOGGER.warn("Player {} lacks permission to remove field at index {}", requester, index);
+        if (!canManage(field, requester)) {
+            LOGGER.warn("Player {} lacks permission to remove field #{}", requester, id);
             return false;
         }
-        fields.remove(index);
-        if (field.getCreator() != null) {
-            playerFieldCounts.compute(field.getCreator(), (k, v) -> v == null || v <= 1 ? null : v - 1);
-        }
-        LOGGER.info("Removed field: {} at {} by {}", field.getClass().getSimpleName(), field.getLocation(), requester);
+        detachField(field);
+        expiryWheel.cancel(id);
+        membershipTracker.removeField(field);
+        journal.remove(shardKey(field), id);
+        compactJournalIfLarge();
+        LOGGER.info("Removed field #{}: {} at {} by {}", id, field.getClass().getSimpleName(), field.getLocation(), requester);
         return true;
     }
 
     /**
-     * Updates all fields, applying forces with collision detection and rendering visuals using NMS.
+     * Removes every field whose lifetime ended this tick, purging entity membership in a single pass.
+     */
+    private void expireFields() {
+        if (expiryWheel.advance(expiredIds) == 0) return;
+        Map<Long, VectorField> expired = new HashMap<>();
+        for (long id : expiredIds) {
+            VectorField field = fieldsById.get(id);
+            if (field != null) {
+                detachField(field);
+                journal.remove(shardKey(field), id);
+                expired.put(id, field);
+            }
+        }
+        expiredIds.clear();
+        membershipTracker.removeFields(expired);
+        compactJournalIfLarge();
+        LOGGER.info("Expired {} fields", expired.size());
+    }
+
+    /**
+     * Removes a field by its position in {@link #getFields()} if the player has permission.
+     *
+     * @param index The index of the field to remove.
+     * @param requester The UUID of the player requesting removal, or null for API.
+     * @return True if removed, false if index invalid or permission denied.
+     * @deprecated Indices shift whenever a field is removed; use {@link #removeFieldById(long, UUID)}.
+     */
+    @Deprecated
+    public boolean removeField(int index, UUID requester) {
+        VectorField field = getFieldAt(index);
+        return field != null && removeFieldById(field.getId(), requester);
+    }
+
+    /**
+     * Updates all armed fields, applying forces with collision detection and rendering visuals using NMS.
+     * Each phase is timed into the {@link TickProfiler}, and the tick duration drives the {@link LoadShedder}.
      */
     public void updateFields() {
-        Map<Entity, Vector> entityForces = new HashMap<>();
-        for (int i = 0; i < fields.size(); i++) {
-            VectorField field = fields.get(i);
-            if (!field.isActive()) continue;
-            if (!field.getLocation().getWorld().isChunkLoaded(field.getLocation().getBlockX() >> 4, field.getLocation().getBlockZ() >> 4)) {
-                continue;
+        long tickStart = System.nanoTime();
+        LoadLevel level = loadShedder.getLevel();
+        evictUnloadedShards();
+        expireFields();
+        profiler.record(Phase.EXPIRY, tickStart);
+        updatePhysics(level);
+        long start = System.nanoTime();
+        if (level.atLeast(LoadLevel.NO_VISUALS)) {
+            profiler.count(Metric.VISUALS_SKIPPED, 1);
+        } else {
+            FieldStore fieldStore = fieldIndex.getStore();
+            byte shown = FieldStore.FLAG_ARMED | FieldStore.FLAG_ACTIVE | FieldStore.FLAG_VISUALS;
+            for (int slot = 0; slot < fieldStore.size; slot++) {
+                if ((fieldStore.flags[slot] & shown) == shown) {
+                    plugin.getParticleManager().scheduleRender(fieldStore.fields[slot]);
+                }
             }
-            List<Entity> entities = field.getLocation().getWorld()
-                .getNearbyEntities(field.getLocation(), field.getRange(), field.getRange(), field.getRange())
-                .stream()
-                .filter(e -> !e.isDead())
-                .toList();
-            for (Entity entity : entities) {
-                Vector currentForce = entityForces.getOrDefault(entity, new Vector(0, 0, 0));
-                Vector newForce = field.calculateForce(entity);
-                if (newForce != null) {
-                    entityForces.put(entity, currentForce.add(newForce));
-                    Set<Integer> currentFields = entitiesInFields.getOrDefault(entity, new HashSet<>());
-                    if (!currentFields.contains(i)) {
-                        currentFields.add(i);
-                        entitiesInFields.put(entity, currentFields);
-                        Bukkit.getPluginManager().callEvent(new FieldEnterEvent(entity, field));
-                    }
+            plugin.getParticleManager().flushRenders();
+        }
+        start = profiler.record(Phase.RENDER, start);
+        nmsUtil.flushPackets();
+        profiler.record(Phase.PACKETS, start);
+        bakedFieldGrid.flush();
+        long tickEnd = profiler.record(Phase.TICK, tickStart);
+        loadShedder.update(tickEnd - tickStart, plugin.getConfigManager().getTickBudgetMs());
+        tickCount++;
+        profiler.count(Metric.EVENTS_FIRED, membershipTracker.getEventsFired() - countedEvents);
+        countedEvents = membershipTracker.getEventsFired();
+        profiler.count(Metric.PACKETS_SENT, nmsUtil.getPacketsSent() - countedPackets);
+        countedPackets = nmsUtil.getPacketsSent();
+    }
+
+    /**
+     * Runs the snapshot, compute and apply phases of the force pipeline. Results computed on worker
+     * threads are applied on the tick after they were captured; while workers are still busy no new
+     * snapshot is taken.
+     *
+     * @param level The load level of this tick.
+     */
+    private void updatePhysics(LoadLevel level) {
+        ForceSnapshot snapshot = forcePipeline.getSnapshot();
+        if (forcePipeline.collect()) {
+            applyForces(snapshot, level);
+        }
+        long start = System.nanoTime();
+        if (forcePipeline.isComputing()) {
+            profiler.record(Phase.QUERY, start);
+            return;
+        }
+        snapshot.reset();
+        snapshot.time = tickCount / 20.0;
+        int skipped = scheduleFields(snapshot, level.atLeast(LoadLevel.THROTTLE_FAR_FIELDS));
+        if (plugin.getConfigManager().getUpdateMode() == UpdateMode.ENTITY) {
+            sweepEntities(snapshot);
+        } else {
+            sweepFields(snapshot);
+        }
+        fieldIndex.getStore().clearFlag(FieldStore.FLAG_MARKED);
+        snapshot.maxForce = plugin.getConfigManager().getMaxForce();
+        profiler.record(Phase.QUERY, start);
+        profiler.count(Metric.FIELDS_EVALUATED, snapshot.fieldCount);
+        profiler.count(Metric.ENTITIES_TOUCHED, snapshot.entityCount);
+        profiler.count(Metric.FIELD_UPDATES_SKIPPED, skipped);
+        forcePipeline.compute();
+        if (forcePipeline.collect()) {
+            applyForces(snapshot, level);
+        }
+    }
+
+    /**
+     * Selects the armed, active fields to evaluate this tick by marking their slots in the
+     * {@link FieldStore}, reading only its arrays. Fields with an update interval above one tick are
+     * staggered by ID, so fields sharing an interval are spread evenly over its ticks. A due field
+     * receives the impulse of every tick in its interval; one that is not due is left unmarked and
+     * keeps its members. While far fields are throttled, fields with no player nearby use at least
+     * {@link LoadShedder#FAR_FIELD_INTERVAL}; baked fields are never throttled, since their force
+     * costs nothing extra once sampled.
+     *
+     * @param snapshot The snapshot to record retained memberships into.
+     * @param throttleFar Whether to throttle fields far from players.
+     * @return The number of fields skipped because they are not due.
+     */
+    private int scheduleFields(ForceSnapshot snapshot, boolean throttleFar) {
+        FieldStore fieldStore = fieldIndex.getStore();
+        double distance = plugin.getConfigManager().getFarFieldDistance();
+        if (throttleFar) {
+            collectWorldPlayers(fieldStore);
+        }
+        byte armed = FieldStore.FLAG_ARMED | FieldStore.FLAG_ACTIVE;
+        int skipped = 0;
+        for (int slot = 0; slot < fieldStore.size; slot++) {
+            if ((fieldStore.flags[slot] & armed) != armed) continue;
+            int interval = fieldStore.updateIntervals[slot];
+            if (throttleFar && interval < LoadShedder.FAR_FIELD_INTERVAL && !isNearPlayer(fieldStore, slot, distance)) {
+                interval = LoadShedder.FAR_FIELD_INTERVAL;
+            }
+            if (interval > 1 && bakedFieldGrid.isBaked(fieldStore.fields[slot])) {
+                interval = 1;
+            }
+            long id = fieldStore.ids[slot];
+            if (interval == 1 || (tickCount + id) % interval == 0) {
+                fieldStore.flags[slot] |= FieldStore.FLAG_MARKED;
+                fieldStore.dueIntervals[slot] = interval;
+            } else {
+                skipped++;
+                snapshot.retainedFieldIds.add(id);
+            }
+        }
+        worldPlayers.clear();
+        return skipped;
+    }
+
+    /**
+     * Collects the players of every world that has fields, by the store's world index.
+     *
+     * @param fieldStore The field store.
+     */
+    private void collectWorldPlayers(FieldStore fieldStore) {
+        for (FieldIndex.WorldGrid grid : fieldIndex.getGrids()) {
+            int worldIndex = fieldStore.worldIndex(grid.getWorld().getUID());
+            while (worldPlayers.size() <= worldIndex) {
+                worldPlayers.add(Collections.emptyList());
+            }
+            worldPlayers.set(worldIndex, grid.getWorld().getPlayers());
+        }
+    }
+
+    /**
+     * Checks whether any player is within a distance of a field's edge.
+     *
+     * @param fieldStore The field store.
+     * @param slot The field's slot.
+     * @param distance The distance in blocks beyond the field's range.
+     * @return True if a player in the field's world is that close.
+     */
+    private boolean isNearPlayer(FieldStore fieldStore, int slot, double distance) {
+        int worldIndex = fieldStore.worlds[slot];
+        if (worldIndex >= worldPlayers.size()) return false;
+        double reach = fieldStore.ranges[slot] + distance;
+        for (Player player : worldPlayers.get(worldIndex)) {
+            Location loc = player.getLocation();
+            double dx = loc.getX() - fieldStore.x[slot];
+            double dy = loc.getY() - fieldStore.y[slot];
+            double dz = loc.getZ() - fieldStore.z[slot];
+            if (dx * dx + dy * dy + dz * dz <= reach * reach) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the impulse multiplier of a field marked for the snapshot being built.
+     *
+     * @param field The field.
+     * @return The number of ticks the field's update stands for.
+     */
+    private double impulseScale(VectorField field) {
+        return fieldIndex.getStore().dueIntervals[field.storeSlot];
+    }
+
+    /**
+     * Applies the computed net forces, records field membership and fires the resulting enter/exit events.
+     * While events are deferred, membership is only evaluated every {@link LoadShedder#EVENT_INTERVAL} ticks.
+     *
+     * @param snapshot The computed snapshot.
+     * @param level The load level of this tick.
+     */
+    private void applyForces(ForceSnapshot snapshot, LoadLevel level) {
+        profiler.recordNanos(Phase.FORCES, forcePipeline.getLastComputeNanos());
+        long start = System.nanoTime();
+        ForceAccumulator forces = snapshot.accumulator;
+        for (int e = 0; e < snapshot.entityCount; e++) {
+            Entity entity = forces.getEntity(e);
+            if (!snapshot.affected[e] || !entity.isValid()) continue;
+            nmsUtil.applyForce(entity, forces.getX(e), forces.getY(e), forces.getZ(e));
+        }
+        start = profiler.record(Phase.VELOCITY, start);
+        if (level.atLeast(LoadLevel.DEFER_EVENTS) && tickCount % LoadShedder.EVENT_INTERVAL != 0) {
+            profiler.count(Metric.EVENTS_DEFERRED, 1);
+            profiler.record(Phase.EVENTS, start);
+            return;
+        }
+        for (int p = 0; p < snapshot.pairCount; p++) {
+            if (!snapshot.pairHits[p]) continue;
+            VectorField field = snapshot.fields[snapshot.pairFields[p]];
+            Entity entity = snapshot.accumulator.getEntity(snapshot.pairEntities[p]);
+            if (fieldsById.get(field.getId()) == field && entity.isValid()) {
+                membershipTracker.observe(field, entity);
+            }
+        }
+        membershipTracker.commit(snapshot.retainedFieldIds);
+        profiler.record(Phase.EVENTS, start);
+    }
+
+    /**
+     * Field-centric pass: each marked field queries the entities around it.
+     *
+     * @param snapshot The snapshot to capture candidate pairs into.
+     */
+    private void sweepFields(ForceSnapshot snapshot) {
+        FieldStore fieldStore = fieldIndex.getStore();
+        for (int slot = 0; slot < fieldStore.size; slot++) {
+            if ((fieldStore.flags[slot] & FieldStore.FLAG_MARKED) == 0) continue;
+            VectorField field = fieldStore.fields[slot];
+            int fieldSlot = snapshot.addField(field, fieldStore.dueIntervals[slot]);
+            for (Entity entity : field.getLocation().getWorld()
+                .getNearbyEntities(field.getLocation(), field.getRange(), field.getRange(), field.getRange())) {
+                if (!entity.isDead()) {
+                    snapshot.addPair(snapshot.addEntity(entity), fieldSlot);
+                }
+            }
+        }
+    }
+
+    /**
+     * Entity-centric pass: collects the entities in loaded chunks covered by marked fields once per
+     * world, then looks up the fields affecting each entity through the spatial index, which filters
+     * on the marks in the {@link FieldStore}.
+     *
+     * @param snapshot The snapshot to capture candidate pairs into.
+     */
+    private void sweepEntities(ForceSnapshot snapshot) {
+        FieldStore fieldStore = fieldIndex.getStore();
+        for (FieldIndex.WorldGrid grid : fieldIndex.getGrids()) {
+            World world = grid.getWorld();
+            int worldIndex = fieldStore.worldIndex(world.getUID());
+            for (int slot = 0; slot < fieldStore.size; slot++) {
+                if ((fieldStore.flags[slot] & FieldStore.FLAG_MARKED) != 0 && fieldStore.worlds[slot] == worldIndex) {
+                    chunkCoverage.addChunks(slot, sweepChunks);
                 }
             }
-            entitiesInFields.entrySet().removeIf(entry -> {
-                Set<Integer> fieldIndices = entry.getValue();
-                if (fieldIndices.contains(i) && !entities.contains(entry.getKey())) {
-                    fieldIndices.remove(i);
-                    Bukkit.getPluginManager().callEvent(new FieldExitEvent(entry.getKey(), field));
-                    return fieldIndices.isEmpty();
+            for (long key : sweepChunks) {
+                int cx = (int) (key >> 32);
+                int cz = (int) key;
+                if (!world.isChunkLoaded(cx, cz)) continue;
+                for (Entity entity : world.getChunkAt(cx, cz).getEntities()) {
+                    if (!entity.isDead()) {
+                        addFieldsForEntity(grid, entity, snapshot);
+                    }
                 }
-                return false;
-            });
-            if (field.isVisualsEnabled()) {
-                plugin.getParticleManager().renderField(field);
             }
+            sweepChunks.clear();
         }
-        double maxForce = plugin.getConfigManager().getMaxForce();
-        for (Map.Entry<Entity, Vector> entry : entityForces.entrySet()) {
-            Vector force = entry.getValue();
-            if (force.lengthSquared() > maxForce * maxForce) {
-                force.normalize().multiply(maxForce);
+    }
+
+    /**
+     * Captures a candidate pair for every marked field whose bounds contain an entity.
+     *
+     * @param grid The grid of the entity's world.
+     * @param entity The entity to process.
+     * @param snapshot The snapshot to capture candidate pairs into.
+     */
+    private void addFieldsForEntity(FieldIndex.WorldGrid grid, Entity entity, ForceSnapshot snapshot) {
+        Location loc = entity.getLocation();
+        grid.query(loc.getX(), loc.getY(), loc.getZ(), 0, FieldStore.FLAG_MARKED, queryBuffer);
+        int entitySlot = -1;
+        for (VectorField field : queryBuffer) {
+            if (entitySlot < 0) {
+                entitySlot = snapshot.addEntity(entity);
             }
-            nmsUtil.applyForce(entry.getKey(), force);
+            snapshot.addPair(entitySlot, snapshot.addField(field, impulseScale(field)));
         }
+        queryBuffer.clear();
     }
 
     /**
-     * Removes all active fields.
+     * Releases the membership of entities removed from the world.
+     *
+     * @param event The entity remove event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveEvent event) {
+        membershipTracker.evict(event.getEntity());
+    }
+
+    /**
+     * Releases the membership of entities whose chunk is unloading.
+     *
+     * @param event The entities unload event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            membershipTracker.evict(entity);
+        }
+    }
+
+    /**
+     * Arms the fields covering a loaded chunk and starts reading the shard of its region, unless it
+     * is already in memory. The read runs on the journal writer thread and its fields are
+     * registered on the next tick after it completes.
+     *
+     * @param event The chunk load event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        chunkCoverage.chunkLoaded(chunk.getWorld(), chunk.getX(), chunk.getZ());
+        ShardKey key = ShardKey.ofChunk(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+        if (shards.containsKey(key)) return;
+        finishLoadLater(requestShard(key));
+    }
+
+    /**
+     * Disarms the fields that covered no other loaded chunk than an unloading one, and marks the
+     * shard of its region for eviction once the region has no loaded chunks.
+     *
+     * @param event The chunk unload event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        chunkCoverage.chunkUnloaded(chunk.getWorld(), chunk.getX(), chunk.getZ());
+        ShardKey key = ShardKey.ofChunk(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+        if (shards.containsKey(key)) {
+            evictionCandidates.add(key);
+        }
+    }
+
+    /**
+     * Re-arms fields of a world that was loaded again while some of its fields were still in memory.
+     *
+     * @param event The world load event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        chunkCoverage.worldLoaded(event.getWorld());
+    }
+
+    /**
+     * Disarms the fields of an unloading world and evicts its shards.
+     *
+     * @param event The world unload event.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        chunkCoverage.worldUnloaded(event.getWorld());
+        String world = event.getWorld().getName();
+        for (FieldShard shard : new ArrayList<>(shards.values())) {
+            if (shard.key.world().equals(world)) {
+                evictShard(shard);
+            }
+        }
+    }
+
+    /**
+     * Gets the shard of a field.
+     *
+     * @param field The field.
+     * @return The key of the region containing the field's center.
+     */
+    private static ShardKey shardKey(VectorField field) {
+        Location loc = field.getLocation();
+        return ShardKey.ofBlock(loc.getWorld().getName(), loc.getBlockX(), loc.getBlockZ());
+    }
+
+    /**
+     * Gets a shard, starting its read if it is not in memory. Does not wait for the read.
+     *
+     * @param key The shard key.
+     * @return The shard, which may still be loading.
+     */
+    private FieldShard acquireShard(ShardKey key) {
+        FieldShard shard = shards.get(key);
+        if (shard == null) {
+            shard = requestShard(key);
+            finishLoadLater(shard);
+            // A shard read for a region without loaded chunks would otherwise stay in memory.
+            evictionCandidates.add(key);
+        }
+        return shard;
+    }
+
+    /**
+     * Adds an empty shard and queues the read of its file behind any pending write of it.
+     *
+     * @param key The shard key.
+     * @return The loading shard.
+     */
+    private FieldShard requestShard(ShardKey key) {
+        FieldShard shard = new FieldShard(key);
+        shard.pendingLoad = journal.submit(() -> store.readShard(key));
+        shards.put(key, shard);
+        return shard;
+    }
+
+    /**
+     * Schedules {@link #finishLoad(FieldShard)} on the main thread once a shard's read completes.
+     *
+     * @param shard The loading shard.
+     */
+    private void finishLoadLater(FieldShard shard) {
+        shard.pendingLoad.whenComplete((records, error) ->
+            plugin.getServer().getScheduler().runTask(plugin, () -> finishLoad(shard)));
+    }
+
+    /**
+     * Registers the fields of a loading shard whose read has completed, followed by the fields
+     * created in its region while it was loading. Does nothing if the shard is loaded, was evicted
+     * in the meantime or is still being read. A shard file that fails to load is moved aside and
+     * the shard starts empty.
+     *
+     * @param shard The shard.
+     */
+    private void finishLoad(FieldShard shard) {
+        if (shard.isLoaded() || shards.get(shard.key) != shard || !shard.pendingLoad.isDone()) return;
+        List<FieldRecord> records;
+        try {
+            records = shard.pendingLoad.join();
+        } catch (CompletionException e) {
+            LOGGER.error("Failed to load field shard {}: {}", shard.key, e.getCause().getMessage(), e.getCause());
+            moveAside(store.getShardFile(shard.key).toFile());
+            records = Collections.emptyList();
+        }
+        shard.pendingLoad = null;
+        reconcileOwners(shard.key, ShardedFieldStore.countOwners(records));
+        loadRecords(shard, records);
+        for (VectorField field : shard.created) {
+            // A field whose lifetime ended while the shard was loading is dropped unregistered.
+            if (field.getDurationTicks() > 0 && expiryWheel.getRemaining(field.getId()) == 0) continue;
+            if (field.getCreator() != null) {
+                countOwner(shard.key, field.getCreator(), 1);
+            }
+            registerCreated(field, shard);
+        }
+        shard.created.clear();
+    }
+
+    /**
+     * Waits for every shard that is still being read and registers its fields. Blocks the calling
+     * thread on disk reads, so it is meant for startup, shutdown and headless tools; while running,
+     * loaded shards are registered on the tick after their read completes.
+     */
+    public void awaitShardLoads() {
+        for (FieldShard shard : new ArrayList<>(shards.values())) {
+            if (shard.isLoaded()) continue;
+            try {
+                shard.pendingLoad.join();
+            } catch (CompletionException e) {
+                // Reported by finishLoad, which moves the shard file aside.
+            }
+            finishLoad(shard);
+        }
+    }
+
+    /**
+     * Evicts the candidate shards whose region no longer has any loaded chunk.
+     */
+    private void evictUnloadedShards() {
+        if (evictionCandidates.isEmpty()) return;
+        Iterator<ShardKey> keys = evictionCandidates.iterator();
+        while (keys.hasNext()) {
+            ShardKey key = keys.next();
+            FieldShard shard = shards.get(key);
+            // Kept until the fields created in it are registered, then evicted on a later tick.
+            if (shard != null && !shard.created.isEmpty()) continue;
+            if (shard != null && !isRegionLoaded(key)) {
+                evictShard(shard);
+            }
+            keys.remove();
+        }
+    }
+
+    /**
+     * Checks whether any chunk of a shard's region is loaded.
+     *
+     * @param key The shard key.
+     * @return True if the world is loaded and has a loaded chunk in the region.
+     */
+    private boolean isRegionLoaded(ShardKey key) {
+        World world = plugin.getServer().getWorld(key.world());
+        if (world == null) return false;
+        for (int cx = key.minChunkX(); cx < key.minChunkX() + ShardKey.REGION_CHUNKS; cx++) {
+            for (int cz = key.minChunkZ(); cz < key.minChunkZ() + ShardKey.REGION_CHUNKS; cz++) {
+                if (world.isChunkLoaded(cx, cz)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops a shard's fields from memory, first queueing a write of the shard if it changed. Owner
+     * counts are kept, since the fields still exist. A shard that is still loading is dropped
+     * together with its pending read; fields created in it meanwhile are added to its file once the
+     * read completes.
+     *
+     * @param shard The shard to evict.
+     */
+    private void evictShard(FieldShard shard) {
+        shards.remove(shard.key);
+        if (!shard.isLoaded()) {
+            if (!shard.created.isEmpty()) {
+                List<FieldRecord> created = new ArrayList<>();
+                for (VectorField field : shard.created) {
+                    created.add(toRecord(field));
+                    expiryWheel.cancel(field.getId());
+                }
+                CompletableFuture<List<FieldRecord>> read = shard.pendingLoad;
+                // Queued behind the read on the writer thread, so the read is complete when this runs.
+                journal.submitWrite(() -> {
+                    List<FieldRecord> records = new ArrayList<>(read.join());
+                    records.addAll(created);
+                    store.writeShard(shard.key, records);
+                    return null;
+                });
+                shard.created.clear();
+            }
+            return;
+        }
+        List<FieldRecord> records = shard.needsWrite() ? captureRecords(shard) : null;
+        Map<Long, VectorField> evicted = new HashMap<>();
+        for (VectorField field : shard.fields) {
+            evicted.put(field.getId(), field);
+        }
+        for (VectorField field : evicted.values()) {
+            unregisterField(field);
+            expiryWheel.cancel(field.getId());
+        }
+        shard.fields.clear();
+        membershipTracker.removeFields(evicted);
+        if (records != null) {
+            journal.submitWrite(() -> {
+                store.writeShard(shard.key, records);
+                return null;
+            });
+        }
+        LOGGER.debug("Evicted field shard {} with {} fields", shard.key, evicted.size());
+    }
+
+    /**
+     * Adjusts the owner counts of a shard to the records actually read from it, in case the index
+     * did not match.
+     *
+     * @param key The shard key.
+     * @param actual The number of fields per creator in the shard.
+     */
+    private void reconcileOwners(ShardKey key, Map<UUID, Integer> actual) {
+        Map<UUID, Integer> indexed = shardOwners.getOrDefault(key, Collections.emptyMap());
+        if (indexed.equals(actual)) return;
+        for (Map.Entry<UUID, Integer> owner : indexed.entrySet()) {
+            playerFieldCounts.merge(owner.getKey(), -owner.getValue(), FieldManager::sumOrRemove);
+        }
+        for (Map.Entry<UUID, Integer> owner : actual.entrySet()) {
+            playerFieldCounts.merge(owner.getKey(), owner.getValue(), FieldManager::sumOrRemove);
+        }
+        if (actual.isEmpty()) {
+            shardOwners.remove(key);
+        } else {
+            shardOwners.put(key, new HashMap<>(actual));
+        }
+    }
+
+    /**
+     * Changes how many fields a creator owns, in total and in a shard.
+     *
+     * @param key The shard of the field.
+     * @param creator The creator.
+     * @param delta The change in fields.
+     */
+    private void countOwner(ShardKey key, UUID creator, int delta) {
+        playerFieldCounts.merge(creator, delta, FieldManager::sumOrRemove);
+        Map<UUID, Integer> owners = shardOwners.computeIfAbsent(key, k -> new HashMap<>());
+        owners.merge(creator, delta, FieldManager::sumOrRemove);
+        if (owners.isEmpty()) {
+            shardOwners.remove(key);
+        }
+    }
+
+    private static Integer sumOrRemove(Integer count, Integer delta) {
+        int sum = count + delta;
+        return sum > 0 ? sum : null;
+    }
+
+    /**
+     * Registers a field with its shard, the ID map, spatial index, chunk coverage, baked grid and owner index.
+     *
+     * @param field The field to register, with its ID already assigned.
+     * @param shard The loaded shard of the field.
+     */
+    private void addField(VectorField field, FieldShard shard) {
+        shard.fields.add(field);
+        fieldIndex.add(field);
+        chunkCoverage.add(field);
+        bakedFieldGrid.add(field);
+        fieldsById.put(field.getId(), field);
+        if (field.getCreator() != null) {
+            fieldsByOwner.computeIfAbsent(field.getCreator(), k -> new ArrayList<>()).add(field);
+        }
+    }
+
+    /**
+     * Removes a field for good: unregisters it, takes it out of its shard and releases its slot
+     * in the creator's field count.
+     *
+     * @param field The field to remove.
+     */
+    private void detachField(VectorField field) {
+        unregisterField(field);
+        ShardKey key = shardKey(field);
+        FieldShard shard = shards.get(key);
+        if (shard != null) {
+            shard.fields.remove(field);
+            shard.dirty = true;
+        }
+        if (field.getCreator() != null) {
+            countOwner(key, field.getCreator(), -1);
+        }
+    }
+
+    /**
+     * Unregisters a field from the ID map, spatial index, chunk coverage, baked grid and owner index.
+     *
+     * @param field The field to unregister.
+     */
+    private void unregisterField(VectorField field) {
+        fieldsById.remove(field.getId());
+        fieldIndex.remove(field);
+        chunkCoverage.remove(field);
+        bakedFieldGrid.remove(field);
+        if (field.getCreator() != null) {
+            fieldsByOwner.computeIfPresent(field.getCreator(), (k, v) -> v.remove(field) && v.isEmpty() ? null : v);
+        }
+    }
+
+    /**
+     * Marks the shard of a field as changed since it was last written.
+     *
+     * @param field The changed field.
+     */
+    private void markDirty(VectorField field) {
+        FieldShard shard = shards.get(shardKey(field));
+        if (shard != null) {
+            shard.dirty = true;
+        }
+    }
+
+    /**
+     * Removes all fields and shards from memory. The removals are not journaled, so this does not
+     * touch the stored fields; call {@link #loadFields()} before changing fields again.
      */
     public void clearFields() {
-        fields.clear();
+        shards.clear();
+        shardOwners.clear();
+        evictionCandidates.clear();
+        fieldsById.clear();
+        expiryWheel.clear();
+        fieldIndex.clear();
+        chunkCoverage.clear();
+        bakedFieldGrid.clear();
+        fieldsByOwner.clear();
         playerFieldCounts.clear();
-        entitiesInFields.clear();
+        membershipTracker.clear();
         LOGGER.info("All fields cleared.");
     }
 
     /**
-     * Saves all active fields to fields.yml.
+     * Stops the force worker threads, the bake thread and the journal writer. Called when the plugin
+     * is disabled, after {@link #saveFields()}.
+     */
+    public void shutdown() {
+        forcePipeline.shutdown();
+        bakedFieldGrid.shutdown();
+        journal.close();
+    }
+
+    /**
+     * Waits for the shards still being read, then writes every loaded shard, including the remaining
+     * lifetime of expiring fields, and the index, and truncates the journal. Waits until everything is on disk, so it is meant for shutdown;
+     * while running, {@link #compactJournal()} writes the changed shards in the background.
      */
     public void saveFields() {
-        YamlConfiguration config = new YamlConfiguration();
-        List<String> fieldData = new ArrayList<>();
-        for (VectorField field : fields) {
-            String type = field.getClass().getSimpleName().toLowerCase().replace("field", "");
-            Location loc = field.getLocation();
-            String direction = field instanceof LinearField ? ((LinearField) field).getDirection().toString() : "none";
-            String creator = field.getCreator() != null ? field.getCreator().toString() : "none";
-            String entry = String.format("%s,%s,%f,%d,%s,%s,%d,%b",
-                type, loc.getWorld().getName() + "," + loc.getX() + "," + loc.getY() + "," + loc.getZ(),
-                field.getStrength(), field.getRange(), direction, creator, field.getDurationTicks(), field.isActive());
-            fieldData.add(entry);
-        }
-        config.set("fields", fieldData);
+        awaitShardLoads();
         try {
-            config.save(fieldsFile);
-            LOGGER.info("Saved {} fields to fields.yml", fields.size());
-        } catch (IOException e) {
+            int written = writeShards(true).get(30, TimeUnit.SECONDS);
+            LOGGER.info("Saved {} fields in {} shards", fieldsById.size(), written);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Interrupted while saving fields; the journal still holds the changes");
+        } catch (ExecutionException | TimeoutException e) {
             LOGGER.error("Failed to save fields: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * Loads fields from fields.yml.
+     * Writes the shards changed since they were last written, plus the index, and truncates the
+     * journal on the journal writer thread, if anything was journaled since the last compaction.
+     * Capturing the changed shards is the only work done on the calling thread.
+     */
+    public void compactJournal() {
+        if (journal.getEntriesSinceCompaction() == 0) return;
+        writeShards(false);
+    }
+
+    /**
+     * Compacts the journal once enough entries have accumulated since the last compaction.
+     */
+    private void compactJournalIfLarge() {
+        if (journal.getEntriesSinceCompaction() >= COMPACT_ENTRIES) {
+            compactJournal();
+        }
+    }
+
+    /**
+     * Captures loaded shards and the index, and queues a compaction writing them.
+     *
+     * @param all Whether to write every loaded shard rather than only those that need it.
+     * @return A future completed with the number of shards written once they are on disk.
+     */
+    private CompletableFuture<Integer> writeShards(boolean all) {
+        Map<ShardKey, List<FieldRecord>> changed = new HashMap<>();
+        for (FieldShard shard : shards.values()) {
+            if (shard.isLoaded() && (all || shard.needsWrite())) {
+                changed.put(shard.key, captureRecords(shard));
+                shard.dirty = false;
+            }
+        }
+        ShardIndex index = captureIndex();
+        return journal.compact(() -> {
+            for (Map.Entry<ShardKey, List<FieldRecord>> shard : changed.entrySet()) {
+                store.writeShard(shard.getKey(), shard.getValue());
+            }
+            store.writeIndex(index);
+            return null;
+        }).thenApply(done -> changed.size());
+    }
+
+    /**
+     * Recovers the field store and loads the shards of every loaded chunk. Journal entries left by
+     * a crash are replayed into the shards they belong to, which are then rewritten. Fields in
+     * regions without loaded chunks stay on disk until a chunk of their region loads. An existing
+     * fields.dat or fields.yml from an older version is split into shards once and renamed with a
+     * .migrated suffix. A shard or journal that fails to load is moved aside rather than
+     * overwritten, and a corrupt index is rebuilt from the shards.
      */
     public void loadFields() {
-        if (!fieldsFile.exists()) return;
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(fieldsFile);
-        List<String> fieldData = config.getStringList("fields");
-        for (String entry : fieldData) {
-            try {
-                String[] parts = entry.split(",");
-                String type = parts[0];
-                Location loc = new Location(
-                    plugin.getServer().getWorld(parts[1]),
-                    Double.parseDouble(parts[2]),
-                    Double.parseDouble(parts[3]),
-                    Double.parseDouble(parts[4])
-                );
-                double strength = Double.parseDouble(parts[5]);
-                int range = Integer.parseInt(parts[6]);
-                UUID creator = "none".equals(parts[8]) ? null : UUID.fromString(parts[8]);
-                long duration = Long.parseLong(parts[9]);
-                boolean active = Boolean.parseBoolean(parts[10]);
-                VectorField field;
-                switch (type) {
-                    case "radial":
-                        field = new RadialField(loc, strength, range, creator, duration);
-                        break;
-                    case "linear":
-                        String[] dirParts = parts[7].replace("Vector(", "").replace(")", "").split(", ");
-                        Vector direction = new Vector(
-                            Double.parseDouble(dirParts[0].split("=")[1]),
-                            Double.parseDouble(dirParts[1].split("=")[1]),
-                            Double.parseDouble(dirParts[2].split("=")[1])
-                        );
-                        field = new LinearField(loc, strength, range, direction, creator, duration);
-                        break;
-                    case "vortex":
-                        field = new VortexField(loc, strength, range, creator, duration);
-                        break;
-                    default:
-                        continue;
-                }
-                field.setActive(active);
-                fields.add(field);
-                if (creator != null) {
-                    playerFieldCounts.compute(creator, (k, v) -> v == null ? 1 : v + 1);
+        journal.submit(() -> null).join();
+        File migrateFrom = null;
+        Map<Long, FieldRecord> unsharded = new LinkedHashMap<>();
+        ShardIndex index;
+        boolean rewriteIndex = false;
+        if (!store.exists() && (singleStoreFile.exists() || legacyFile.exists())) {
+            migrateFrom = singleStoreFile.exists() ? singleStoreFile : legacyFile;
+            readUnsharded(migrateFrom, unsharded);
+            index = new ShardIndex(1, new HashMap<>());
+        } else {
+            index = readIndex();
+            rewriteIndex = index == null;
+            if (index == null) {
+                index = rebuildIndex();
+            }
+        }
+        nextFieldId = index.nextFieldId();
+        shardOwners.clear();
+        for (Map.Entry<ShardKey, Map<UUID, Integer>> shard : index.owners().entrySet()) {
+            shardOwners.put(shard.getKey(), new HashMap<>(shard.getValue()));
+        }
+
+        Map<ShardKey, Map<Long, FieldRecord>> recovered = new HashMap<>();
+        int replayed = 0;
+        try {
+            replayed = journal.replay(key -> key == null ? unsharded
+                : recovered.computeIfAbsent(key, this::readShardForRecovery));
+        } catch (IOException e) {
+            LOGGER.error("Failed to replay field journal: {}", e.getMessage(), e);
+            moveAside(journalFile);
+        }
+        for (FieldRecord record : unsharded.values()) {
+            recovered.computeIfAbsent(ShardKey.ofRecord(record), this::readShardForRecovery).put(record.id(), record);
+        }
+        if (!recovered.isEmpty() || rewriteIndex || journal.hasEntries()) {
+            writeRecovered(recovered);
+        }
+        playerFieldCounts.clear();
+        for (Map<UUID, Integer> owners : shardOwners.values()) {
+            for (Map.Entry<UUID, Integer> owner : owners.entrySet()) {
+                playerFieldCounts.merge(owner.getKey(), owner.getValue(), Integer::sum);
+            }
+        }
+        if (migrateFrom != null) {
+            File migrated = new File(migrateFrom.getPath() + ".migrated");
+            if (store.exists() && migrateFrom.renameTo(migrated)) {
+                LOGGER.info("Migrated {} fields from {} into {} shards", unsharded.size(), migrateFrom.getName(), recovered.size());
+            } else {
+                LOGGER.warn("Migrated fields from {} but could not rename it; it will be ignored from now on", migrateFrom.getName());
+            }
+        }
+
+        List<FieldShard> loading = new ArrayList<>();
+        for (World world : plugin.getServer().getWorlds()) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                ShardKey key = ShardKey.ofChunk(world.getName(), chunk.getX(), chunk.getZ());
+                if (!shards.containsKey(key)) {
+                    loading.add(requestShard(key));
                 }
-                if (duration > 0) {
-                    Bukkit.getScheduler().runTaskLater(plugin, () -> removeField(fields.indexOf(field), null), duration);
+            }
+        }
+        awaitShardLoads();
+        LOGGER.info("Loaded {} fields from {} shards and {} journal entries", fieldsById.size(), loading.size(), replayed);
+    }
+
+    /**
+     * Reads the index, moving it aside if it fails to load.
+     *
+     * @return The index, or null if it must be rebuilt.
+     */
+    private ShardIndex readIndex() {
+        try {
+            return store.readIndex();
+        } catch (IOException e) {
+            LOGGER.error("Failed to load field store index: {}", e.getMessage(), e);
+            moveAside(store.getIndexFile().toFile());
+            return null;
+        }
+    }
+
+    /**
+     * Rebuilds the index from every shard file.
+     *
+     * @return The rebuilt index, or an empty one if the store cannot be listed.
+     */
+    private ShardIndex rebuildIndex() {
+        try {
+            ShardIndex index = store.rebuildIndex();
+            LOGGER.warn("Rebuilt the field store index from {} shards with player fields", index.owners().size());
+            return index;
+        } catch (IOException e) {
+            LOGGER.error("Failed to rebuild field store index: {}", e.getMessage(), e);
+            return new ShardIndex(1, new HashMap<>());
+        }
+    }
+
+    /**
+     * Reads the single-file store of an older version for migration. Records without a usable ID
+     * are assigned a new one after all stored IDs are known.
+     *
+     * @param file The fields.dat or fields.yml file.
+     * @param records The map to fill with the records by ID.
+     */
+    private void readUnsharded(File file, Map<Long, FieldRecord> records) {
+        List<FieldRecord> read;
+        if (file == legacyFile) {
+            read = LegacyFieldsFile.read(file);
+        } else {
+            try {
+                read = BinaryFieldStore.read(file.toPath());
+            } catch (IOException e) {
+                LOGGER.error("Failed to load fields: {}", e.getMessage(), e);
+                moveAside(file);
+                return;
+            }
+        }
+        long next = 1;
+        for (FieldRecord record : read) {
+            next = Math.max(next, record.id() + 1);
+        }
+        for (FieldRecord record : read) {
+            if (record.id() <= 0 || records.containsKey(record.id())) {
+                record = record.withId(next++);
+            }
+            records.put(record.id(), record);
+        }
+    }
+
+    /**
+     * Reads a shard during recovery, straight from the calling thread since nothing else is queued.
+     * A shard file that fails to load is moved aside and the shard starts empty.
+     *
+     * @param key The shard key.
+     * @return The records of the shard by ID.
+     */
+    private Map<Long, FieldRecord> readShardForRecovery(ShardKey key) {
+        Map<Long, FieldRecord> records = new LinkedHashMap<>();
+        try {
+            for (FieldRecord record : store.readShard(key)) {
+                records.put(record.id(), record);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to load field shard {}: {}", key, e.getMessage(), e);
+            moveAside(store.getShardFile(key).toFile());
+        }
+        return records;
+    }
+
+    /**
+     * Recounts the owners of recovered shards and writes them together with the index, truncating
+     * the journal. Waits until they are on disk.
+     *
+     * @param recovered The records of every shard changed by replay or migration.
+     */
+    private void writeRecovered(Map<ShardKey, Map<Long, FieldRecord>> recovered) {
+        Map<ShardKey, List<FieldRecord>> changed = new HashMap<>();
+        for (Map.Entry<ShardKey, Map<Long, FieldRecord>> shard : recovered.entrySet()) {
+            for (long id : shard.getValue().keySet()) {
+                nextFieldId = Math.max(nextFieldId, id + 1);
+            }
+            Map<UUID, Integer> owners = ShardedFieldStore.countOwners(shard.getValue().values());
+            if (owners.isEmpty()) {
+                shardOwners.remove(shard.getKey());
+            } else {
+                shardOwners.put(shard.getKey(), owners);
+            }
+            changed.put(shard.getKey(), new ArrayList<>(shard.getValue().values()));
+        }
+        ShardIndex index = captureIndex();
+        try {
+            journal.compact(() -> {
+                for (Map.Entry<ShardKey, List<FieldRecord>> shard : changed.entrySet()) {
+                    store.writeShard(shard.getKey(), shard.getValue());
                 }
-            } catch (Exception e) {
-                LOGGER.error("Failed to load field: {}", entry, e);
+                store.writeIndex(index);
+                return null;
+            }).get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Interrupted while writing recovered fields; the journal still holds the changes");
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.error("Failed to write recovered fields: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Renames a file that failed to load so that the next save does not overwrite it.
+     *
+     * @param file The file.
+     */
+    private void moveAside(File file) {
+        File corrupt = new File(file.getPath() + ".corrupt-" + System.currentTimeMillis());
+        if (file.renameTo(corrupt)) {
+            LOGGER.error("Moved {} aside to {}", file.getName(), corrupt.getName());
+        } else {
+            LOGGER.error("Could not move {} aside", file.getName());
+        }
+    }
+
+    /**
+     * Captures every field of a shard as a storage record.
+     *
+     * @param shard The shard.
+     * @return The records.
+     */
+    private List<FieldRecord> captureRecords(FieldShard shard) {
+        List<FieldRecord> records = new ArrayList<>(shard.fields.size());
+        for (VectorField field : shard.fields) {
+            records.add(toRecord(field));
+        }
+        return records;
+    }
+
+    /**
+     * Captures the index: the next field ID and the owner counts of every shard, loaded or not.
+     *
+     * @return A copy safe to write from another thread.
+     */
+    private ShardIndex captureIndex() {
+        Map<ShardKey, Map<UUID, Integer>> owners = new HashMap<>(shardOwners.size() * 2);
+        for (Map.Entry<ShardKey, Map<UUID, Integer>> shard : shardOwners.entrySet()) {
+            owners.put(shard.getKey(), new HashMap<>(shard.getValue()));
+        }
+        return new ShardIndex(nextFieldId, owners);
+    }
+
+    /**
+     * Registers the fields of a shard from its stored records. Records whose ID is already in use
+     * are skipped.
+     *
+     * @param shard The shard being loaded.
+     * @param records The stored records.
+     */
+    private void loadRecords(FieldShard shard, List<FieldRecord> records) {
+        for (FieldRecord record : records) {
+            if (fieldsById.containsKey(record.id())) {
+                LOGGER.warn("Skipping field #{} in shard {}: its ID is already in use", record.id(), shard.key);
+                continue;
+            }
+            VectorField field;
+            try {
+                field = fromRecord(record);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to load field #{}: {}", record.id(), e.getMessage());
+                continue;
+            }
+            if (field == null) continue;
+            field.setId(record.id());
+            nextFieldId = Math.max(nextFieldId, record.id() + 1);
+            addField(field, shard);
+            if (record.remainingTicks() > 0) {
+                expiryWheel.schedule(field.getId(), record.remainingTicks());
             }
         }
-        LOGGER.info("Loaded {} fields from fields.yml", fields.size());
     }
 
     /**
-     * Modifies the strength of a field at the given index.
+     * Captures a field as a storage record.
      *
-     * @param index The index of the field to modify.
+     * @param field The field.
+     * @return The record.
+     */
+    private FieldRecord toRecord(VectorField field) {
+        String type = field.getClass().getSimpleName().toLowerCase().replace("field", "");
+        Location loc = field.getLocation();
+        Vector direction = field instanceof LinearField ? ((LinearField) field).getDirection() : null;
+        return new FieldRecord(field.getId(), type, loc.getWorld().getName(), loc.getX(), loc.getY(), loc.getZ(),
+            field.getStrength(), field.getRange(),
+            direction != null ? direction.getX() : 0, direction != null ? direction.getY() : 0, direction != null ? direction.getZ() : 0,
+            field.getCreator(), field.getDurationTicks(), expiryWheel.getRemaining(field.getId()),
+            field.isActive(), field.getUpdateInterval(),
+            field instanceof ExpressionField ? ((ExpressionField) field).getExpression() : null);
+    }
+
+    /**
+     * Recreates a field from a storage record, without assigning its ID.
+     *
+     * @param record The record.
+     * @return The field, or null if the record's type is unknown.
+     * @throws IllegalArgumentException If the record's world is not loaded or its expression does not compile.
+     */
+    private VectorField fromRecord(FieldRecord record) {
+        World world = plugin.getServer().getWorld(record.world());
+        if (world == null) {
+            throw new IllegalArgumentException("Unknown world: " + record.world());
+        }
+        Location loc = new Location(world, record.x(), record.y(), record.z());
+        VectorField field;
+        switch (record.type()) {
+            case "radial":
+                field = new RadialField(loc, record.strength(), record.range(), record.creator(), record.durationTicks());
+                break;
+            case "linear":
+                Vector direction = new Vector(record.directionX(), record.directionY(), record.directionZ());
+                field = new LinearField(loc, record.strength(), record.range(), direction, record.creator(), record.durationTicks());
+                break;
+            case "vortex":
+                field = new VortexField(loc, record.strength(), record.range(), record.creator(), record.durationTicks());
+                break;
+            case "expression":
+                field = ExpressionField.parse(loc, record.strength(), record.range(), record.expression(), record.creator(), record.durationTicks());
+                break;
+            default:
+                LOGGER.warn("Skipping field #{} of unknown type {}", record.id(), record.type());
+                return null;
+        }
+        field.setActive(record.active());
+        field.setUpdateInterval(Math.max(1, record.updateInterval()));
+        return field;
+    }
+
+    /**
+     * Modifies the strength of a field by its stable ID.
+     *
+     * @param id The ID of the field to modify.
      * @param newStrength The new strength value.
      * @param requester The UUID of the player requesting the change, or null for API.
-     * @return True if modified, false if invalid or permission denied.
+     * @return True if modified, false if the ID is unknown or permission denied.
      */
-    public boolean modifyFieldStrength(int index, double newStrength, UUID requester) {
-        if (index < 0 || index >= fields.size()) {
-            LOGGER.warn("Invalid field index for modification: {}", index);
+    public boolean modifyFieldStrengthById(long id, double newStrength, UUID requester) {
+        VectorField field = fieldsById.get(id);
+        if (field == null) {
+            LOGGER.warn("Unknown field ID for modification: {}", id);
             return false;
         }
-        VectorField field = fields.get(index);
-        if (requester != null && field.getCreator() != null && !field.getCreator().equals(requester) &&
-            !plugin.getServer().getPlayer(requester).hasPermission("fieldforge.admin")) {
-            LOGGER.warn("Player {} lacks permission to modify field at index {}", requester, index);
+        if (!canManage(field, requester)) {
+            LOGGER.warn("Player {} lacks permission to modify field #{}", requester, id);
             return false;
         }
         field.setStrength(newStrength);
-        LOGGER.info("Modified field strength at index {} to {} by {}", index, newStrength, requester);
+        journal.setStrength(shardKey(field), id, newStrength);
+        markDirty(field);
+        compactJournalIfLarge();
+        bakedFieldGrid.invalidate(field);
+        LOGGER.info("Modified strength of field #{} to {} by {}", id, newStrength, requester);
+        return true;
+    }
+
+    /**
+     * Changes how often a field is evaluated, by its stable ID.
+     *
+     * @param id The ID of the field to modify.
+     * @param ticks The new update interval in ticks, at least 1.
+     * @param requester The UUID of the player requesting the change, or null for API.
+     * @return True if modified, false if the ID is unknown, the interval invalid or permission denied.
+     */
+    public boolean setUpdateIntervalById(long id, int ticks, UUID requester) {
+        VectorField field = fieldsById.get(id);
+        if (field == null) {
+            LOGGER.warn("Unknown field ID for interval change: {}", id);
+            return false;
+        }
+        if (ticks < 1) {
+            LOGGER.warn("Invalid update interval for field #{}: {}", id, ticks);
+            return false;
+        }
+        if (!canManage(field, requester)) {
+            LOGGER.warn("Player {} lacks permission to modify field #{}", requester, id);
+            return false;
+        }
+        field.setUpdateInterval(ticks);
+        bakedFieldGrid.refresh(field);
+        journal.setUpdateInterval(shardKey(field), id, ticks);
+        markDirty(field);
+        compactJournalIfLarge();
+        LOGGER.info("Set update interval of field #{} to {} ticks by {}", id, ticks, requester);
         return true;
     }
 
+    /**
+     * Modifies the strength of a field at the given index.
+     *
+     * @param index The index of the field to modify.
+     * @param newStrength The new strength value.
+     * @param requester The UUID of the player requesting the change, or null for API.
+     * @return True if modified, false if invalid or permission denied.
+     * @deprecated Indices shift whenever a field is removed; use {@link #modifyFieldStrengthById(long, double, UUID)}.
+     */
+    @Deprecated
+    public boolean modifyFieldStrength(int index, double newStrength, UUID requester) {
+        VectorField field = getFieldAt(index);
+        return field != null && modifyFieldStrengthById(field.getId(), newStrength, requester);
+    }
+
+    /**
+     * Gets a field by its stable ID.
+     *
+     * @param id The field ID.
+     * @return The field, or null if no loaded field has this ID.
+     */
+    public VectorField getFieldById(long id) {
+        return fieldsById.get(id);
+    }
+
+    /**
+     * Gets all fields in regions with loaded chunks, in the order they were loaded or created.
+     *
+     * @return Snapshot list of all vector fields.
+     */
+    public List<VectorField> getFields() {
+        return new ArrayList<>(fieldsById.values());
+    }
+
     /**
      * Gets fields owned by a specific player.
      *
      * @param playerUUID The UUID of the player.
-     * @return List of fields owned by the player.
+     * @return An unmodifiable snapshot of the fields owned by the player.
      */
     public List<VectorField> getFieldsByPlayer(UUID playerUUID) {
-        return fields.stream()
-            .filter(f -> f.getCreator() != null && f.getCreator().equals(playerUUID))
-            .toList();
+        List<VectorField> owned = fieldsByOwner.get(playerUUID);
+        return owned != null ? List.copyOf(owned) : List.of();
     }
 
     /**
-     * Toggles the active state of a field.
+     * Gets fields whose area of effect reaches within a radius of a location.
      *
-     * @param index The index of the field to toggle.
+     * @param location The center of the query.
+     * @param radius The query radius in blocks (0 for fields containing the location).
+     * @return List of matching fields.
+     */
+    public List<VectorField> getFieldsNear(Location location, double radius) {
+        return fieldIndex.query(location, radius);
+    }
+
+    /**
+     * Gets fields centered within a block-aligned region of a world.
+     *
+     * @param world The world to search.
+     * @param minX The minimum X coordinate.
+     * @param minZ The minimum Z coordinate.
+     * @param maxX The maximum X coordinate.
+     * @param maxZ The maximum Z coordinate.
+     * @return List of matching fields.
+     */
+    public List<VectorField> getFieldsInRegion(World world, int minX, int minZ, int maxX, int maxZ) {
+        return fieldIndex.queryRegion(world, minX, minZ, maxX, maxZ);
+    }
+
+    /**
+     * Toggles the active state of a field by its stable ID.
+     *
+     * @param id The ID of the field to toggle.
      * @param requester The UUID of the player requesting the toggle, or null for API.
-     * @return True if toggled, false if invalid or permission denied.
+     * @return True if toggled, false if the ID is unknown or permission denied.
      */
-    public boolean toggleFieldActive(int index, UUID requester) {
-        if (index < 0 || index >= fields.size()) {
-            LOGGER.warn("Invalid field index for toggle: {}", index);
+    public boolean toggleFieldActiveById(long id, UUID requester) {
+        VectorField field = fieldsById.get(id);
+        if (field == null) {
+            LOGGER.warn("Unknown field ID for toggle: {}", id);
             return false;
         }
-        VectorField field = fields.get(index);
-        if (requester != null && field.getCreator() != null && !field.getCreator().equals(requester) &&
-            !plugin.getServer().getPlayer(requester).hasPermission("fieldforge.admin")) {
-            LOGGER.warn("Player {} lacks permission to toggle field at index {}", requester, index);
+        if (!canManage(field, requester)) {
+            LOGGER.warn("Player {} lacks permission to toggle field #{}", requester, id);
             return false;
         }
         field.setActive(!field.isActive());
-        LOGGER.info("Field at index {} set to active: {} by {}", index, field.isActive(), requester);
+        bakedFieldGrid.invalidate(field);
+        journal.setActive(shardKey(field), id, field.isActive());
+        markDirty(field);
+        compactJournalIfLarge();
+        LOGGER.info("Field #{} set to active: {} by {}", id, field.isActive(), requester);
         return true;
     }
+
+    /**
+     * Toggles the active state of a field.
+     *
+     * @param index The index of the field to toggle.
+     * @param requester The UUID of the player requesting the toggle, or null for API.
+     * @return True if toggled, false if invalid or permission denied.
+     * @deprecated Indices shift whenever a field is removed; use {@link #toggleFieldActiveById(long, UUID)}.
+     */
+    @Deprecated
+    public boolean toggleFieldActive(int index, UUID requester) {
+        VectorField field = getFieldAt(index);
+        return field != null && toggleFieldActiveById(field.getId(), requester);
+    }
+
+    /**
+     * Checks whether a requester may manage a field.
+     *
+     * @param field The field.
+     * @param requester The UUID of the requesting player, or null for API.
+     * @return True if the requester owns the field, is an admin, or is the API.
+     */
+    public boolean canManage(VectorField field, UUID requester) {
+        if (requester == null || field.getCreator() == null || field.getCreator().equals(requester)) return true;
+        Player player = plugin.getServer().getPlayer(requester);
+        return player != null && player.hasPermission("fieldforge.admin");
+    }
+
+    private VectorField getFieldAt(int index) {
+        if (index < 0 || index >= fieldsById.size()) {
+            LOGGER.warn("Invalid field index: {}", index);
+            return null;
+        }
+        return getFields().get(index);
+    }
 }
\ No newline at end of file
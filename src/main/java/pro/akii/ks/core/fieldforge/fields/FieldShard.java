@@ -0,0 +1,61 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import pro.akii.ks.core.fieldforge.storage.FieldRecord;
+import pro.akii.ks.core.fieldforge.storage.ShardKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-memory state of one shard of the field store: the loaded fields of a region, whether they
+ * changed since the shard was last written, and the pending read while the shard is loading,
+ * together with the fields created in the region meanwhile.
+ */
+class FieldShard {
+    final ShardKey key;
+    final Set<VectorField> fields;
+    /** The read of the shard file, until its records are registered; null once loaded. */
+    CompletableFuture<List<FieldRecord>> pendingLoad;
+    /** Fields created while the shard was loading, registered after its records. */
+    final List<VectorField> created;
+    /** Whether a field of the shard changed since the shard was last written. */
+    boolean dirty;
+
+    /**
+     * Constructs a new, empty FieldShard.
+     *
+     * @param key The shard key.
+     */
+    FieldShard(ShardKey key) {
+        this.key = key;
+        this.fields = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.created = new ArrayList<>();
+    }
+
+    /**
+     * Checks whether the shard's records have been registered.
+     *
+     * @return True if no read is pending.
+     */
+    boolean isLoaded() {
+        return pendingLoad == null;
+    }
+
+    /**
+     * Checks whether writing the shard would change its file: it was modified, or it holds
+     * expiring fields whose remaining lifetime has moved on.
+     *
+     * @return True if the shard should be written before it is dropped.
+     */
+    boolean needsWrite() {
+        if (dirty) return true;
+        for (VectorField field : fields) {
+            if (field.getDurationTicks() > 0) return true;
+        }
+        return false;
+    }
+}
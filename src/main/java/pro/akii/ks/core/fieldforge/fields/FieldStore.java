@@ -0,0 +1,350 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import pro.akii.ks.core.fieldforge.fields.types.ExpressionField;
+import pro.akii.ks.core.fieldforge.fields.types.LinearField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.fields.types.VortexField;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registered fields in struct-of-arrays form: the ID, center, range, strength, update interval, type
+ * tag and flags of each field live in parallel primitive arrays at a dense slot, so loops over many
+ * fields stream through a few arrays instead of visiting one heap object and its {@link
+ * org.bukkit.Location} per field. Removing a field moves the last one into its slot, keeping the
+ * slots compact.
+ * <p>
+ * A registered {@link VectorField} is a view of its slot: its mutable state is read from and
+ * written to the arrays, and copied back into the object when it is removed. The shape parameters
+ * are also kept in the object, which is what {@link VectorField#accumulateForce} reads, since force
+ * workers may still be running while the main thread moves slots. Main thread only.
+ */
+public final class FieldStore {
+    /** Type tag of {@link RadialField}s. */
+    public static final byte TYPE_RADIAL = 0;
+    /** Type tag of {@link LinearField}s. */
+    public static final byte TYPE_LINEAR = 1;
+    /** Type tag of {@link VortexField}s. */
+    public static final byte TYPE_VORTEX = 2;
+    /** Type tag of {@link ExpressionField}s. */
+    public static final byte TYPE_EXPRESSION = 3;
+    /** Type tag of field types from other plugins. */
+    public static final byte TYPE_OTHER = 4;
+    static final byte FLAG_ACTIVE = 1;
+    static final byte FLAG_VISUALS = 1 << 1;
+    /** Set by the field manager on the fields it evaluates this tick; cleared before the tick ends. */
+    static final byte FLAG_MARKED = 1 << 2;
+    /** Set by {@link ChunkCoverage} while the field covers at least one loaded chunk. */
+    static final byte FLAG_ARMED = 1 << 3;
+
+    private final Map<UUID, Integer> worldIndexes;
+    VectorField[] fields;
+    long[] ids;
+    int[] worlds;
+    double[] x;
+    double[] y;
+    double[] z;
+    int[] ranges;
+    double[] rangeSquared;
+    double[] strengths;
+    int[] updateIntervals;
+    byte[] types;
+    byte[] flags;
+    /** Per-tick scratch: the number of ticks a marked field's update stands for. Not moved on removal. */
+    int[] dueIntervals;
+    int size;
+
+    /**
+     * Constructs a new, empty FieldStore.
+     *
+     * @param capacity The number of fields to size the arrays for.
+     */
+    public FieldStore(int capacity) {
+        int length = Math.max(16, capacity);
+        this.worldIndexes = new HashMap<>();
+        this.fields = new VectorField[length];
+        this.ids = new long[length];
+        this.worlds = new int[length];
+        this.x = new double[length];
+        this.y = new double[length];
+        this.z = new double[length];
+        this.ranges = new int[length];
+        this.rangeSquared = new double[length];
+        this.strengths = new double[length];
+        this.updateIntervals = new int[length];
+        this.types = new byte[length];
+        this.flags = new byte[length];
+        this.dueIntervals = new int[length];
+    }
+
+    /**
+     * Adds a field in the next free slot and makes the field a view of it.
+     *
+     * @param field The field, which must not be in a store.
+     * @return The field's slot.
+     * @throws IllegalArgumentException If the field is already in a store.
+     */
+    public int add(VectorField field) {
+        if (field.store != null) {
+            throw new IllegalArgumentException("Field #" + field.getId() + " is already in a store.");
+        }
+        if (size == fields.length) {
+            grow();
+        }
+        int slot = size++;
+        fields[slot] = field;
+        ids[slot] = field.getId();
+        worlds[slot] = worldIndexes.computeIfAbsent(field.getLocation().getWorld().getUID(), k -> worldIndexes.size());
+        x[slot] = field.getLocation().getX();
+        y[slot] = field.getLocation().getY();
+        z[slot] = field.getLocation().getZ();
+        ranges[slot] = field.getRange();
+        rangeSquared[slot] = (double) field.getRange() * field.getRange();
+        strengths[slot] = field.getStrength();
+        updateIntervals[slot] = field.getUpdateInterval();
+        types[slot] = typeOf(field);
+        flags[slot] = (byte) ((field.isActive() ? FLAG_ACTIVE : 0) | (field.isVisualsEnabled() ? FLAG_VISUALS : 0));
+        field.attach(this, slot);
+        return slot;
+    }
+
+    /**
+     * Removes a field, copying its state back into the object, and moves the field in the last slot
+     * into the freed one.
+     *
+     * @param field The field.
+     * @return The previous slot of the field that moved into the freed slot, or -1 if none moved.
+     * @throws IllegalArgumentException If the field is not in this store.
+     */
+    public int remove(VectorField field) {
+        if (field.store != this) {
+            throw new IllegalArgumentException("Field #" + field.getId() + " is not in this store.");
+        }
+        int slot = field.storeSlot;
+        field.detach(strengths[slot], updateIntervals[slot], (flags[slot] & FLAG_ACTIVE) != 0, (flags[slot] & FLAG_VISUALS) != 0);
+        int last = --size;
+        if (slot != last) {
+            fields[slot] = fields[last];
+            ids[slot] = ids[last];
+            worlds[slot] = worlds[last];
+            x[slot] = x[last];
+            y[slot] = y[last];
+            z[slot] = z[last];
+            ranges[slot] = ranges[last];
+            rangeSquared[slot] = rangeSquared[last];
+            strengths[slot] = strengths[last];
+            updateIntervals[slot] = updateIntervals[last];
+            types[slot] = types[last];
+            flags[slot] = flags[last];
+            fields[slot].storeSlot = slot;
+        }
+        fields[last] = null;
+        return slot != last ? last : -1;
+    }
+
+    /**
+     * Removes every field, copying their state back into the objects.
+     */
+    public void clear() {
+        for (int slot = 0; slot < size; slot++) {
+            fields[slot].detach(strengths[slot], updateIntervals[slot], (flags[slot] & FLAG_ACTIVE) != 0, (flags[slot] & FLAG_VISUALS) != 0);
+        }
+        Arrays.fill(fields, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Gets the number of fields.
+     *
+     * @return The field count; slots run from 0 to this count, exclusive.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the field in a slot.
+     *
+     * @param slot The slot.
+     * @return The field.
+     */
+    public VectorField get(int slot) {
+        return fields[slot];
+    }
+
+    /**
+     * Gets the ID of a slot's field.
+     *
+     * @param slot The slot.
+     * @return The field ID.
+     */
+    public long getId(int slot) {
+        return ids[slot];
+    }
+
+    /**
+     * Gets the small number the store uses for a world, for comparing {@link #getWorld(int)} against.
+     *
+     * @param worldId The world's UUID.
+     * @return The world's index, or -1 if no field has been added in that world.
+     */
+    public int worldIndex(UUID worldId) {
+        return worldIndexes.getOrDefault(worldId, -1);
+    }
+
+    /**
+     * Gets the world index of a slot.
+     *
+     * @param slot The slot.
+     * @return The index of the field's world, see {@link #worldIndex(UUID)}.
+     */
+    public int getWorld(int slot) {
+        return worlds[slot];
+    }
+
+    /**
+     * Gets the X coordinate of the center of a slot's field.
+     *
+     * @param slot The slot.
+     * @return The X coordinate.
+     */
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Gets the Y coordinate of the center of a slot's field.
+     *
+     * @param slot The slot.
+     * @return The Y coordinate.
+     */
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Gets the Z coordinate of the center of a slot's field.
+     *
+     * @param slot The slot.
+     * @return The Z coordinate.
+     */
+    public double getZ(int slot) {
+        return z[slot];
+    }
+
+    /**
+     * Gets the range of a slot's field.
+     *
+     * @param slot The slot.
+     * @return The range in blocks.
+     */
+    public int getRange(int slot) {
+        return ranges[slot];
+    }
+
+    /**
+     * Gets the strength of a slot's field.
+     *
+     * @param slot The slot.
+     * @return The strength.
+     */
+    public double getStrength(int slot) {
+        return strengths[slot];
+    }
+
+    /**
+     * Gets the update interval of a slot's field.
+     *
+     * @param slot The slot.
+     * @return The interval in ticks.
+     */
+    public int getUpdateInterval(int slot) {
+        return updateIntervals[slot];
+    }
+
+    /**
+     * Gets the type tag of a slot's field.
+     *
+     * @param slot The slot.
+     * @return One of the {@code TYPE_} constants.
+     */
+    public byte getType(int slot) {
+        return types[slot];
+    }
+
+    /**
+     * Checks whether a slot's field is active.
+     *
+     * @param slot The slot.
+     * @return True if the field is active.
+     */
+    public boolean isActive(int slot) {
+        return (flags[slot] & FLAG_ACTIVE) != 0;
+    }
+
+    /**
+     * Checks whether a slot's field covers a loaded chunk.
+     *
+     * @param slot The slot.
+     * @return True if the field is armed.
+     */
+    public boolean isArmed(int slot) {
+        return (flags[slot] & FLAG_ARMED) != 0;
+    }
+
+    /**
+     * Sets or clears a flag of a slot.
+     *
+     * @param slot The slot.
+     * @param flag The flag bit.
+     * @param value Whether to set the flag.
+     */
+    void setFlag(int slot, byte flag, boolean value) {
+        flags[slot] = (byte) (value ? flags[slot] | flag : flags[slot] & ~flag);
+    }
+
+    /**
+     * Clears a flag in every slot.
+     *
+     * @param flag The flag bit.
+     */
+    void clearFlag(byte flag) {
+        for (int slot = 0; slot < size; slot++) {
+            flags[slot] &= (byte) ~flag;
+        }
+    }
+
+    /**
+     * Maps a field to its type tag.
+     *
+     * @param field The field.
+     * @return One of the {@code TYPE_} constants.
+     */
+    static byte typeOf(VectorField field) {
+        if (field instanceof RadialField) return TYPE_RADIAL;
+        if (field instanceof LinearField) return TYPE_LINEAR;
+        if (field instanceof VortexField) return TYPE_VORTEX;
+        if (field instanceof ExpressionField) return TYPE_EXPRESSION;
+        return TYPE_OTHER;
+    }
+
+    private void grow() {
+        int capacity = fields.length * 2;
+        fields = Arrays.copyOf(fields, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        worlds = Arrays.copyOf(worlds, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        ranges = Arrays.copyOf(ranges, capacity);
+        rangeSquared = Arrays.copyOf(rangeSquared, capacity);
+        strengths = Arrays.copyOf(strengths, capacity);
+        updateIntervals = Arrays.copyOf(updateIntervals, capacity);
+        types = Arrays.copyOf(types, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        dueIntervals = Arrays.copyOf(dueIntervals, capacity);
+    }
+}
@@ -0,0 +1,216 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import org.bukkit.entity.Entity;
+
+import java.util.Arrays;
+
+/**
+ * Net-force accumulator keyed by entity ID. An open-addressing table maps each entity ID to a
+ * dense slot, and the force components of each slot live in parallel {@code double[]} arrays,
+ * so accumulating a force allocates nothing. The arrays are kept between ticks and only grow.
+ */
+public class ForceAccumulator {
+    private static final int EMPTY = -1;
+
+    private int[] table;
+    private int mask;
+    private int[] ids;
+    private Entity[] entities;
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private int size;
+
+    /**
+     * Constructs a new, empty ForceAccumulator.
+     *
+     * @param expectedEntities The number of entities to size the arrays for.
+     */
+    public ForceAccumulator(int expectedEntities) {
+        int capacity = Math.max(16, Integer.highestOneBit(Math.max(1, expectedEntities) - 1) << 1);
+        this.table = new int[capacity * 2];
+        this.mask = table.length - 1;
+        Arrays.fill(table, EMPTY);
+        this.ids = new int[capacity];
+        this.entities = new Entity[capacity];
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.z = new double[capacity];
+    }
+
+    /**
+     * Gets the slot of an entity, adding it with a zero force if it has none yet.
+     *
+     * @param entity The entity.
+     * @return The entity's slot.
+     */
+    public int slot(Entity entity) {
+        int id = entity.getEntityId();
+        int index = hash(id) & mask;
+        while (table[index] != EMPTY) {
+            if (ids[table[index]] == id) return table[index];
+            index = (index + 1) & mask;
+        }
+        if (size == ids.length) {
+            grow();
+            return slot(entity);
+        }
+        int slot = size++;
+        table[index] = slot;
+        ids[slot] = id;
+        entities[slot] = entity;
+        x[slot] = 0;
+        y[slot] = 0;
+        z[slot] = 0;
+        return slot;
+    }
+
+    /**
+     * Finds the slot of an entity ID without adding it.
+     *
+     * @param entityId The entity ID.
+     * @return The slot, or -1 if the entity has not been added.
+     */
+    public int find(int entityId) {
+        int index = hash(entityId) & mask;
+        while (table[index] != EMPTY) {
+            if (ids[table[index]] == entityId) return table[index];
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Adds a force to a slot. Distinct slots may be written from different threads.
+     *
+     * @param slot The entity's slot.
+     * @param fx The X component.
+     * @param fy The Y component.
+     * @param fz The Z component.
+     */
+    public void add(int slot, double fx, double fy, double fz) {
+        x[slot] += fx;
+        y[slot] += fy;
+        z[slot] += fz;
+    }
+
+    /**
+     * Overwrites the net force of a slot.
+     *
+     * @param slot The slot.
+     * @param fx The X component.
+     * @param fy The Y component.
+     * @param fz The Z component.
+     */
+    public void set(int slot, double fx, double fy, double fz) {
+        x[slot] = fx;
+        y[slot] = fy;
+        z[slot] = fz;
+    }
+
+    /**
+     * Scales the net force of a slot down to a maximum magnitude.
+     *
+     * @param slot The entity's slot.
+     * @param maxForce The maximum force magnitude.
+     */
+    public void clamp(int slot, double maxForce) {
+        double lengthSquared = x[slot] * x[slot] + y[slot] * y[slot] + z[slot] * z[slot];
+        if (lengthSquared <= maxForce * maxForce) return;
+        double scale = maxForce / Math.sqrt(lengthSquared);
+        x[slot] *= scale;
+        y[slot] *= scale;
+        z[slot] *= scale;
+    }
+
+    /**
+     * Gets the entity stored in a slot.
+     *
+     * @param slot The slot.
+     * @return The entity.
+     */
+    public Entity getEntity(int slot) {
+        return entities[slot];
+    }
+
+    /**
+     * Gets the X component of a slot's net force.
+     *
+     * @param slot The slot.
+     * @return The X component.
+     */
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Gets the Y component of a slot's net force.
+     *
+     * @param slot The slot.
+     * @return The Y component.
+     */
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Gets the Z component of a slot's net force.
+     *
+     * @param slot The slot.
+     * @return The Z component.
+     */
+    public double getZ(int slot) {
+        return z[slot];
+    }
+
+    /**
+     * Gets the number of occupied slots; slots are numbered from 0 in insertion order.
+     *
+     * @return The slot count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of slots available before the arrays have to grow.
+     *
+     * @return The slot capacity.
+     */
+    public int capacity() {
+        return ids.length;
+    }
+
+    /**
+     * Empties the accumulator while keeping its arrays for the next tick.
+     */
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        Arrays.fill(entities, 0, size, null);
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        entities = Arrays.copyOf(entities, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        table = new int[capacity * 2];
+        mask = table.length - 1;
+        Arrays.fill(table, EMPTY);
+        for (int slot = 0; slot < size; slot++) {
+            int index = hash(ids[slot]) & mask;
+            while (table[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            table[index] = slot;
+        }
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
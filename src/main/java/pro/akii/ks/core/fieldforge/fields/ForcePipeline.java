@@ -0,0 +1,133 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the force math of a {@link ForceSnapshot} either inline on the main thread or, when worker
+ * threads are configured, on a dedicated ForkJoin pool. In the parallel case the results of one
+ * tick's snapshot are applied on the following tick, and no new snapshot is taken while the
+ * previous one is still computing, so the main thread never waits on the workers.
+ */
+public class ForcePipeline {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ForcePipeline.class);
+    private static final int SPLIT_THRESHOLD = 256;
+
+    private final ForceSnapshot snapshot;
+    private final ForkJoinPool pool;
+    private ForkJoinTask<?> task;
+    private boolean pending;
+    private volatile long lastComputeNanos;
+
+    /**
+     * Constructs a new ForcePipeline instance.
+     *
+     * @param threads The number of worker threads, or 0 to compute on the calling thread.
+     */
+    public ForcePipeline(int threads) {
+        this.snapshot = new ForceSnapshot();
+        this.pool = threads > 0 ? new ForkJoinPool(threads) : null;
+        if (pool != null) {
+            LOGGER.info("Computing field forces on {} worker threads", threads);
+        }
+    }
+
+    /**
+     * Gets the snapshot to fill for the next computation.
+     *
+     * @return The reusable snapshot.
+     */
+    ForceSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Checks whether a submitted snapshot is still being computed.
+     *
+     * @return True if workers are still busy.
+     */
+    public boolean isComputing() {
+        return task != null && !task.isDone();
+    }
+
+    /**
+     * Computes the snapshot, inline when synchronous or by starting it on the worker pool.
+     */
+    void compute() {
+        pending = true;
+        if (pool == null) {
+            long start = System.nanoTime();
+            snapshot.prepare();
+            snapshot.computeRange(0, snapshot.entityCount);
+            lastComputeNanos = System.nanoTime() - start;
+            return;
+        }
+        task = pool.submit(() -> {
+            long start = System.nanoTime();
+            snapshot.prepare();
+            new RangeTask(0, snapshot.entityCount).invoke();
+            lastComputeNanos = System.nanoTime() - start;
+        });
+    }
+
+    /**
+     * Gets how long the last finished computation took, wherever it ran.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long getLastComputeNanos() {
+        return lastComputeNanos;
+    }
+
+    /**
+     * Claims the results of the last computation if it has finished.
+     *
+     * @return True if the snapshot holds results that have not been applied yet.
+     */
+    boolean collect() {
+        if (!pending || isComputing()) return false;
+        pending = false;
+        ForkJoinTask<?> finished = task;
+        task = null;
+        if (finished != null && finished.isCompletedAbnormally()) {
+            LOGGER.error("Force computation failed; dropping this tick's forces", finished.getException());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stops the worker pool, abandoning any computation in flight.
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+        task = null;
+        pending = false;
+    }
+
+    private final class RangeTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        private RangeTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                snapshot.computeRange(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid), new RangeTask(mid, to));
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import pro.akii.ks.core.fieldforge.fields.types.ExpressionField;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One tick's worth of force work captured as plain data: entity positions, the parameters of the
+ * armed fields and the candidate (entity, field) pairs to evaluate. Entities are numbered by their
+ * slot in a {@link ForceAccumulator}, which also receives the net forces. Built on the main thread,
+ * computed by {@link #computeRange(int, int)} on any thread, then read back on the main thread.
+ * Fields with a {@link BakedFieldGrid} lattice are sampled from it once per entity instead of being
+ * evaluated pair by pair. The instance is reused across ticks, so its arrays only grow.
+ */
+final class ForceSnapshot {
+    private final Map<VectorField, Integer> fieldSlots;
+    final Set<Long> retainedFieldIds;
+    final ForceAccumulator accumulator;
+    double[] positions;
+    int entityCount;
+    VectorField[] fields;
+    long[] fieldIds;
+    double[] fieldStrengths;
+    BakedFieldGrid.WorldLattice[] fieldLattices;
+    int fieldCount;
+    int[] pairEntities;
+    int[] pairFields;
+    boolean[] pairHits;
+    int pairCount;
+    int[] entityPairStart;
+    int[] entityPairs;
+    boolean[] affected;
+    double maxForce;
+    /** The value of {@code t} handed to expression fields this tick, in seconds. */
+    double time;
+    /** The grid baked fields are looked up in, or null to evaluate every field exactly. */
+    BakedFieldGrid bakedGrid;
+
+    ForceSnapshot() {
+        this.fieldSlots = new IdentityHashMap<>();
+        this.retainedFieldIds = new HashSet<>();
+        this.accumulator = new ForceAccumulator(64);
+        this.positions = new double[64 * 3];
+        this.fields = new VectorField[16];
+        this.fieldIds = new long[16];
+        this.fieldStrengths = new double[16];
+        this.fieldLattices = new BakedFieldGrid.WorldLattice[16];
+        this.pairEntities = new int[256];
+        this.pairFields = new int[256];
+        this.pairHits = new boolean[256];
+        this.entityPairStart = new int[65];
+        this.entityPairs = new int[256];
+        this.affected = new boolean[64];
+    }
+
+    /**
+     * Registers an entity, capturing its position the first time it is seen this tick.
+     *
+     * @param entity The entity.
+     * @return The entity's slot.
+     */
+    int addEntity(Entity entity) {
+        int slot = accumulator.slot(entity);
+        if (slot < entityCount) return slot;
+        if (positions.length < accumulator.capacity() * 3) {
+            positions = Arrays.copyOf(positions, accumulator.capacity() * 3);
+        }
+        Location loc = entity.getLocation();
+        positions[slot * 3] = loc.getX();
+        positions[slot * 3 + 1] = loc.getY();
+        positions[slot * 3 + 2] = loc.getZ();
+        entityCount++;
+        return slot;
+    }
+
+    /**
+     * Registers a field, capturing its current strength the first time it is seen this tick.
+     *
+     * @param field The field.
+     * @return The field's slot.
+     */
+    int addField(VectorField field) {
+        return addField(field, 1);
+    }
+
+    /**
+     * Registers a field, capturing its current strength times an impulse scale the first time it is
+     * seen this tick. Fields updated every n ticks use a scale of n to deliver the same total impulse.
+     * Expression fields also receive the snapshot's {@link #time}.
+     *
+     * @param field The field.
+     * @param scale The multiplier applied to the field's strength.
+     * @return The field's slot.
+     */
+    int addField(VectorField field, double scale) {
+        Integer slot = fieldSlots.get(field);
+        if (slot != null) return slot;
+        if (fieldCount == fields.length) {
+            int capacity = fieldCount * 2;
+            fields = Arrays.copyOf(fields, capacity);
+            fieldIds = Arrays.copyOf(fieldIds, capacity);
+            fieldStrengths = Arrays.copyOf(fieldStrengths, capacity);
+            fieldLattices = Arrays.copyOf(fieldLattices, capacity);
+        }
+        fields[fieldCount] = field;
+        fieldIds[fieldCount] = field.getId();
+        fieldStrengths[fieldCount] = field.getStrength() * scale;
+        fieldLattices[fieldCount] = bakedGrid != null ? bakedGrid.getLattice(field) : null;
+        if (field instanceof ExpressionField expression) {
+            expression.setTime(time);
+        }
+        fieldSlots.put(field, fieldCount);
+        return fieldCount++;
+    }
+
+    /**
+     * Adds a candidate pair to evaluate.
+     *
+     * @param entitySlot The entity's slot.
+     * @param fieldSlot The field's slot.
+     */
+    void addPair(int entitySlot, int fieldSlot) {
+        if (pairCount == pairEntities.length) {
+            int capacity = pairCount * 2;
+            pairEntities = Arrays.copyOf(pairEntities, capacity);
+            pairFields = Arrays.copyOf(pairFields, capacity);
+        }
+        pairEntities[pairCount] = entitySlot;
+        pairFields[pairCount] = fieldSlot;
+        pairCount++;
+    }
+
+    /**
+     * Groups the candidate pairs by entity with a counting sort and sizes the result arrays.
+     * Runs before the parallel phase; does not touch any Bukkit state.
+     */
+    void prepare() {
+        if (entityPairStart.length < entityCount + 1) {
+            entityPairStart = new int[accumulator.capacity() + 1];
+        }
+        if (entityPairs.length < pairCount) {
+            entityPairs = new int[pairEntities.length];
+        }
+        if (pairHits.length < pairCount) {
+            pairHits = new boolean[pairEntities.length];
+        }
+        if (affected.length < entityCount) {
+            affected = new boolean[accumulator.capacity()];
+        }
+        Arrays.fill(entityPairStart, 0, entityCount + 1, 0);
+        for (int p = 0; p < pairCount; p++) {
+            entityPairStart[pairEntities[p] + 1]++;
+        }
+        for (int e = 0; e < entityCount; e++) {
+            entityPairStart[e + 1] += entityPairStart[e];
+        }
+        int[] next = Arrays.copyOf(entityPairStart, entityCount);
+        for (int p = 0; p < pairCount; p++) {
+            entityPairs[next[pairEntities[p]]++] = p;
+        }
+    }
+
+    /**
+     * Accumulates and clamps the net force on a range of entity slots. Different ranges may run concurrently.
+     * Baked pairs are skipped in the first pass and handled together by {@link #computeBaked}.
+     *
+     * @param from The first entity slot, inclusive.
+     * @param to The last entity slot, exclusive.
+     */
+    void computeRange(int from, int to) {
+        for (int e = from; e < to; e++) {
+            double x = positions[e * 3];
+            double y = positions[e * 3 + 1];
+            double z = positions[e * 3 + 2];
+            boolean hit = false;
+            BakedFieldGrid.WorldLattice lattice = null;
+            for (int i = entityPairStart[e]; i < entityPairStart[e + 1]; i++) {
+                int pair = entityPairs[i];
+                int f = pairFields[pair];
+                if (fieldLattices[f] != null) {
+                    lattice = fieldLattices[f];
+                    continue;
+                }
+                pairHits[pair] = fields[f].accumulateForce(x, y, z, fieldStrengths[f], accumulator, e);
+                hit |= pairHits[pair];
+            }
+            if (lattice != null) {
+                hit |= computeBaked(e, x, y, z, lattice);
+            }
+            accumulator.clamp(e, maxForce);
+            affected[e] = hit;
+        }
+    }
+
+    /**
+     * Adds the force of an entity's baked pairs: one lattice sample covering all of them when the
+     * entity's section is baked, otherwise an exact evaluation per pair. Membership is always exact.
+     *
+     * @param e The entity slot.
+     * @param x The X coordinate of the entity.
+     * @param y The Y coordinate of the entity.
+     * @param z The Z coordinate of the entity.
+     * @param lattice The lattice of the entity's world.
+     * @return True if the entity is within any of its baked fields.
+     */
+    private boolean computeBaked(int e, double x, double y, double z, BakedFieldGrid.WorldLattice lattice) {
+        boolean sampled = lattice.sample(x, y, z, accumulator, e);
+        boolean hit = false;
+        for (int i = entityPairStart[e]; i < entityPairStart[e + 1]; i++) {
+            int pair = entityPairs[i];
+            int f = pairFields[pair];
+            if (fieldLattices[f] == null) continue;
+            pairHits[pair] = sampled
+                ? fields[f].contains(x, y, z)
+                : fields[f].accumulateForce(x, y, z, fieldStrengths[f], accumulator, e);
+            hit |= pairHits[pair];
+        }
+        return hit;
+    }
+
+    /**
+     * Drops all captured state so the snapshot can be rebuilt for the next tick.
+     */
+    void reset() {
+        accumulator.clear();
+        Arrays.fill(fields, 0, fieldCount, null);
+        Arrays.fill(fieldLattices, 0, fieldCount, null);
+        fieldSlots.clear();
+        retainedFieldIds.clear();
+        entityCount = 0;
+        fieldCount = 0;
+        pairCount = 0;
+    }
+}
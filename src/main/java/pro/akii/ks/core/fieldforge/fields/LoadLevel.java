@@ -0,0 +1,49 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+/**
+ * Degradation levels of the field tick, from full fidelity to the cheapest mode. Each level also
+ * keeps the savings of the levels below it.
+ */
+public enum LoadLevel {
+    /**
+     * Every field is rendered, updated and checked for membership each tick.
+     */
+    NORMAL("normal"),
+    /**
+     * Field particles and sounds are not rendered.
+     */
+    NO_VISUALS("visuals skipped"),
+    /**
+     * Fields with no player nearby update every few ticks with a proportionally larger impulse.
+     */
+    THROTTLE_FAR_FIELDS("far fields throttled"),
+    /**
+     * Enter and exit events are only evaluated every few ticks.
+     */
+    DEFER_EVENTS("events deferred");
+
+    private final String label;
+
+    LoadLevel(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the name shown in logs and command output.
+     *
+     * @return The label.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Checks whether this level includes the savings of another.
+     *
+     * @param other The level to compare against.
+     * @return True if this level is the same as or more degraded than the other.
+     */
+    public boolean atLeast(LoadLevel other) {
+        return ordinal() >= other.ordinal();
+    }
+}
@@ -0,0 +1,84 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Picks the {@link LoadLevel} of the field tick from a smoothed tick duration. When the average
+ * exceeds the budget the level rises one step at a time, giving each step a second to take effect;
+ * once the average stays well under the budget for several seconds it falls back one step at a time.
+ * The gap between the two thresholds keeps the level from flapping around the budget.
+ */
+public class LoadShedder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadShedder.class);
+    /** Ticks between updates of a throttled far field. */
+    static final int FAR_FIELD_INTERVAL = 4;
+    /** Ticks between membership evaluations while events are deferred. */
+    static final int EVENT_INTERVAL = 10;
+    private static final double SMOOTHING = 0.1;
+    private static final double RECOVERY_RATIO = 0.5;
+    private static final int ESCALATE_TICKS = 20;
+    private static final int RECOVER_TICKS = 200;
+    private static final LoadLevel[] LEVELS = LoadLevel.values();
+    private LoadLevel level;
+    private double averageNanos;
+    private int ticksAtLevel;
+
+    /**
+     * Constructs a new LoadShedder at {@link LoadLevel#NORMAL}.
+     */
+    public LoadShedder() {
+        this.level = LoadLevel.NORMAL;
+    }
+
+    /**
+     * Feeds the duration of a finished tick and moves the level by at most one step.
+     *
+     * @param tickNanos The duration of the tick in nanoseconds.
+     * @param budgetMillis The tick budget in milliseconds (0 or less to never shed load).
+     */
+    public void update(long tickNanos, double budgetMillis) {
+        averageNanos += (tickNanos - averageNanos) * SMOOTHING;
+        ticksAtLevel++;
+        if (budgetMillis <= 0) {
+            if (level != LoadLevel.NORMAL) {
+                LOGGER.info("Load shedding disabled; field tick restored to {}", LoadLevel.NORMAL.getLabel());
+                setLevel(LoadLevel.NORMAL);
+            }
+            return;
+        }
+        double budgetNanos = budgetMillis * 1_000_000;
+        if (averageNanos > budgetNanos && ticksAtLevel >= ESCALATE_TICKS && level.ordinal() < LEVELS.length - 1) {
+            setLevel(LEVELS[level.ordinal() + 1]);
+            LOGGER.warn("Field tick averaging {}ms over its {}ms budget; load level raised to {}",
+                String.format("%.2f", getAverageMillis()), budgetMillis, level.getLabel());
+        } else if (averageNanos < budgetNanos * RECOVERY_RATIO && ticksAtLevel >= RECOVER_TICKS && level != LoadLevel.NORMAL) {
+            setLevel(LEVELS[level.ordinal() - 1]);
+            LOGGER.info("Field tick averaging {}ms within its {}ms budget; load level lowered to {}",
+                String.format("%.2f", getAverageMillis()), budgetMillis, level.getLabel());
+        }
+    }
+
+    /**
+     * Gets the current load level.
+     *
+     * @return The level.
+     */
+    public LoadLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the smoothed tick duration the level is based on.
+     *
+     * @return The average in milliseconds.
+     */
+    public double getAverageMillis() {
+        return averageNanos / 1_000_000;
+    }
+
+    private void setLevel(LoadLevel level) {
+        this.level = level;
+        this.ticksAtLevel = 0;
+    }
+}
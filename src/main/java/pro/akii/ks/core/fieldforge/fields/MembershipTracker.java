@@ -0,0 +1,237 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.Event;
+import pro.akii.ks.core.fieldforge.events.FieldEnterEvent;
+import pro.akii.ks.core.fieldforge.events.FieldExitEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks which entities are inside which fields, keyed by entity ID.
+ * Each tick the (field, entity) pairs reported through {@link #observe(VectorField, Entity)} are
+ * diffed against the previous tick's pairs in {@link #commit()}, which fires enter and exit events
+ * for the difference only. Entities are released as soon as they leave every field, are removed
+ * from the world, or their chunk unloads.
+ */
+public class MembershipTracker {
+    private final Map<Long, VectorField> fieldsById;
+    private Map<Integer, Set<Long>> members;
+    private Map<Integer, Set<Long>> observed;
+    private final Map<Integer, Entity> entities;
+    private final Deque<Set<Long>> spareSets;
+    private final List<Event> pendingEvents;
+    private long eventsFired;
+
+    /**
+     * Constructs a new MembershipTracker instance.
+     *
+     * @param fieldsById The live ID map used to resolve fields for exit events.
+     */
+    public MembershipTracker(Map<Long, VectorField> fieldsById) {
+        this.fieldsById = fieldsById;
+        this.members = new HashMap<>();
+        this.observed = new HashMap<>();
+        this.entities = new HashMap<>();
+        this.spareSets = new ArrayDeque<>();
+        this.pendingEvents = new ArrayList<>();
+    }
+
+    /**
+     * Records that an entity is inside a field during the current tick.
+     *
+     * @param field The field containing the entity.
+     * @param entity The entity.
+     */
+    public void observe(VectorField field, Entity entity) {
+        int entityId = entity.getEntityId();
+        Set<Long> fieldIds = observed.get(entityId);
+        if (fieldIds == null) {
+            fieldIds = spareSets.isEmpty() ? new HashSet<>() : spareSets.pop();
+            observed.put(entityId, fieldIds);
+            entities.put(entityId, entity);
+        }
+        fieldIds.add(field.getId());
+    }
+
+    /**
+     * Diffs the pairs observed this tick against the previous tick, fires the resulting
+     * enter and exit events and makes this tick's pairs the new baseline.
+     */
+    public void commit() {
+        commit(Collections.emptySet());
+    }
+
+    /**
+     * Diffs the pairs observed this tick against the previous tick, carrying over the memberships of
+     * fields that were not evaluated this tick instead of treating them as exits.
+     *
+     * @param retained The IDs of fields skipped this tick, whose previous members are kept as-is.
+     */
+    public void commit(Set<Long> retained) {
+        for (Map.Entry<Integer, Set<Long>> entry : observed.entrySet()) {
+            Entity entity = entities.get(entry.getKey());
+            Set<Long> current = entry.getValue();
+            Set<Long> previous = members.remove(entry.getKey());
+            for (long id : current) {
+                if (previous == null || !previous.contains(id)) {
+                    VectorField field = fieldsById.get(id);
+                    if (field != null) {
+                        pendingEvents.add(new FieldEnterEvent(entity, field));
+                    }
+                }
+            }
+            if (previous != null) {
+                for (long id : previous) {
+                    if (retained.contains(id)) {
+                        current.add(id);
+                    } else if (!current.contains(id)) {
+                        queueExit(entity, id);
+                    }
+                }
+                release(previous);
+            }
+        }
+        for (Map.Entry<Integer, Set<Long>> entry : members.entrySet()) {
+            Entity entity = entities.get(entry.getKey());
+            Set<Long> kept = null;
+            for (long id : entry.getValue()) {
+                if (retained.contains(id)) {
+                    if (kept == null) {
+                        kept = spareSets.isEmpty() ? new HashSet<>() : spareSets.pop();
+                    }
+                    kept.add(id);
+                } else {
+                    queueExit(entity, id);
+                }
+            }
+            if (kept != null) {
+                observed.put(entry.getKey(), kept);
+            } else {
+                entities.remove(entry.getKey());
+            }
+            release(entry.getValue());
+        }
+        members.clear();
+        Map<Integer, Set<Long>> swap = members;
+        members = observed;
+        observed = swap;
+        firePendingEvents();
+    }
+
+    /**
+     * Drops a removed field from every entity's membership and fires exit events for the entities inside it.
+     *
+     * @param field The removed field.
+     */
+    public void removeField(VectorField field) {
+        removeFields(Map.of(field.getId(), field));
+    }
+
+    /**
+     * Drops a batch of removed fields in one pass over the tracked entities.
+     *
+     * @param removed The removed fields keyed by ID.
+     */
+    public void removeFields(Map<Long, VectorField> removed) {
+        Iterator<Map.Entry<Integer, Set<Long>>> iterator = members.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, Set<Long>> entry = iterator.next();
+            Entity entity = entities.get(entry.getKey());
+            Iterator<Long> ids = entry.getValue().iterator();
+            while (ids.hasNext()) {
+                VectorField field = removed.get(ids.next());
+                if (field != null) {
+                    ids.remove();
+                    pendingEvents.add(new FieldExitEvent(entity, field));
+                }
+            }
+            if (entry.getValue().isEmpty()) {
+                iterator.remove();
+                entities.remove(entry.getKey());
+                release(entry.getValue());
+            }
+        }
+        firePendingEvents();
+    }
+
+    /**
+     * Releases an entity that left the world, firing exit events for the fields it was inside.
+     *
+     * @param entity The removed or unloaded entity.
+     */
+    public void evict(Entity entity) {
+        Set<Long> unseen = observed.remove(entity.getEntityId());
+        if (unseen != null) {
+            release(unseen);
+        }
+        Set<Long> fieldIds = members.remove(entity.getEntityId());
+        entities.remove(entity.getEntityId());
+        if (fieldIds == null) return;
+        for (long id : fieldIds) {
+            queueExit(entity, id);
+        }
+        release(fieldIds);
+        firePendingEvents();
+    }
+
+    /**
+     * Forgets all memberships without firing events.
+     */
+    public void clear() {
+        members.clear();
+        observed.clear();
+        entities.clear();
+        pendingEvents.clear();
+    }
+
+    /**
+     * Gets the number of enter and exit events fired since the tracker was created.
+     *
+     * @return The event count.
+     */
+    public long getEventsFired() {
+        return eventsFired;
+    }
+
+    /**
+     * Gets the number of entities currently inside at least one field.
+     *
+     * @return The tracked entity count.
+     */
+    public int getTrackedEntities() {
+        return members.size();
+    }
+
+    private void queueExit(Entity entity, long fieldId) {
+        VectorField field = fieldsById.get(fieldId);
+        if (field != null) {
+            pendingEvents.add(new FieldExitEvent(entity, field));
+        }
+    }
+
+    private void release(Set<Long> fieldIds) {
+        fieldIds.clear();
+        spareSets.push(fieldIds);
+    }
+
+    private void firePendingEvents() {
+        if (pendingEvents.isEmpty()) return;
+        List<Event> events = new ArrayList<>(pendingEvents);
+        pendingEvents.clear();
+        eventsFired += events.size();
+        for (Event event : events) {
+            Bukkit.getPluginManager().callEvent(event);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+/**
+ * Strategy used by {@link FieldManager} to pair fields with the entities they affect each tick.
+ */
+public enum UpdateMode {
+    /**
+     * Each active field queries the entities around it.
+     */
+    FIELD,
+    /**
+     * Entities near active fields are collected once per world and each looks up the fields affecting it.
+     */
+    ENTITY;
+
+    /**
+     * Parses an update mode from its configuration name.
+     *
+     * @param name The configured name, case-insensitive.
+     * @return The matching mode, or FIELD if the name is unknown.
+     */
+    public static UpdateMode fromConfig(String name) {
+        for (UpdateMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        return FIELD;
+    }
+}
@@ -1,7 +1,7 @@
 package pro.akii.ks.core.fieldforge.fields;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.util.Vector;
@@ -10,15 +10,22 @@ import java.util.UUID;
 
 @Getter
 public abstract class VectorField {
+    private static final ThreadLocal<ForceAccumulator> SCRATCH = ThreadLocal.withInitial(() -> new ForceAccumulator(1));
     protected final Location location;
-    protected double strength;
     protected final int range;
     private final UUID creator;
     private final long durationTicks;
-    @Setter
+    private long id;
+    private double strength;
+    private int updateInterval;
     private boolean visualsEnabled;
-    @Setter
     private boolean active;
+    /** The store this field is a view of, or null while it is not registered. */
+    @Getter(AccessLevel.NONE)
+    FieldStore store;
+    /** The field's slot in {@link #store}. */
+    @Getter(AccessLevel.NONE)
+    int storeSlot;
 
     /**
      * Constructs a new VectorField instance with duration and creator.
@@ -37,6 +44,7 @@ public abstract class VectorField {
         this.durationTicks = durationTicks;
         this.visualsEnabled = true;
         this.active = true;
+        this.updateInterval = 1;
     }
 
     /**
@@ -48,23 +56,201 @@ public abstract class VectorField {
 
     /**
      * Calculates the force vector for the specified entity.
+     * Wraps {@link #accumulateForce(double, double, double, double, ForceAccumulator, int)} for API compatibility.
      *
      * @param entity The entity to calculate force for.
      * @return The force vector, or null if out of range.
+     * @throws IllegalArgumentException If the entity is in a different world.
      */
-    public abstract Vector calculateForce(Entity entity);
+    public Vector calculateForce(Entity entity) {
+        Location entityLoc = entity.getLocation();
+        if (entityLoc.getWorld() != location.getWorld()) {
+            throw new IllegalArgumentException("Locations must be in the same world.");
+        }
+        ForceAccumulator scratch = SCRATCH.get();
+        scratch.clear();
+        int slot = scratch.slot(entity);
+        if (!accumulateForce(entityLoc.getX(), entityLoc.getY(), entityLoc.getZ(), getStrength(), scratch, slot)) {
+            return null;
+        }
+        return new Vector(scratch.getX(slot), scratch.getY(slot), scratch.getZ(slot));
+    }
+
+    /**
+     * Adds the force this field exerts at a point into an accumulator, without allocating.
+     * This is the path used by the field manager every tick, possibly from worker threads, so
+     * implementations must only read the field's final shape (location, range and their own final
+     * parameters) and take the strength from the argument rather than from the field.
+     *
+     * @param x The X coordinate of the entity.
+     * @param y The Y coordinate of the entity.
+     * @param z The Z coordinate of the entity.
+     * @param strength The field strength captured for this tick.
+     * @param accumulator The accumulator to add the force into.
+     * @param slot The entity's slot in the accumulator.
+     * @return True if the point is within the field, false if out of range.
+     */
+    public abstract boolean accumulateForce(double x, double y, double z, double strength, ForceAccumulator accumulator, int slot);
+
+    /**
+     * Checks whether the field's force at a fixed point changes over time. Such fields are never
+     * baked into a {@link BakedFieldGrid}.
+     *
+     * @return False for the built-in shapes, whose force depends only on position and strength.
+     */
+    public boolean isTimeVarying() {
+        return false;
+    }
+
+    /**
+     * Checks whether a point is one {@link #accumulateForce} reports as within the field, without
+     * computing the force. The default matches fields that exclude their center: further than 0.1
+     * blocks from it and no further than the range. Like accumulateForce, it may run on any thread.
+     *
+     * @param x The X coordinate of the point.
+     * @param y The Y coordinate of the point.
+     * @param z The Z coordinate of the point.
+     * @return True if the point is within the field.
+     */
+    public boolean contains(double x, double y, double z) {
+        double dx = x - location.getX();
+        double dy = y - location.getY();
+        double dz = z - location.getZ();
+        double distanceSquared = dx * dx + dy * dy + dz * dz;
+        return distanceSquared <= (double) range * range && distanceSquared >= 0.01;
+    }
 
     /**
      * Renders the field's visual effects using NMS.
      */
     public abstract void render();
 
+    /**
+     * Makes the field a view of a {@link FieldStore} slot, which now holds its mutable state.
+     *
+     * @param store The store.
+     * @param slot The field's slot.
+     */
+    void attach(FieldStore store, int slot) {
+        this.store = store;
+        this.storeSlot = slot;
+    }
+
+    /**
+     * Takes the field's mutable state back from its {@link FieldStore} slot when it is removed.
+     *
+     * @param strength The strength.
+     * @param updateInterval The update interval in ticks.
+     * @param active Whether the field is active.
+     * @param visualsEnabled Whether visuals are enabled.
+     */
+    void detach(double strength, int updateInterval, boolean active, boolean visualsEnabled) {
+        this.store = null;
+        this.strength = strength;
+        this.updateInterval = updateInterval;
+        this.active = active;
+        this.visualsEnabled = visualsEnabled;
+    }
+
+    /**
+     * Gets the strength of the field.
+     *
+     * @return The strength.
+     */
+    public double getStrength() {
+        return store != null ? store.strengths[storeSlot] : strength;
+    }
+
+    /**
+     * Gets how often the field is evaluated.
+     *
+     * @return The update interval in ticks.
+     */
+    public int getUpdateInterval() {
+        return store != null ? store.updateIntervals[storeSlot] : updateInterval;
+    }
+
+    /**
+     * Checks whether the field applies forces.
+     *
+     * @return True if the field is active.
+     */
+    public boolean isActive() {
+        return store != null ? (store.flags[storeSlot] & FieldStore.FLAG_ACTIVE) != 0 : active;
+    }
+
+    /**
+     * Sets whether the field applies forces.
+     *
+     * @param active True to activate the field.
+     */
+    public void setActive(boolean active) {
+        if (store != null) {
+            store.setFlag(storeSlot, FieldStore.FLAG_ACTIVE, active);
+        } else {
+            this.active = active;
+        }
+    }
+
+    /**
+     * Checks whether the field's particles are rendered.
+     *
+     * @return True if visuals are enabled.
+     */
+    public boolean isVisualsEnabled() {
+        return store != null ? (store.flags[storeSlot] & FieldStore.FLAG_VISUALS) != 0 : visualsEnabled;
+    }
+
+    /**
+     * Sets whether the field's particles are rendered.
+     *
+     * @param visualsEnabled True to render particles.
+     */
+    public void setVisualsEnabled(boolean visualsEnabled) {
+        if (store != null) {
+            store.setFlag(storeSlot, FieldStore.FLAG_VISUALS, visualsEnabled);
+        } else {
+            this.visualsEnabled = visualsEnabled;
+        }
+    }
+
+    /**
+     * Assigns the stable ID of the field. Called once by {@link FieldManager} on registration.
+     *
+     * @param id The field ID.
+     */
+    void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Sets how often the field is evaluated. Each evaluation applies the impulse of all the ticks it
+     * stands for, so entities move the same as with per-tick updates.
+     *
+     * @param updateInterval The interval in ticks, at least 1.
+     * @throws IllegalArgumentException If the interval is less than 1.
+     */
+    public void setUpdateInterval(int updateInterval) {
+        if (updateInterval < 1) {
+            throw new IllegalArgumentException("Update interval must be at least 1 tick.");
+        }
+        if (store != null) {
+            store.updateIntervals[storeSlot] = updateInterval;
+        } else {
+            this.updateInterval = updateInterval;
+        }
+    }
+
     /**
      * Sets the strength of the field.
      *
      * @param newStrength The new strength value.
      */
     protected void setStrength(double newStrength) {
-        this.strength = newStrength;
+        if (store != null) {
+            store.strengths[storeSlot] = newStrength;
+        } else {
+            this.strength = newStrength;
+        }
     }
 }
\ No newline at end of file
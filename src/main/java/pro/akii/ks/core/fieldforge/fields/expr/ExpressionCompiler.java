@@ -0,0 +1,518 @@
+package pro.akii.ks.core.fieldforge.fields.expr;
+
+import pro.akii.ks.core.fieldforge.fields.expr.FieldExpression.Evaluator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Recursive-descent parser and compiler behind {@link FieldExpression#compile(String)}. Source is
+ * parsed into a small tree, folded (constant subtrees are evaluated, identities such as {@code x * 1}
+ * dropped and small constant powers expanded into multiplications), then turned into lambdas. Each
+ * operator and function gets its own lambda, with dedicated shapes for a constant operand, so the
+ * common cases do no more work than the equivalent hand-written Java.
+ * <p>
+ * Grammar, lowest precedence first:
+ * <pre>
+ * expression := term (('+' | '-') term)*
+ * term       := unary (('*' | '/' | '%') unary)*
+ * unary      := ('-' | '+') unary | power
+ * power      := primary ('^' unary)?
+ * primary    := number | name | name '(' expression (',' expression)* ')' | '(' expression ')'
+ * </pre>
+ */
+final class ExpressionCompiler {
+    private final String source;
+    private int pos;
+
+    private ExpressionCompiler(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Parses, folds and compiles an expression.
+     *
+     * @param source The expression source.
+     * @return The compiled expression.
+     * @throws IllegalArgumentException If the source is not a valid expression.
+     */
+    static FieldExpression compile(String source) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("Expression is empty");
+        }
+        String trimmed = source.trim();
+        if (trimmed.length() > FieldExpression.MAX_LENGTH) {
+            throw new IllegalArgumentException("Expression is longer than " + FieldExpression.MAX_LENGTH + " characters");
+        }
+        ExpressionCompiler compiler = new ExpressionCompiler(trimmed);
+        Node tree = compiler.parseExpression();
+        compiler.skipWhitespace();
+        if (compiler.pos < trimmed.length()) {
+            throw compiler.error("Unexpected '" + trimmed.charAt(compiler.pos) + "'");
+        }
+        Node folded = tree.fold();
+        return new FieldExpression(trimmed, folded.emit(), folded.uses(Variable.T));
+    }
+
+    private Node parseExpression() {
+        Node left = parseTerm();
+        while (true) {
+            if (accept('+')) {
+                left = new Binary(Operator.ADD, left, parseTerm());
+            } else if (accept('-')) {
+                left = new Binary(Operator.SUB, left, parseTerm());
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Node parseTerm() {
+        Node left = parseUnary();
+        while (true) {
+            if (accept('*')) {
+                left = new Binary(Operator.MUL, left, parseUnary());
+            } else if (accept('/')) {
+                left = new Binary(Operator.DIV, left, parseUnary());
+            } else if (accept('%')) {
+                left = new Binary(Operator.MOD, left, parseUnary());
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Node parseUnary() {
+        if (accept('-')) return new Call(Function.NEG, List.of(parseUnary()));
+        if (accept('+')) return parseUnary();
+        return parsePower();
+    }
+
+    private Node parsePower() {
+        Node base = parsePrimary();
+        if (accept('^')) return new Binary(Operator.POW, base, parseUnary());
+        return base;
+    }
+
+    private Node parsePrimary() {
+        skipWhitespace();
+        if (pos >= source.length()) throw error("Unexpected end of expression");
+        char c = source.charAt(pos);
+        if (accept('(')) {
+            Node inner = parseExpression();
+            expect(')');
+            return inner;
+        }
+        if (Character.isDigit(c) || c == '.') return parseNumber();
+        if (Character.isLetter(c)) return parseName();
+        throw error("Unexpected '" + c + "'");
+    }
+
+    private Node parseNumber() {
+        int start = pos;
+        while (pos < source.length() && (Character.isDigit(source.charAt(pos)) || source.charAt(pos) == '.')) {
+            pos++;
+        }
+        if (pos < source.length() && (source.charAt(pos) == 'e' || source.charAt(pos) == 'E')) {
+            int mark = pos++;
+            if (pos < source.length() && (source.charAt(pos) == '+' || source.charAt(pos) == '-')) pos++;
+            if (pos < source.length() && Character.isDigit(source.charAt(pos))) {
+                while (pos < source.length() && Character.isDigit(source.charAt(pos))) pos++;
+            } else {
+                pos = mark;
+            }
+        }
+        try {
+            return new Constant(Double.parseDouble(source.substring(start, pos)));
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("Invalid number '" + source.substring(start, Math.min(source.length(), start + 16)) + "'");
+        }
+    }
+
+    private Node parseName() {
+        int start = pos;
+        while (pos < source.length() && (Character.isLetterOrDigit(source.charAt(pos)) || source.charAt(pos) == '_')) {
+            pos++;
+        }
+        String name = source.substring(start, pos).toLowerCase(Locale.ROOT);
+        if (accept('(')) {
+            Function function = Function.byName(name);
+            if (function == null) {
+                pos = start;
+                throw error("Unknown function '" + name + "'");
+            }
+            List<Node> args = new ArrayList<>(2);
+            args.add(parseExpression());
+            while (accept(',')) {
+                args.add(parseExpression());
+            }
+            expect(')');
+            if (args.size() != function.arity) {
+                pos = start;
+                throw error(name + " takes " + function.arity + " argument" + (function.arity == 1 ? "" : "s") + ", got " + args.size());
+            }
+            return new Call(function, args);
+        }
+        switch (name) {
+            case "pi":
+                return new Constant(Math.PI);
+            case "e":
+                return new Constant(Math.E);
+            default:
+                Variable variable = Variable.byName(name);
+                if (variable == null) {
+                    pos = start;
+                    throw error("Unknown variable '" + name + "'; expected dx, dy, dz, r, t or strength");
+                }
+                return new Reference(variable);
+        }
+    }
+
+    private boolean accept(char c) {
+        skipWhitespace();
+        if (pos < source.length() && source.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char c) {
+        if (!accept(c)) {
+            throw error(pos < source.length() ? "Expected '" + c + "' but found '" + source.charAt(pos) + "'" : "Expected '" + c + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + (pos + 1) + " of '" + source + "'");
+    }
+
+    /**
+     * A node of the expression tree.
+     */
+    private interface Node {
+        /**
+         * Simplifies the subtree.
+         *
+         * @return An equivalent, possibly smaller subtree.
+         */
+        Node fold();
+
+        /**
+         * Compiles the subtree.
+         *
+         * @return The evaluator.
+         */
+        Evaluator emit();
+
+        /**
+         * Checks whether the subtree reads a variable.
+         *
+         * @param variable The variable.
+         * @return True if it does.
+         */
+        boolean uses(Variable variable);
+    }
+
+    private enum Variable {
+        DX("dx", (dx, dy, dz, r, t, s) -> dx),
+        DY("dy", (dx, dy, dz, r, t, s) -> dy),
+        DZ("dz", (dx, dy, dz, r, t, s) -> dz),
+        R("r", (dx, dy, dz, r, t, s) -> r),
+        T("t", (dx, dy, dz, r, t, s) -> t),
+        STRENGTH("strength", (dx, dy, dz, r, t, s) -> s);
+
+        private final String name;
+        private final Evaluator evaluator;
+
+        Variable(String name, Evaluator evaluator) {
+            this.name = name;
+            this.evaluator = evaluator;
+        }
+
+        private static Variable byName(String name) {
+            for (Variable variable : values()) {
+                if (variable.name.equals(name)) return variable;
+            }
+            return null;
+        }
+    }
+
+    private enum Operator {
+        ADD, SUB, MUL, DIV, MOD, POW;
+
+        private double apply(double a, double b) {
+            switch (this) {
+                case ADD: return a + b;
+                case SUB: return a - b;
+                case MUL: return a * b;
+                case DIV: return a / b;
+                case MOD: return a % b;
+                default: return Math.pow(a, b);
+            }
+        }
+    }
+
+    private enum Function {
+        NEG(null, 1), SIN("sin", 1), COS("cos", 1), TAN("tan", 1), ASIN("asin", 1), ACOS("acos", 1),
+        ATAN("atan", 1), SQRT("sqrt", 1), ABS("abs", 1), EXP("exp", 1), LOG("log", 1), FLOOR("floor", 1),
+        CEIL("ceil", 1), SIGN("sign", 1), ATAN2("atan2", 2), POW("pow", 2), MIN("min", 2), MAX("max", 2);
+
+        private final String name;
+        private final int arity;
+
+        Function(String name, int arity) {
+            this.name = name;
+            this.arity = arity;
+        }
+
+        private static Function byName(String name) {
+            for (Function function : values()) {
+                if (name.equals(function.name)) return function;
+            }
+            return null;
+        }
+
+        private double apply(double a) {
+            switch (this) {
+                case NEG: return -a;
+                case SIN: return Math.sin(a);
+                case COS: return Math.cos(a);
+                case TAN: return Math.tan(a);
+                case ASIN: return Math.asin(a);
+                case ACOS: return Math.acos(a);
+                case ATAN: return Math.atan(a);
+                case SQRT: return Math.sqrt(a);
+                case ABS: return Math.abs(a);
+                case EXP: return Math.exp(a);
+                case LOG: return Math.log(a);
+                case FLOOR: return Math.floor(a);
+                case CEIL: return Math.ceil(a);
+                default: return Math.signum(a);
+            }
+        }
+
+        private double apply(double a, double b) {
+            switch (this) {
+                case ATAN2: return Math.atan2(a, b);
+                case POW: return Math.pow(a, b);
+                case MIN: return Math.min(a, b);
+                default: return Math.max(a, b);
+            }
+        }
+    }
+
+    private record Constant(double value) implements Node {
+        @Override
+        public Node fold() {
+            return this;
+        }
+
+        @Override
+        public Evaluator emit() {
+            double v = value;
+            return (dx, dy, dz, r, t, s) -> v;
+        }
+
+        @Override
+        public boolean uses(Variable variable) {
+            return false;
+        }
+
+        private boolean is(double expected) {
+            return Double.compare(value, expected) == 0;
+        }
+    }
+
+    private record Reference(Variable variable) implements Node {
+        @Override
+        public Node fold() {
+            return this;
+        }
+
+        @Override
+        public Evaluator emit() {
+            return variable.evaluator;
+        }
+
+        @Override
+        public boolean uses(Variable other) {
+            return variable == other;
+        }
+    }
+
+    private record Binary(Operator operator, Node left, Node right) implements Node {
+        @Override
+        public Node fold() {
+            Node a = left.fold();
+            Node b = right.fold();
+            Constant ca = a instanceof Constant constant ? constant : null;
+            Constant cb = b instanceof Constant constant ? constant : null;
+            if (ca != null && cb != null) return new Constant(operator.apply(ca.value, cb.value));
+            switch (operator) {
+                case ADD:
+                    if (cb != null && cb.is(0)) return a;
+                    if (ca != null && ca.is(0)) return b;
+                    break;
+                case SUB:
+                    if (cb != null && cb.is(0)) return a;
+                    if (ca != null && ca.is(0)) return new Call(Function.NEG, List.of(b));
+                    break;
+                case MUL:
+                    if (cb != null && cb.is(1)) return a;
+                    if (ca != null && ca.is(1)) return b;
+                    break;
+                case DIV:
+                    if (cb != null && cb.is(1)) return a;
+                    break;
+                case POW:
+                    if (cb != null && cb.is(1)) return a;
+                    break;
+                default:
+                    break;
+            }
+            return new Binary(operator, a, b);
+        }
+
+        @Override
+        public Evaluator emit() {
+            if (right instanceof Constant constant) return emitConstantRight(constant.value);
+            if (left instanceof Constant constant) return emitConstantLeft(constant.value);
+            Evaluator a = left.emit();
+            Evaluator b = right.emit();
+            switch (operator) {
+                case ADD: return (dx, dy, dz, r, t, s) -> a.evaluate(dx, dy, dz, r, t, s) + b.evaluate(dx, dy, dz, r, t, s);
+                case SUB: return (dx, dy, dz, r, t, s) -> a.evaluate(dx, dy, dz, r, t, s) - b.evaluate(dx, dy, dz, r, t, s);
+                case MUL: return (dx, dy, dz, r, t, s) -> a.evaluate(dx, dy, dz, r, t, s) * b.evaluate(dx, dy, dz, r, t, s);
+                case DIV: return (dx, dy, dz, r, t, s) -> a.evaluate(dx, dy, dz, r, t, s) / b.evaluate(dx, dy, dz, r, t, s);
+                case MOD: return (dx, dy, dz, r, t, s) -> a.evaluate(dx, dy, dz, r, t, s) % b.evaluate(dx, dy, dz, r, t, s);
+                default: return (dx, dy, dz, r, t, s) -> Math.pow(a.evaluate(dx, dy, dz, r, t, s), b.evaluate(dx, dy, dz, r, t, s));
+            }
+        }
+
+        private Evaluator emitConstantRight(double v) {
+            Evaluator a = left.emit();
+            switch (operator) {
+                case ADD: return (dx, dy, dz, r, t, s) -> a.evaluate(dx, dy, dz, r, t, s) + v;
+                case SUB: return (dx, dy, dz, r, t, s) -> a.evaluate(dx, dy, dz, r, t, s) - v;
+                case MUL: return (dx, dy, dz, r, t, s) -> a.evaluate(dx, dy, dz, r, t, s) * v;
+                case DIV: return (dx, dy, dz, r, t, s) -> a.evaluate(dx, dy, dz, r, t, s) / v;
+                case MOD: return (dx, dy, dz, r, t, s) -> a.evaluate(dx, dy, dz, r, t, s) % v;
+                default: return emitConstantPower(a, v);
+            }
+        }
+
+        private Evaluator emitConstantLeft(double v) {
+            Evaluator b = right.emit();
+            switch (operator) {
+                case ADD: return (dx, dy, dz, r, t, s) -> v + b.evaluate(dx, dy, dz, r, t, s);
+                case SUB: return (dx, dy, dz, r, t, s) -> v - b.evaluate(dx, dy, dz, r, t, s);
+                case MUL: return (dx, dy, dz, r, t, s) -> v * b.evaluate(dx, dy, dz, r, t, s);
+                case DIV: return (dx, dy, dz, r, t, s) -> v / b.evaluate(dx, dy, dz, r, t, s);
+                case MOD: return (dx, dy, dz, r, t, s) -> v % b.evaluate(dx, dy, dz, r, t, s);
+                default: return (dx, dy, dz, r, t, s) -> Math.pow(v, b.evaluate(dx, dy, dz, r, t, s));
+            }
+        }
+
+        private static Evaluator emitConstantPower(Evaluator a, double exponent) {
+            if (exponent == 2) {
+                return (dx, dy, dz, r, t, s) -> {
+                    double x = a.evaluate(dx, dy, dz, r, t, s);
+                    return x * x;
+                };
+            } else if (exponent == 3) {
+                return (dx, dy, dz, r, t, s) -> {
+                    double x = a.evaluate(dx, dy, dz, r, t, s);
+                    return x * x * x;
+                };
+            } else if (exponent == 0.5) {
+                return (dx, dy, dz, r, t, s) -> Math.sqrt(a.evaluate(dx, dy, dz, r, t, s));
+            } else if (exponent == -1) {
+                return (dx, dy, dz, r, t, s) -> 1 / a.evaluate(dx, dy, dz, r, t, s);
+            } else if (exponent == -2) {
+                return (dx, dy, dz, r, t, s) -> {
+                    double x = a.evaluate(dx, dy, dz, r, t, s);
+                    return 1 / (x * x);
+                };
+            } else if (exponent == -3) {
+                return (dx, dy, dz, r, t, s) -> {
+                    double x = a.evaluate(dx, dy, dz, r, t, s);
+                    return 1 / (x * x * x);
+                };
+            }
+            return (dx, dy, dz, r, t, s) -> Math.pow(a.evaluate(dx, dy, dz, r, t, s), exponent);
+        }
+
+        @Override
+        public boolean uses(Variable variable) {
+            return left.uses(variable) || right.uses(variable);
+        }
+    }
+
+    private record Call(Function function, List<Node> args) implements Node {
+        @Override
+        public Node fold() {
+            List<Node> folded = new ArrayList<>(args.size());
+            boolean constant = true;
+            for (Node arg : args) {
+                Node f = arg.fold();
+                folded.add(f);
+                constant &= f instanceof Constant;
+            }
+            if (constant) {
+                double a = ((Constant) folded.get(0)).value;
+                return new Constant(function.arity == 1 ? function.apply(a) : function.apply(a, ((Constant) folded.get(1)).value));
+            }
+            if (function == Function.POW) return new Binary(Operator.POW, folded.get(0), folded.get(1)).fold();
+            if (function == Function.NEG && folded.get(0) instanceof Call inner && inner.function == Function.NEG) {
+                return inner.args.get(0);
+            }
+            return new Call(function, folded);
+        }
+
+        @Override
+        public Evaluator emit() {
+            Evaluator a = args.get(0).emit();
+            if (function.arity == 2) {
+                Evaluator b = args.get(1).emit();
+                switch (function) {
+                    case ATAN2: return (dx, dy, dz, r, t, s) -> Math.atan2(a.evaluate(dx, dy, dz, r, t, s), b.evaluate(dx, dy, dz, r, t, s));
+                    case MIN: return (dx, dy, dz, r, t, s) -> Math.min(a.evaluate(dx, dy, dz, r, t, s), b.evaluate(dx, dy, dz, r, t, s));
+                    default: return (dx, dy, dz, r, t, s) -> Math.max(a.evaluate(dx, dy, dz, r, t, s), b.evaluate(dx, dy, dz, r, t, s));
+                }
+            }
+            switch (function) {
+                case NEG: return (dx, dy, dz, r, t, s) -> -a.evaluate(dx, dy, dz, r, t, s);
+                case SIN: return (dx, dy, dz, r, t, s) -> Math.sin(a.evaluate(dx, dy, dz, r, t, s));
+                case COS: return (dx, dy, dz, r, t, s) -> Math.cos(a.evaluate(dx, dy, dz, r, t, s));
+                case TAN: return (dx, dy, dz, r, t, s) -> Math.tan(a.evaluate(dx, dy, dz, r, t, s));
+                case ASIN: return (dx, dy, dz, r, t, s) -> Math.asin(a.evaluate(dx, dy, dz, r, t, s));
+                case ACOS: return (dx, dy, dz, r, t, s) -> Math.acos(a.evaluate(dx, dy, dz, r, t, s));
+                case ATAN: return (dx, dy, dz, r, t, s) -> Math.atan(a.evaluate(dx, dy, dz, r, t, s));
+                case SQRT: return (dx, dy, dz, r, t, s) -> Math.sqrt(a.evaluate(dx, dy, dz, r, t, s));
+                case ABS: return (dx, dy, dz, r, t, s) -> Math.abs(a.evaluate(dx, dy, dz, r, t, s));
+                case EXP: return (dx, dy, dz, r, t, s) -> Math.exp(a.evaluate(dx, dy, dz, r, t, s));
+                case LOG: return (dx, dy, dz, r, t, s) -> Math.log(a.evaluate(dx, dy, dz, r, t, s));
+                case FLOOR: return (dx, dy, dz, r, t, s) -> Math.floor(a.evaluate(dx, dy, dz, r, t, s));
+                case CEIL: return (dx, dy, dz, r, t, s) -> Math.ceil(a.evaluate(dx, dy, dz, r, t, s));
+                default: return (dx, dy, dz, r, t, s) -> Math.signum(a.evaluate(dx, dy, dz, r, t, s));
+            }
+        }
+
+        @Override
+        public boolean uses(Variable variable) {
+            for (Node arg : args) {
+                if (arg.uses(variable)) return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package pro.akii.ks.core.fieldforge.fields.expr;
+
+/**
+ * One force component of an expression field, compiled once from source into a tree of specialized
+ * lambdas with its constant parts folded, so evaluating it per entity and tick involves no parsing,
+ * lookups or boxing.
+ * <p>
+ * Expressions are written over the variables {@code dx}, {@code dy} and {@code dz} (offset of the
+ * point from the field's center), {@code r} (distance from the center), {@code t} (time in seconds)
+ * and {@code strength}, the constants {@code pi} and {@code e}, the operators {@code + - * / % ^}
+ * ({@code ^} is power and binds tighter than unary minus), parentheses and the functions
+ * {@code sin cos tan asin acos atan sqrt abs exp log floor ceil sign} and
+ * {@code atan2 pow min max} (two arguments). For example, a dipole along Y is
+ * {@code strength * (3 * dy * dx / r^5)}, and a wave travelling along X is
+ * {@code strength * sin(dx - 4 * t)}.
+ */
+public final class FieldExpression {
+    /** Longest accepted source, in characters. */
+    public static final int MAX_LENGTH = 1024;
+    private final String source;
+    private final Evaluator evaluator;
+    private final boolean timeVarying;
+
+    FieldExpression(String source, Evaluator evaluator, boolean timeVarying) {
+        this.source = source;
+        this.evaluator = evaluator;
+        this.timeVarying = timeVarying;
+    }
+
+    /**
+     * Parses and compiles an expression.
+     *
+     * @param source The expression source.
+     * @return The compiled expression.
+     * @throws IllegalArgumentException If the source is empty, too long or not a valid expression;
+     *                                  the message names the offending position.
+     */
+    public static FieldExpression compile(String source) {
+        return ExpressionCompiler.compile(source);
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param dx The X offset of the point from the field's center.
+     * @param dy The Y offset of the point from the field's center.
+     * @param dz The Z offset of the point from the field's center.
+     * @param r The distance of the point from the field's center.
+     * @param t The time in seconds.
+     * @param strength The field strength.
+     * @return The value, which may be infinite or NaN, e.g. after a division by zero.
+     */
+    public double evaluate(double dx, double dy, double dz, double r, double t, double strength) {
+        return evaluator.evaluate(dx, dy, dz, r, t, strength);
+    }
+
+    /**
+     * Gets the source the expression was compiled from.
+     *
+     * @return The source, trimmed.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Checks whether the expression depends on {@code t}, i.e. its value changes from tick to tick.
+     *
+     * @return True if {@code t} survived constant folding.
+     */
+    public boolean isTimeVarying() {
+        return timeVarying;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    /**
+     * Compiled form of an expression (sub)tree.
+     */
+    @FunctionalInterface
+    interface Evaluator {
+        double evaluate(double dx, double dy, double dz, double r, double t, double strength);
+    }
+}
@@ -0,0 +1,147 @@
+package pro.akii.ks.core.fieldforge.fields.types;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.util.Vector;
+import pro.akii.ks.core.fieldforge.FieldForgePlugin;
+import pro.akii.ks.core.fieldforge.fields.ForceAccumulator;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.expr.FieldExpression;
+
+import java.util.UUID;
+
+public class ExpressionField extends VectorField {
+    /** Separator between the three components in {@link #getExpression()}. */
+    public static final String SEPARATOR = ";";
+    private final FieldExpression forceX;
+    private final FieldExpression forceY;
+    private final FieldExpression forceZ;
+    private volatile double time;
+
+    /**
+     * Constructs a new ExpressionField instance whose force components are given by expressions over
+     * dx, dy, dz, r, t and strength; see {@link FieldExpression} for the syntax.
+     *
+     * @param location The center of the field.
+     * @param strength The force magnitude, available to the expressions as {@code strength}.
+     * @param range The effective radius in blocks.
+     * @param forceX The expression of the force's X component.
+     * @param forceY The expression of the force's Y component.
+     * @param forceZ The expression of the force's Z component.
+     * @param creator The UUID of the field creator, or null if API-created.
+     * @param durationTicks The duration in ticks before expiration (0 for permanent).
+     * @throws IllegalArgumentException If an expression does not compile.
+     */
+    public ExpressionField(Location location, double strength, int range, String forceX, String forceY, String forceZ,
+                           UUID creator, long durationTicks) {
+        super(location, strength, range, creator, durationTicks);
+        this.forceX = FieldExpression.compile(forceX);
+        this.forceY = FieldExpression.compile(forceY);
+        this.forceZ = FieldExpression.compile(forceZ);
+    }
+
+    /**
+     * Constructs a new ExpressionField instance from the three components joined by {@link #SEPARATOR},
+     * as returned by {@link #getExpression()}.
+     *
+     * @param location The center of the field.
+     * @param strength The force magnitude, available to the expressions as {@code strength}.
+     * @param range The effective radius in blocks.
+     * @param expression The X, Y and Z expressions separated by semicolons.
+     * @param creator The UUID of the field creator, or null if API-created.
+     * @param durationTicks The duration in ticks before expiration (0 for permanent).
+     * @return The field.
+     * @throws IllegalArgumentException If there are not exactly three components or one does not compile.
+     */
+    public static ExpressionField parse(Location location, double strength, int range, String expression,
+                                        UUID creator, long durationTicks) {
+        String[] components = expression.split(SEPARATOR, -1);
+        if (components.length != 3) {
+            throw new IllegalArgumentException("Expected three expressions separated by '" + SEPARATOR + "', got " + components.length);
+        }
+        return new ExpressionField(location, strength, range, components[0], components[1], components[2], creator, durationTicks);
+    }
+
+    /**
+     * Applies the force given by the field's expressions.
+     *
+     * @param entity The entity to affect.
+     */
+    @Override
+    public void applyForce(Entity entity) {
+        Vector force = calculateForce(entity);
+        if (force != null) {
+            ((FieldForgePlugin) Bukkit.getPluginManager().getPlugin("FieldForge")).getFieldManager().getNmsUtil().applyForce(entity, force);
+        }
+    }
+
+    /**
+     * Evaluates the field's expressions at a point. Components that come out infinite or NaN, e.g.
+     * from a division by zero, make the whole force zero for that point.
+     *
+     * @param x The X coordinate of the entity.
+     * @param y The Y coordinate of the entity.
+     * @param z The Z coordinate of the entity.
+     * @param strength The field strength captured for this tick.
+     * @param accumulator The accumulator to add the force into.
+     * @param slot The entity's slot in the accumulator.
+     * @return True if the point is within the field, false if out of range or at the center.
+     */
+    @Override
+    public boolean accumulateForce(double x, double y, double z, double strength, ForceAccumulator accumulator, int slot) {
+        double dx = x - location.getX();
+        double dy = y - location.getY();
+        double dz = z - location.getZ();
+        double distanceSquared = dx * dx + dy * dy + dz * dz;
+        if (distanceSquared > (double) range * range || distanceSquared < 0.01) return false;
+
+        double r = Math.sqrt(distanceSquared);
+        double t = time;
+        double fx = forceX.evaluate(dx, dy, dz, r, t, strength);
+        double fy = forceY.evaluate(dx, dy, dz, r, t, strength);
+        double fz = forceZ.evaluate(dx, dy, dz, r, t, strength);
+        if (Double.isFinite(fx) && Double.isFinite(fy) && Double.isFinite(fz)) {
+            accumulator.add(slot, fx, fy, fz);
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether any expression reads {@code t}.
+     *
+     * @return True if the force changes over time.
+     */
+    @Override
+    public boolean isTimeVarying() {
+        return forceX.isTimeVarying() || forceY.isTimeVarying() || forceZ.isTimeVarying();
+    }
+
+    /**
+     * Sets the value of {@code t} for the following evaluations. Called by the field manager on the
+     * main thread when it captures the field for a tick.
+     *
+     * @param seconds The time in seconds.
+     */
+    public void setTime(double seconds) {
+        this.time = seconds;
+    }
+
+    /**
+     * Gets the three expressions in their persistent form.
+     *
+     * @return The X, Y and Z expressions joined by {@link #SEPARATOR}.
+     */
+    public String getExpression() {
+        return forceX.getSource() + SEPARATOR + forceY.getSource() + SEPARATOR + forceZ.getSource();
+    }
+
+    /**
+     * Renders the field's visual effects using NMS.
+     */
+    @Override
+    public void render() {
+        FieldForgePlugin plugin = (FieldForgePlugin) Bukkit.getPluginManager().getPlugin("FieldForge");
+        plugin.getParticleManager().renderExpressionField(location, range);
+    }
+}
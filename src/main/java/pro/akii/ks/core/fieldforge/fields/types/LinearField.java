@@ -1,10 +1,12 @@
 package pro.akii.ks.core.fieldforge.fields.types;
 
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.util.Vector;
+import pro.akii.ks.core.fieldforge.FieldForgePlugin;
+import pro.akii.ks.core.fieldforge.fields.ForceAccumulator;
 import pro.akii.ks.core.fieldforge.fields.VectorField;
-import pro.akii.ks.core.fieldforge.utils.VectorMath;
 
 import java.util.UUID;
 
@@ -35,21 +37,47 @@ public class LinearField extends VectorField {
     public void applyForce(Entity entity) {
         Vector force = calculateForce(entity);
         if (force != null) {
-            entity.getWorld().getPluginManager().getPlugin("FieldForge").getFieldManager().getNmsUtil().applyForce(entity, force);
+            ((FieldForgePlugin) Bukkit.getPluginManager().getPlugin("FieldForge")).getFieldManager().getNmsUtil().applyForce(entity, force);
         }
     }
 
     /**
      * Calculates the constant force vector in the specified direction.
      *
-     * @param entity The entity to calculate force for.
-     * @return The force vector, or null if out of range.
+     * @param x The X coordinate of the entity.
+     * @param y The Y coordinate of the entity.
+     * @param z The Z coordinate of the entity.
+     * @param strength The field strength captured for this tick.
+     * @param accumulator The accumulator to add the force into.
+     * @param slot The entity's slot in the accumulator.
+     * @return True if the point is within the field, false if out of range.
      */
     @Override
-    public Vector calculateForce(Entity entity) {
-        Location entityLoc = entity.getLocation();
-        if (VectorMath.distance(location, entityLoc) > range) return null;
-        return direction.clone().multiply(strength);
+    public boolean accumulateForce(double x, double y, double z, double strength, ForceAccumulator accumulator, int slot) {
+        double dx = x - location.getX();
+        double dy = y - location.getY();
+        double dz = z - location.getZ();
+        double distanceSquared = dx * dx + dy * dy + dz * dz;
+        if (distanceSquared > (double) range * range) return false;
+
+        accumulator.add(slot, direction.getX() * strength, direction.getY() * strength, direction.getZ() * strength);
+        return true;
+    }
+
+    /**
+     * Checks whether a point is within the field's range; unlike the other types, the center counts.
+     *
+     * @param x The X coordinate of the point.
+     * @param y The Y coordinate of the point.
+     * @param z The Z coordinate of the point.
+     * @return True if the point is within the field.
+     */
+    @Override
+    public boolean contains(double x, double y, double z) {
+        double dx = x - location.getX();
+        double dy = y - location.getY();
+        double dz = z - location.getZ();
+        return dx * dx + dy * dy + dz * dz <= (double) range * range;
     }
 
     /**
@@ -57,7 +85,7 @@ public class LinearField extends VectorField {
      */
     @Override
     public void render() {
-        FieldForgePlugin plugin = (FieldForgePlugin) location.getWorld().getPluginManager().getPlugin("FieldForge");
+        FieldForgePlugin plugin = (FieldForgePlugin) Bukkit.getPluginManager().getPlugin("FieldForge");
         plugin.getParticleManager().renderLinearField(location, range, direction);
     }
 
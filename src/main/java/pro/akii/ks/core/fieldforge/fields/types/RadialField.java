@@ -1,10 +1,12 @@
 package pro.akii.ks.core.fieldforge.fields.types;
 
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.util.Vector;
+import pro.akii.ks.core.fieldforge.FieldForgePlugin;
+import pro.akii.ks.core.fieldforge.fields.ForceAccumulator;
 import pro.akii.ks.core.fieldforge.fields.VectorField;
-import pro.akii.ks.core.fieldforge.utils.VectorMath;
 
 import java.util.UUID;
 
@@ -31,25 +33,32 @@ public class RadialField extends VectorField {
     public void applyForce(Entity entity) {
         Vector force = calculateForce(entity);
         if (force != null) {
-            entity.getWorld().getPluginManager().getPlugin("FieldForge").getFieldManager().getNmsUtil().applyForce(entity, force);
+            ((FieldForgePlugin) Bukkit.getPluginManager().getPlugin("FieldForge")).getFieldManager().getNmsUtil().applyForce(entity, force);
         }
     }
 
     /**
      * Calculates the radial force vector based on inverse square law.
      *
-     * @param entity The entity to calculate force for.
-     * @return The force vector, or null if out of range.
+     * @param x The X coordinate of the entity.
+     * @param y The Y coordinate of the entity.
+     * @param z The Z coordinate of the entity.
+     * @param strength The field strength captured for this tick.
+     * @param accumulator The accumulator to add the force into.
+     * @param slot The entity's slot in the accumulator.
+     * @return True if the point is within the field, false if out of range.
      */
     @Override
-    public Vector calculateForce(Entity entity) {
-        Location entityLoc = entity.getLocation();
-        double distance = VectorMath.distance(location, entityLoc);
-        if (distance > range || distance < 0.1) return null;
+    public boolean accumulateForce(double x, double y, double z, double strength, ForceAccumulator accumulator, int slot) {
+        double dx = x - location.getX();
+        double dy = y - location.getY();
+        double dz = z - location.getZ();
+        double distanceSquared = dx * dx + dy * dy + dz * dz;
+        if (distanceSquared > (double) range * range || distanceSquared < 0.01) return false;
 
-        double forceMagnitude = strength / (distance * distance);
-        Vector direction = location.toVector().subtract(entityLoc.toVector()).normalize();
-        return direction.multiply(forceMagnitude);
+        double scale = strength / (distanceSquared * Math.sqrt(distanceSquared));
+        accumulator.add(slot, -dx * scale, -dy * scale, -dz * scale);
+        return true;
     }
 
     /**
@@ -57,7 +66,7 @@ public class RadialField extends VectorField {
      */
     @Override
     public void render() {
-        FieldForgePlugin plugin = (FieldForgePlugin) location.getWorld().getPluginManager().getPlugin("FieldForge");
+        FieldForgePlugin plugin = (FieldForgePlugin) Bukkit.getPluginManager().getPlugin("FieldForge");
         plugin.getParticleManager().renderRadialField(location, range);
     }
 }
\ No newline at end of file
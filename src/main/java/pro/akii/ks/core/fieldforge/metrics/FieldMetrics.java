@@ -0,0 +1,74 @@
+package pro.akii.ks.core.fieldforge.metrics;
+
+import pro.akii.ks.core.fieldforge.fields.LoadLevel;
+import pro.akii.ks.core.fieldforge.fields.LoadShedder;
+
+/**
+ * Read-only view of the field tick metrics, for the stats command and API consumers.
+ * Values are maintained on the main thread; reads from other threads are approximate.
+ */
+public class FieldMetrics {
+    private final TickProfiler profiler;
+    private final LoadShedder loadShedder;
+
+    /**
+     * Constructs a new FieldMetrics view.
+     *
+     * @param profiler The profiler to read from.
+     * @param loadShedder The load shedder to read the current level from.
+     */
+    public FieldMetrics(TickProfiler profiler, LoadShedder loadShedder) {
+        this.profiler = profiler;
+        this.loadShedder = loadShedder;
+    }
+
+    /**
+     * Summarizes the durations of a tick phase over a window.
+     *
+     * @param phase The phase.
+     * @param window The window.
+     * @return The p50, p95, p99 and max durations.
+     */
+    public PhaseStats getPhaseStats(Phase phase, Window window) {
+        return profiler.getStats(phase, window);
+    }
+
+    /**
+     * Gets a counter's sum over a window.
+     *
+     * @param metric The counter.
+     * @param window The window.
+     * @return The windowed sum.
+     */
+    public long getCount(Metric metric, Window window) {
+        return profiler.getCount(metric, window);
+    }
+
+    /**
+     * Gets a counter's sum since the plugin was enabled.
+     *
+     * @param metric The counter.
+     * @return The total.
+     */
+    public long getTotal(Metric metric) {
+        return profiler.getTotal(metric);
+    }
+
+    /**
+     * Gets how far the field tick is currently degraded to stay within its budget.
+     *
+     * @return The load level.
+     */
+    public LoadLevel getLoadLevel() {
+        return loadShedder.getLevel();
+    }
+
+    /**
+     * Gets the smoothed field tick duration the load level is based on.
+     *
+     * @return The average in milliseconds.
+     */
+    public double getAverageTickMillis() {
+        return loadShedder.getAverageMillis();
+    }
+}
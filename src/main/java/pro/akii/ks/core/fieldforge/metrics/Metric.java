@@ -0,0 +1,36 @@
+package pro.akii.ks.core.fieldforge.metrics;
+
+/**
+ * Counters accumulated over field ticks.
+ */
+public enum Metric {
+    /** Active fields evaluated for forces. */
+    FIELDS_EVALUATED("fields evaluated"),
+    /** Entities captured in a force snapshot. */
+    ENTITIES_TOUCHED("entities touched"),
+    /** Field enter and exit events fired. */
+    EVENTS_FIRED("events fired"),
+    /** Particle and sound packets sent to players. */
+    PACKETS_SENT("packets sent"),
+    /** Ticks rendered without particles or sounds to shed load. */
+    VISUALS_SKIPPED("ticks without visuals"),
+    /** Field updates left out of a tick because the field's update interval or load shedding made it not due. */
+    FIELD_UPDATES_SKIPPED("field updates skipped"),
+    /** Ticks whose enter and exit evaluation was deferred to shed load. */
+    EVENTS_DEFERRED("ticks with events deferred");
+
+    private final String label;
+
+    Metric(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the name shown in command output.
+     *
+     * @return The label.
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,38 @@
+package pro.akii.ks.core.fieldforge.metrics;
+
+/**
+ * The timed phases of a field tick.
+ */
+public enum Phase {
+    /** Expiring fields whose lifetime ran out. */
+    EXPIRY("expiry"),
+    /** Finding the entities near active fields and capturing the force snapshot. */
+    QUERY("query"),
+    /** Evaluating field forces, timed where it runs, on the main thread or on the force workers. */
+    FORCES("forces"),
+    /** Applying net forces to entity velocities. */
+    VELOCITY("velocity"),
+    /** Recording field membership and dispatching enter and exit events. */
+    EVENTS("events"),
+    /** Choosing and rendering the fields due for particles and sounds. */
+    RENDER("render"),
+    /** Flushing queued particle and sound packets. */
+    PACKETS("packets"),
+    /** The whole field tick on the main thread. */
+    TICK("tick");
+
+    private final String label;
+
+    Phase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the short name shown in command output.
+     *
+     * @return The label.
+     */
+    public String getLabel() {
+        return label;
+    }
+}
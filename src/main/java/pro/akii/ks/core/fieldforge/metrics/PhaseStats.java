@@ -0,0 +1,82 @@
+package pro.akii.ks.core.fieldforge.metrics;
+
+/**
+ * Immutable summary of one phase's durations over a window.
+ */
+public class PhaseStats {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long samples;
+    private final long p50;
+    private final long p95;
+    private final long p99;
+    private final long max;
+
+    /**
+     * Constructs a new PhaseStats.
+     *
+     * @param samples The number of samples in the window.
+     * @param p50 The median in nanoseconds.
+     * @param p95 The 95th percentile in nanoseconds.
+     * @param p99 The 99th percentile in nanoseconds.
+     * @param max The maximum in nanoseconds.
+     */
+    public PhaseStats(long samples, long p50, long p95, long p99, long max) {
+        this.samples = samples;
+        this.p50 = p50;
+        this.p95 = p95;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    /**
+     * Gets the number of samples in the window.
+     *
+     * @return The sample count.
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * Gets the median duration.
+     *
+     * @return The median in milliseconds.
+     */
+    public double getP50Millis() {
+        return p50 / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Gets the 95th percentile duration.
+     *
+     * @return The 95th percentile in milliseconds.
+     */
+    public double getP95Millis() {
+        return p95 / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Gets the 99th percentile duration.
+     *
+     * @return The 99th percentile in milliseconds.
+     */
+    public double getP99Millis() {
+        return p99 / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Gets the longest duration.
+     *
+     * @return The maximum in milliseconds.
+     */
+    public double getMaxMillis() {
+        return max / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("p50=%.3fms p95=%.3fms p99=%.3fms max=%.3fms (n=%d)",
+            getP50Millis(), getP95Millis(), getP99Millis(), getMaxMillis(), samples);
+    }
+}
@@ -0,0 +1,66 @@
+package pro.akii.ks.core.fieldforge.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Rolling sum kept per {@value RollingHistogram#SLOT_SECONDS}-second slot of wall time, alongside
+ * a running total. Not thread-safe, see {@link RollingHistogram}.
+ */
+public class RollingCounter {
+    private final long[] sums;
+    private final long[] epochs;
+    private long total;
+
+    /**
+     * Constructs a new RollingCounter at zero.
+     */
+    public RollingCounter() {
+        this.sums = new long[RollingHistogram.SLOTS];
+        this.epochs = new long[RollingHistogram.SLOTS];
+        Arrays.fill(epochs, Long.MIN_VALUE);
+    }
+
+    /**
+     * Adds to the counter.
+     *
+     * @param amount The amount to add.
+     * @param now The current {@link System#nanoTime()}, which selects the slot.
+     */
+    public void add(long amount, long now) {
+        long epoch = Math.floorDiv(now, RollingHistogram.SLOT_NANOS);
+        int slot = (int) Math.floorMod(epoch, (long) RollingHistogram.SLOTS);
+        if (epochs[slot] != epoch) {
+            epochs[slot] = epoch;
+            sums[slot] = 0;
+        }
+        sums[slot] += amount;
+        total += amount;
+    }
+
+    /**
+     * Gets the sum over a window.
+     *
+     * @param window The window.
+     * @param now The current {@link System#nanoTime()}.
+     * @return The windowed sum.
+     */
+    public long get(Window window, long now) {
+        long epoch = Math.floorDiv(now, RollingHistogram.SLOT_NANOS);
+        long sum = 0;
+        for (int i = 0; i < sums.length; i++) {
+            if (epochs[i] > epoch - window.getSlots() && epochs[i] <= epoch) {
+                sum += sums[i];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the sum since the counter was created.
+     *
+     * @return The total.
+     */
+    public long getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,125 @@
+package pro.akii.ks.core.fieldforge.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Rolling histogram of durations. Samples land in log-linear buckets (8 per power of two, so
+ * percentiles are within 12.5%), and the buckets are kept per {@value #SLOT_SECONDS}-second slot
+ * of wall time in a ring long enough for the widest {@link Window}. Recording is an array
+ * increment with no allocation; reading merges the slots of the requested window.
+ * Not thread-safe: record from one thread, and expect reads from other threads to be approximate.
+ */
+public class RollingHistogram {
+    static final int SLOT_SECONDS = 10;
+    static final long SLOT_NANOS = SLOT_SECONDS * 1_000_000_000L;
+    static final int SLOTS = 30;
+    private static final int LINEAR_BUCKETS = 16;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKETS = LINEAR_BUCKETS + (MAX_EXPONENT - 3) * SUB_BUCKETS;
+
+    private final int[][] counts;
+    private final long[] max;
+    private final long[] epochs;
+
+    /**
+     * Constructs a new, empty RollingHistogram.
+     */
+    public RollingHistogram() {
+        this.counts = new int[SLOTS][BUCKETS];
+        this.max = new long[SLOTS];
+        this.epochs = new long[SLOTS];
+        Arrays.fill(epochs, Long.MIN_VALUE);
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds.
+     * @param now The current {@link System#nanoTime()}, which selects the slot.
+     */
+    public void record(long nanos, long now) {
+        int slot = slot(now);
+        counts[slot][bucket(Math.max(0, nanos))]++;
+        if (nanos > max[slot]) {
+            max[slot] = nanos;
+        }
+    }
+
+    /**
+     * Summarizes the samples recorded within a window.
+     *
+     * @param window The window.
+     * @param now The current {@link System#nanoTime()}.
+     * @return The summary.
+     */
+    public PhaseStats snapshot(Window window, long now) {
+        long epoch = Math.floorDiv(now, SLOT_NANOS);
+        long[] merged = new long[BUCKETS];
+        long samples = 0;
+        long windowMax = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            if (epochs[i] <= epoch - window.getSlots() || epochs[i] > epoch) continue;
+            int[] row = counts[i];
+            for (int b = 0; b < BUCKETS; b++) {
+                merged[b] += row[b];
+                samples += row[b];
+            }
+            windowMax = Math.max(windowMax, max[i]);
+        }
+        return new PhaseStats(samples, percentile(merged, samples, 50, windowMax), percentile(merged, samples, 95, windowMax),
+            percentile(merged, samples, 99, windowMax), windowMax);
+    }
+
+    private int slot(long now) {
+        long epoch = Math.floorDiv(now, SLOT_NANOS);
+        int slot = (int) Math.floorMod(epoch, (long) SLOTS);
+        if (epochs[slot] != epoch) {
+            epochs[slot] = epoch;
+            Arrays.fill(counts[slot], 0);
+            max[slot] = 0;
+        }
+        return slot;
+    }
+
+    private static long percentile(long[] merged, long samples, double percentile, long windowMax) {
+        if (samples == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * samples));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += merged[b];
+            if (seen >= rank) return Math.min(upperBound(b), windowMax);
+        }
+        return windowMax;
+    }
+
+    /**
+     * Maps a duration to its bucket: exact below 16 ns, then 8 buckets per power of two.
+     *
+     * @param nanos The non-negative duration.
+     * @return The bucket index.
+     */
+    static int bucket(long nanos) {
+        if (nanos < LINEAR_BUCKETS) return (int) nanos;
+        int exponent = Math.min(63 - Long.numberOfLeadingZeros(nanos), MAX_EXPONENT);
+        int sub = exponent == MAX_EXPONENT && nanos >= 1L << (MAX_EXPONENT + 1)
+            ? SUB_BUCKETS - 1
+            : (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (exponent - 4) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the largest duration that maps to a bucket.
+     *
+     * @param bucket The bucket index.
+     * @return The inclusive upper bound in nanoseconds.
+     */
+    static long upperBound(int bucket) {
+        if (bucket < LINEAR_BUCKETS) return bucket;
+        int exponent = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 4;
+        int sub = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + sub) * width) + width - 1;
+    }
+}
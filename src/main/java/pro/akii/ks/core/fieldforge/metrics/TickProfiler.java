@@ -0,0 +1,92 @@
+package pro.akii.ks.core.fieldforge.metrics;
+
+/**
+ * Low-overhead profiler for the field tick: one {@link RollingHistogram} per {@link Phase} and one
+ * {@link RollingCounter} per {@link Metric}. Timing a phase costs two {@link System#nanoTime()}
+ * calls; callers chain them by passing the end of one phase as the start of the next. Written on
+ * the main thread; read through {@link FieldMetrics}.
+ */
+public class TickProfiler {
+    private final RollingHistogram[] phases;
+    private final RollingCounter[] metrics;
+
+    /**
+     * Constructs a new, empty TickProfiler.
+     */
+    public TickProfiler() {
+        this.phases = new RollingHistogram[Phase.values().length];
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new RollingHistogram();
+        }
+        this.metrics = new RollingCounter[Metric.values().length];
+        for (int i = 0; i < metrics.length; i++) {
+            metrics[i] = new RollingCounter();
+        }
+    }
+
+    /**
+     * Records a phase that started at a given time and ends now.
+     *
+     * @param phase The phase.
+     * @param startNanos The {@link System#nanoTime()} at which the phase started.
+     * @return The current {@link System#nanoTime()}, usable as the start of the next phase.
+     */
+    public long record(Phase phase, long startNanos) {
+        long now = System.nanoTime();
+        phases[phase.ordinal()].record(now - startNanos, now);
+        return now;
+    }
+
+    /**
+     * Records a phase duration measured elsewhere, such as on a worker thread.
+     *
+     * @param phase The phase.
+     * @param nanos The duration in nanoseconds.
+     */
+    public void recordNanos(Phase phase, long nanos) {
+        phases[phase.ordinal()].record(nanos, System.nanoTime());
+    }
+
+    /**
+     * Adds to a counter.
+     *
+     * @param metric The counter.
+     * @param amount The amount to add.
+     */
+    public void count(Metric metric, long amount) {
+        if (amount == 0) return;
+        metrics[metric.ordinal()].add(amount, System.nanoTime());
+    }
+
+    /**
+     * Summarizes a phase over a window.
+     *
+     * @param phase The phase.
+     * @param window The window.
+     * @return The summary.
+     */
+    public PhaseStats getStats(Phase phase, Window window) {
+        return phases[phase.ordinal()].snapshot(window, System.nanoTime());
+    }
+
+    /**
+     * Gets a counter's sum over a window.
+     *
+     * @param metric The counter.
+     * @param window The window.
+     * @return The windowed sum.
+     */
+    public long getCount(Metric metric, Window window) {
+        return metrics[metric.ordinal()].get(window, System.nanoTime());
+    }
+
+    /**
+     * Gets a counter's sum since the profiler was created.
+     *
+     * @param metric The counter.
+     * @return The total.
+     */
+    public long getTotal(Metric metric) {
+        return metrics[metric.ordinal()].getTotal();
+    }
+}
@@ -0,0 +1,51 @@
+package pro.akii.ks.core.fieldforge.metrics;
+
+/**
+ * The rolling time windows metrics are reported over. Windows are made of whole
+ * {@value RollingHistogram#SLOT_SECONDS}-second slots, including the slot in progress.
+ */
+public enum Window {
+    /** About the last minute. */
+    ONE_MINUTE("1m", 6),
+    /** About the last five minutes. */
+    FIVE_MINUTES("5m", 30);
+
+    private final String label;
+    private final int slots;
+
+    Window(String label, int slots) {
+        this.label = label;
+        this.slots = slots;
+    }
+
+    /**
+     * Gets the short name used in command output and arguments.
+     *
+     * @return The label.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Gets the number of slots the window spans.
+     *
+     * @return The slot count.
+     */
+    int getSlots() {
+        return slots;
+    }
+
+    /**
+     * Finds a window by its label.
+     *
+     * @param label The label, such as 1m or 5m.
+     * @return The window, or null if none matches.
+     */
+    public static Window fromLabel(String label) {
+        for (Window window : values()) {
+            if (window.label.equalsIgnoreCase(label)) return window;
+        }
+        return null;
+    }
+}
@@ -1,52 +1,157 @@
 package pro.akii.ks.core.fieldforge.particles;
 
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.util.Vector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Bridge to server internals. Every class, method and field is resolved once at construction into
+ * cached {@link MethodHandle}s; anything that fails to resolve falls back to the Bukkit API.
+ * When batching is enabled, packets are queued per player and sent as bundles by {@link #flushPackets()}.
+ */
 public class NMSUtil {
     private static final Logger LOGGER = LoggerFactory.getLogger(NMSUtil.class);
-    private static final String NMS_VERSION = "v1_21_R1";
+    private static final double VIEW_DISTANCE_SQUARED = 256;
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final String serverVersion;
+    private final String craftBukkitPackage;
+    private final Map<String, Object> nmsParticles;
+    private final Map<String, Particle> bukkitParticles;
+    private final int maxBundleSize;
+    private final PacketQueue packetQueue;
+    private long packetsSent;
+
+    private Class<?> particleTypesClass;
+    private MethodHandle playerHandle;
+    private MethodHandle playerConnection;
+    private MethodHandle sendPacket;
+    private MethodHandle particlePacket;
+    private MethodHandle soundPacket;
+    private MethodHandle bundlePacket;
+    private MethodHandle entityHandle;
+    private MethodHandle setDeltaMovement;
+    private MethodHandle setHasImpulse;
+    private boolean packetsAvailable;
+    private boolean soundPacketsAvailable;
+    private boolean bundlesAvailable;
+    private boolean velocityAvailable;
+
+    /**
+     * Constructs a new NMSUtil instance, detecting the server version and resolving all handles.
+     *
+     * @param maxBundleSize The maximum packets per bundle when batching, or 0 to send packets immediately.
+     */
+    public NMSUtil(int maxBundleSize) {
+        this(maxBundleSize, Bukkit.getServer().getClass().getPackage().getName());
+    }
 
     /**
-     * Spawns a particle at the specified location using NMS packets.
+     * Constructs a new NMSUtil instance against an explicit CraftBukkit package, for harnesses that supply their own server internals.
+     *
+     * @param maxBundleSize The maximum packets per bundle when batching, or 0 to send packets immediately.
+     * @param craftBukkitPackage The package holding the CraftBukkit entity classes.
+     */
+    NMSUtil(int maxBundleSize, String craftBukkitPackage) {
+        this.craftBukkitPackage = craftBukkitPackage;
+        String suffix = craftBukkitPackage.substring(craftBukkitPackage.lastIndexOf('.') + 1);
+        this.serverVersion = suffix.startsWith("v") ? suffix : Bukkit.getBukkitVersion();
+        this.nmsParticles = new HashMap<>();
+        this.bukkitParticles = new HashMap<>();
+        this.maxBundleSize = maxBundleSize;
+        this.packetQueue = maxBundleSize > 0 ? new PacketQueue(this) : null;
+        resolvePacketHandles();
+        resolveVelocityHandles();
+        LOGGER.info("NMS bridge for {}: packets={}, sounds={}, bundles={}, velocity={}",
+            serverVersion, packetsAvailable, soundPacketsAvailable, bundlesAvailable, velocityAvailable);
+    }
+
+    /**
+     * Spawns a particle at the specified location using NMS packets, or the Bukkit API if unavailable.
      *
      * @param location The location to spawn the particle.
      * @param particleType The particle type identifier.
      */
     public void spawnParticle(Location location, String particleType) {
-        try {
-            Class<?> craftWorldClass = Class.forName("org.bukkit.craftbukkit." + NMS_VERSION + ".CraftWorld");
-            Class<?> packetClass = Class.forName("net.minecraft.network.protocol.game.PacketPlayOutWorldParticles");
-            Class<?> particleParamClass = Class.forName("net.minecraft.core.particles.ParticleParam");
-            Class<?> particleTypesClass = Class.forName("net.minecraft.core.particles.ParticleTypes");
-            Object craftWorld = craftWorldClass.cast(location.getWorld());
-            Method getHandle = craftWorldClass.getMethod("getHandle");
-            Object nmsWorld = getHandle.invoke(craftWorld);
-
-            Object particle = particleTypesClass.getField(particleType.toUpperCase().replace("minecraft:", "")).get(null);
-            Object packet = packetClass.getConstructor(particleParamClass, boolean.class, double.class, double.class, double.class,
-                float.class, float.class, float.class, float.class, int.class)
-                .newInstance(particle, true, location.getX(), location.getY(), location.getZ(), 0, 0, 0, 0, 1);
-
-            for (Player player : location.getWorld().getPlayers()) {
-                if (player.getLocation().distanceSquared(location) > 256) continue;
-                Object nmsPlayer = player.getClass().getMethod("getHandle").invoke(player);
-                Object connection = nmsPlayer.getClass().getField("b").get(nmsPlayer);
-                connection.getClass().getMethod("sendPacket", packetClass).invoke(connection, packet);
+        spawnParticle(location.getWorld(), location.getX(), location.getY(), location.getZ(), particleType);
+    }
+
+    /**
+     * Spawns a particle at the specified coordinates using NMS packets, or the Bukkit API if unavailable.
+     *
+     * @param world The world to spawn the particle in.
+     * @param x The X coordinate.
+     * @param y The Y coordinate.
+     * @param z The Z coordinate.
+     * @param particleType The particle type identifier.
+     */
+    public void spawnParticle(World world, double x, double y, double z, String particleType) {
+        List<Player> players = world.getPlayers();
+        double[] viewers = viewerPositions(players);
+        spawnParticle(players, viewers, x, y, z, particleType);
+    }
+
+    /**
+     * Spawns particles at a set of offsets from a center point, resolving viewer positions once for the whole batch.
+     *
+     * @param world The world to spawn the particles in.
+     * @param centerX The X coordinate of the center.
+     * @param centerY The Y coordinate of the center.
+     * @param centerZ The Z coordinate of the center.
+     * @param offsets Packed x, y, z offsets from the center.
+     * @param particleType The particle type identifier.
+     */
+    public void spawnParticles(World world, double centerX, double centerY, double centerZ, double[] offsets, String particleType) {
+        List<Player> players = world.getPlayers();
+        if (players.isEmpty()) return;
+        double[] viewers = viewerPositions(players);
+        for (int i = 0; i < offsets.length; i += 3) {
+            spawnParticle(players, viewers, centerX + offsets[i], centerY + offsets[i + 1], centerZ + offsets[i + 2], particleType);
+        }
+    }
+
+    private void spawnParticle(List<Player> players, double[] viewers, double x, double y, double z, String particleType) {
+        if (packetsAvailable) {
+            Object particle = resolveNmsParticle(particleType);
+            if (particle != null) {
+                try {
+                    Object packet = (Object) particlePacket.invokeExact(particle, true, x, y, z, 0F, 0F, 0F, 0F, 1);
+                    sendToNearby(players, viewers, x, y, z, packet);
+                    return;
+                } catch (Throwable t) {
+                    packetsAvailable = false;
+                    LOGGER.warn("Particle packets disabled, falling back to Bukkit API: {}", t.getMessage(), t);
+                }
             }
-        } catch (Exception e) {
-            LOGGER.error("Failed to spawn particle: {}", e.getMessage(), e);
+        }
+        Particle particle = resolveBukkitParticle(particleType);
+        if (particle == null) return;
+        for (int i = 0; i < players.size(); i++) {
+            if (!isNearby(viewers, i, x, y, z)) continue;
+            players.get(i).spawnParticle(particle, x, y, z, 1);
+            packetsSent++;
         }
     }
 
     /**
-     * Plays a sound at the specified location using NMS packets.
+     * Plays a sound at the specified location using NMS packets, or the Bukkit API if unavailable.
      *
      * @param location The location to play the sound.
      * @param sound The sound identifier.
@@ -54,25 +159,22 @@ public class NMSUtil {
      * @param pitch The sound pitch.
      */
     public void playSound(Location location, String sound, float volume, float pitch) {
-        try {
-            Class<?> craftWorldClass = Class.forName("org.bukkit.craftbukkit." + NMS_VERSION + ".CraftWorld");
-            Class<?> packetClass = Class.forName("net.minecraft.network.protocol.game.PacketPlayOutNamedSoundEffect");
-            Object craftWorld = craftWorldClass.cast(location.getWorld());
-            Method getHandle = craftWorldClass.getMethod("getHandle");
-            Object nmsWorld = getHandle.invoke(craftWorld);
-
-            Object packet = packetClass.getConstructor(
-                String.class, double.class, double.class, double.class, float.class, float.class
-            ).newInstance(sound, location.getX(), location.getY(), location.getZ(), volume, pitch);
-
-            for (Player player : location.getWorld().getPlayers()) {
-                if (player.getLocation().distanceSquared(location) > 256) continue;
-                Object nmsPlayer = player.getClass().getMethod("getHandle").invoke(player);
-                Object connection = nmsPlayer.getClass().getField("b").get(nmsPlayer);
-                connection.getClass().getMethod("sendPacket", packetClass).invoke(connection, packet);
+        if (soundPacketsAvailable) {
+            try {
+                Object packet = (Object) soundPacket.invokeExact(sound,
+                    location.getX(), location.getY(), location.getZ(), volume, pitch);
+                List<Player> players = location.getWorld().getPlayers();
+                sendToNearby(players, viewerPositions(players), location.getX(), location.getY(), location.getZ(), packet);
+                return;
+            } catch (Throwable t) {
+                soundPacketsAvailable = false;
+                LOGGER.warn("Sound packets disabled, falling back to Bukkit API: {}", t.getMessage(), t);
             }
-        } catch (Exception e) {
-            LOGGER.error("Failed to send sound packet: {}", e.getMessage(), e);
+        }
+        for (Player player : location.getWorld().getPlayers()) {
+            if (player.getLocation().distanceSquared(location) > VIEW_DISTANCE_SQUARED) continue;
+            player.playSound(location, sound, volume, pitch);
+            packetsSent++;
         }
     }
 
@@ -83,17 +185,257 @@ public class NMSUtil {
      * @param force The force vector to apply.
      */
     public void applyForce(Entity entity, Vector force) {
+        applyForce(entity, force.getX(), force.getY(), force.getZ());
+    }
+
+    /**
+     * Applies a force given as plain components, so callers accumulating forces in primitive arrays
+     * do not need to allocate a vector per entity.
+     *
+     * @param entity The entity to affect.
+     * @param fx The X component of the force.
+     * @param fy The Y component of the force.
+     * @param fz The Z component of the force.
+     */
+    public void applyForce(Entity entity, double fx, double fy, double fz) {
+        Vector newVelocity = entity.getVelocity();
+        newVelocity.setX(newVelocity.getX() + fx).setY(newVelocity.getY() + fy).setZ(newVelocity.getZ() + fz);
+        if (velocityAvailable) {
+            try {
+                Object nmsEntity = (Object) entityHandle.invokeExact((Object) entity);
+                setDeltaMovement.invokeExact(nmsEntity, newVelocity.getX(), newVelocity.getY(), newVelocity.getZ());
+                setHasImpulse.invokeExact(nmsEntity, true);
+                return;
+            } catch (Throwable t) {
+                velocityAvailable = false;
+                LOGGER.warn("NMS velocity disabled, falling back to Bukkit API: {}", t.getMessage(), t);
+            }
+        }
+        entity.setVelocity(newVelocity); // Fallback to Spigot API
+    }
+
+    /**
+     * Sends every packet queued during this tick, bundled per player.
+     *
+     * @return The number of packets flushed.
+     */
+    public int flushPackets() {
+        return packetQueue != null ? packetQueue.flush() : 0;
+    }
+
+    /**
+     * Gets the number of particle and sound packets sent to players, counting queued packets when
+     * they are queued and each packet inside a bundle separately.
+     *
+     * @return The packet count since construction.
+     */
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    /**
+     * Gets the detected server version.
+     *
+     * @return The CraftBukkit package version (e.g. v1_21_R1), or the Bukkit version on unversioned servers.
+     */
+    public String getServerVersion() {
+        return serverVersion;
+    }
+
+    /**
+     * Sends a player's queued packets as bundles of at most {@code maxBundleSize}, resolving the connection once.
+     *
+     * @param player The receiving player.
+     * @param packets The packets queued for the player.
+     */
+    void sendBatch(Player player, List<Object> packets) {
+        if (!packetsAvailable) return;
+        try {
+            Object nmsPlayer = (Object) playerHandle.invokeExact((Object) player);
+            Object connection = (Object) playerConnection.invokeExact(nmsPlayer);
+            if (!bundlesAvailable || packets.size() == 1) {
+                for (Object packet : packets) {
+                    sendPacket.invokeExact(connection, packet);
+                }
+                return;
+            }
+            for (int from = 0; from < packets.size(); from += maxBundleSize) {
+                Iterable<Object> slice = new ArrayList<>(packets.subList(from, Math.min(packets.size(), from + maxBundleSize)));
+                Object bundle = (Object) bundlePacket.invokeExact(slice);
+                sendPacket.invokeExact(connection, bundle);
+            }
+        } catch (Throwable t) {
+            packetsAvailable = false;
+            LOGGER.warn("Packet batching failed, falling back to Bukkit API: {}", t.getMessage(), t);
+        }
+    }
+
+    private void sendToNearby(List<Player> players, double[] viewers, double x, double y, double z, Object packet) throws Throwable {
+        for (int i = 0; i < players.size(); i++) {
+            if (!isNearby(viewers, i, x, y, z)) continue;
+            Player player = players.get(i);
+            packetsSent++;
+            if (packetQueue != null) {
+                packetQueue.enqueue(player, packet);
+                continue;
+            }
+            Object nmsPlayer = (Object) playerHandle.invokeExact((Object) player);
+            Object connection = (Object) playerConnection.invokeExact(nmsPlayer);
+            sendPacket.invokeExact(connection, packet);
+        }
+    }
+
+    private static double[] viewerPositions(List<Player> players) {
+        double[] positions = new double[players.size() * 3];
+        for (int i = 0; i < players.size(); i++) {
+            Location loc = players.get(i).getLocation();
+            positions[i * 3] = loc.getX();
+            positions[i * 3 + 1] = loc.getY();
+            positions[i * 3 + 2] = loc.getZ();
+        }
+        return positions;
+    }
+
+    private static boolean isNearby(double[] viewers, int index, double x, double y, double z) {
+        double dx = viewers[index * 3] - x;
+        double dy = viewers[index * 3 + 1] - y;
+        double dz = viewers[index * 3 + 2] - z;
+        return dx * dx + dy * dy + dz * dz <= VIEW_DISTANCE_SQUARED;
+    }
+
+    private Object resolveNmsParticle(String particleType) {
+        String name = particleType.toUpperCase().replace("MINECRAFT:", "");
+        if (nmsParticles.containsKey(name)) {
+            return nmsParticles.get(name);
+        }
+        Object particle = null;
+        try {
+            particle = particleTypesClass.getField(name).get(null);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warn("Unknown NMS particle {}, using Bukkit API for it", name);
+        }
+        nmsParticles.put(name, particle);
+        return particle;
+    }
+
+    private Particle resolveBukkitParticle(String particleType) {
+        String name = particleType.toUpperCase().replace("MINECRAFT:", "");
+        if (bukkitParticles.containsKey(name)) {
+            return bukkitParticles.get(name);
+        }
+        Particle particle = null;
+        try {
+            particle = Particle.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown particle type: {}", name);
+        }
+        bukkitParticles.put(name, particle);
+        return particle;
+    }
+
+    private void resolvePacketHandles() {
         try {
-            Object nmsEntity = entity.getClass().getMethod("getHandle").invoke(entity);
-            Class<?> nmsEntityClass = nmsEntity.getClass();
-            Vector currentVelocity = entity.getVelocity();
-            Vector newVelocity = currentVelocity.add(force);
-            nmsEntityClass.getMethod("setDeltaMovement", double.class, double.class, double.class)
-                .invoke(nmsEntity, newVelocity.getX(), newVelocity.getY(), newVelocity.getZ());
-            nmsEntityClass.getField("hasImpulse").set(nmsEntity, true);
-        } catch (Exception e) {
-            LOGGER.error("Failed to apply force to entity: {}", e.getMessage(), e);
-            entity.setVelocity(entity.getVelocity().add(force)); // Fallback to Spigot API
-        }
-    }
-}
\ No newline at end of file
+            Class<?> craftPlayerClass = Class.forName(craftBukkitPackage + ".entity.CraftPlayer");
+            Method getHandle = craftPlayerClass.getMethod("getHandle");
+            playerHandle = LOOKUP.unreflect(getHandle).asType(MethodType.methodType(Object.class, Object.class));
+
+            Field connectionField = findFieldByTypeName(getHandle.getReturnType(), "PlayerConnection", "ServerGamePacketListenerImpl");
+            playerConnection = LOOKUP.unreflectGetter(connectionField).asType(MethodType.methodType(Object.class, Object.class));
+
+            Class<?> packetClass = firstClass("net.minecraft.network.protocol.Packet");
+            Method send = findSendMethod(connectionField.getType(), packetClass);
+            sendPacket = LOOKUP.unreflect(send).asType(MethodType.methodType(void.class, Object.class, Object.class));
+
+            particleTypesClass = firstClass("net.minecraft.core.particles.ParticleTypes");
+            Class<?> particleParamClass = firstClass("net.minecraft.core.particles.ParticleParam", "net.minecraft.core.particles.ParticleOptions");
+            Class<?> particlePacketClass = firstClass("net.minecraft.network.protocol.game.PacketPlayOutWorldParticles",
+                "net.minecraft.network.protocol.game.ClientboundLevelParticlesPacket");
+            particlePacket = LOOKUP.findConstructor(particlePacketClass, MethodType.methodType(void.class, particleParamClass, boolean.class,
+                    double.class, double.class, double.class, float.class, float.class, float.class, float.class, int.class))
+                .asType(MethodType.methodType(Object.class, Object.class, boolean.class,
+                    double.class, double.class, double.class, float.class, float.class, float.class, float.class, int.class));
+            packetsAvailable = true;
+        } catch (Throwable t) {
+            LOGGER.warn("Could not resolve NMS particle packets for {}: {}", serverVersion, t.toString());
+            return;
+        }
+        try {
+            Class<?> soundPacketClass = firstClass("net.minecraft.network.protocol.game.PacketPlayOutNamedSoundEffect",
+                "net.minecraft.network.protocol.game.ClientboundSoundPacket");
+            soundPacket = LOOKUP.findConstructor(soundPacketClass, MethodType.methodType(void.class,
+                    String.class, double.class, double.class, double.class, float.class, float.class))
+                .asType(MethodType.methodType(Object.class, String.class, double.class, double.class, double.class, float.class, float.class));
+            soundPacketsAvailable = true;
+        } catch (Throwable t) {
+            LOGGER.warn("Could not resolve NMS sound packets for {}: {}", serverVersion, t.toString());
+        }
+        if (packetQueue == null) return;
+        try {
+            Class<?> bundlePacketClass = firstClass("net.minecraft.network.protocol.game.ClientboundBundlePacket");
+            bundlePacket = LOOKUP.findConstructor(bundlePacketClass, MethodType.methodType(void.class, Iterable.class))
+                .asType(MethodType.methodType(Object.class, Iterable.class));
+            bundlesAvailable = true;
+        } catch (Throwable t) {
+            LOGGER.warn("Could not resolve bundle packets for {}, batches will be sent unbundled: {}", serverVersion, t.toString());
+        }
+    }
+
+    private void resolveVelocityHandles() {
+        try {
+            Class<?> craftEntityClass = Class.forName(craftBukkitPackage + ".entity.CraftEntity");
+            Method getHandle = craftEntityClass.getMethod("getHandle");
+            Class<?> nmsEntityClass = getHandle.getReturnType();
+            entityHandle = LOOKUP.unreflect(getHandle).asType(MethodType.methodType(Object.class, Object.class));
+            setDeltaMovement = LOOKUP.findVirtual(nmsEntityClass, "setDeltaMovement",
+                    MethodType.methodType(void.class, double.class, double.class, double.class))
+                .asType(MethodType.methodType(void.class, Object.class, double.class, double.class, double.class));
+            setHasImpulse = LOOKUP.unreflectSetter(nmsEntityClass.getField("hasImpulse"))
+                .asType(MethodType.methodType(void.class, Object.class, boolean.class));
+            velocityAvailable = true;
+        } catch (Throwable t) {
+            LOGGER.warn("Could not resolve NMS velocity handles for {}: {}", serverVersion, t.toString());
+        }
+    }
+
+    private static Class<?> firstClass(String... names) throws ClassNotFoundException {
+        for (String name : names) {
+            try {
+                return Class.forName(name);
+            } catch (ClassNotFoundException ignored) {
+                // Try the next mapping
+            }
+        }
+        throw new ClassNotFoundException(String.join(" / ", names));
+    }
+
+    private static Field findFieldByTypeName(Class<?> owner, String... typeNames) throws NoSuchFieldException {
+        for (Class<?> type = owner; type != null; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) continue;
+                for (String typeName : typeNames) {
+                    if (field.getType().getSimpleName().equals(typeName)) {
+                        field.setAccessible(true);
+                        return field;
+                    }
+                }
+            }
+        }
+        throw new NoSuchFieldException(String.join(" / ", typeNames) + " in " + owner.getName());
+    }
+
+    private static Method findSendMethod(Class<?> connectionClass, Class<?> packetClass) throws NoSuchMethodException {
+        for (String name : new String[] {"sendPacket", "send"}) {
+            try {
+                return connectionClass.getMethod(name, packetClass);
+            } catch (NoSuchMethodException ignored) {
+                // Try the next mapping
+            }
+        }
+        for (Method method : connectionClass.getMethods()) {
+            if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == packetClass && method.getReturnType() == void.class) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException("send(Packet) in " + connectionClass.getName());
+    }
+}
@@ -0,0 +1,66 @@
+package pro.akii.ks.core.fieldforge.particles;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outbound queue that collects particle and sound packets per player during a tick
+ * and hands them to {@link NMSUtil} in one batch per player when flushed.
+ */
+public class PacketQueue {
+    private final NMSUtil nmsUtil;
+    private final Map<Player, List<Object>> pending;
+    private int queuedPackets;
+
+    /**
+     * Constructs a new PacketQueue instance.
+     *
+     * @param nmsUtil The bridge used to send flushed packets.
+     */
+    public PacketQueue(NMSUtil nmsUtil) {
+        this.nmsUtil = nmsUtil;
+        this.pending = new IdentityHashMap<>();
+    }
+
+    /**
+     * Queues a packet for a player until the next flush.
+     *
+     * @param player The receiving player.
+     * @param packet The NMS packet.
+     */
+    public void enqueue(Player player, Object packet) {
+        pending.computeIfAbsent(player, k -> new ArrayList<>()).add(packet);
+        queuedPackets++;
+    }
+
+    /**
+     * Sends every queued packet, one batch per player, and empties the queue.
+     *
+     * @return The number of packets flushed.
+     */
+    public int flush() {
+        if (queuedPackets == 0) return 0;
+        int flushed = queuedPackets;
+        for (Map.Entry<Player, List<Object>> entry : pending.entrySet()) {
+            if (entry.getKey().isOnline()) {
+                nmsUtil.sendBatch(entry.getKey(), entry.getValue());
+            }
+        }
+        pending.clear();
+        queuedPackets = 0;
+        return flushed;
+    }
+
+    /**
+     * Gets the number of packets waiting for the next flush.
+     *
+     * @return The queued packet count.
+     */
+    public int size() {
+        return queuedPackets;
+    }
+}
@@ -0,0 +1,111 @@
+package pro.akii.ks.core.fieldforge.particles;
+
+import org.bukkit.util.Vector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of precomputed particle point clouds, stored as packed x, y, z offsets from a field's center
+ * and keyed by field type, range, density and direction.
+ */
+public class ParticleGeometry {
+    private final Map<Key, double[]> cache;
+
+    /**
+     * Constructs a new, empty ParticleGeometry cache.
+     */
+    public ParticleGeometry() {
+        this.cache = new HashMap<>();
+    }
+
+    /**
+     * Gets the spiral point cloud of a radial field.
+     *
+     * @param range The field's range.
+     * @param density The particle spacing.
+     * @return Packed x, y, z offsets.
+     */
+    public double[] radial(int range, double density) {
+        return cache.computeIfAbsent(new Key("radial", range, density, 0, 0, 0), key -> {
+            int count = 0;
+            for (double i = 0; i < range; i += density) count++;
+            double[] offsets = new double[count * 3];
+            int p = 0;
+            for (double i = 0; i < range; i += density) {
+                offsets[p++] = Math.cos(i) * i;
+                offsets[p++] = 0;
+                offsets[p++] = Math.sin(i) * i;
+            }
+            return offsets;
+        });
+    }
+
+    /**
+     * Gets the line point cloud of a linear field.
+     *
+     * @param range The field's range.
+     * @param density The particle spacing.
+     * @param direction The field's normalized direction.
+     * @return Packed x, y, z offsets.
+     */
+    public double[] linear(int range, double density, Vector direction) {
+        return cache.computeIfAbsent(new Key("linear", range, density, direction.getX(), direction.getY(), direction.getZ()), key -> {
+            int count = 0;
+            for (double i = 0; i < range; i += density) count++;
+            double[] offsets = new double[count * 3];
+            double stepX = key.dx() * density;
+            double stepY = key.dy() * density;
+            double stepZ = key.dz() * density;
+            for (int n = 0; n < count; n++) {
+                offsets[n * 3] = stepX * n;
+                offsets[n * 3 + 1] = stepY * n;
+                offsets[n * 3 + 2] = stepZ * n;
+            }
+            return offsets;
+        });
+    }
+
+    /**
+     * Gets the helix point cloud of a vortex field.
+     *
+     * @param range The field's range.
+     * @param density The particle spacing.
+     * @return Packed x, y, z offsets.
+     */
+    public double[] vortex(int range, double density) {
+        return cache.computeIfAbsent(new Key("vortex", range, density, 0, 0, 0), key -> {
+            double radius = range / 2.0;
+            double end = range * 2 * Math.PI;
+            int count = 0;
+            for (double i = 0; i < end; i += density) count++;
+            double[] offsets = new double[count * 3];
+            int p = 0;
+            for (double i = 0; i < end; i += density) {
+                offsets[p++] = Math.cos(i) * radius;
+                offsets[p++] = i / 2.0;
+                offsets[p++] = Math.sin(i) * radius;
+            }
+            return offsets;
+        });
+    }
+
+    /**
+     * Drops every cached point cloud.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Gets the number of cached point clouds.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private record Key(String type, int range, double density, double dx, double dy, double dz) {
+    }
+}
@@ -5,12 +5,18 @@ import org.bukkit.util.Vector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.akii.ks.core.fieldforge.FieldForgePlugin;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+import pro.akii.ks.core.fieldforge.fields.types.ExpressionField;
+import pro.akii.ks.core.fieldforge.fields.types.LinearField;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+import pro.akii.ks.core.fieldforge.fields.types.VortexField;
 
 public class ParticleManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(ParticleManager.class);
     private final FieldForgePlugin plugin;
     private final NMSUtil nmsUtil;
-    private int tickCounter;
+    private final ParticleGeometry geometry;
+    private final RenderScheduler scheduler;
 
     /**
      * Constructs a new ParticleManager instance.
@@ -19,8 +25,80 @@ public class ParticleManager {
      */
     public ParticleManager(FieldForgePlugin plugin) {
         this.plugin = plugin;
-        this.nmsUtil = new NMSUtil();
-        this.tickCounter = 0;
+        this.nmsUtil = plugin.getFieldManager().getNmsUtil();
+        this.geometry = new ParticleGeometry();
+        this.scheduler = new RenderScheduler(this);
+    }
+
+    /**
+     * Queues a field for the render scheduler; it renders on its own phase of the render interval.
+     *
+     * @param field The active field with visuals enabled.
+     */
+    public void scheduleRender(VectorField field) {
+        scheduler.submit(field);
+    }
+
+    /**
+     * Renders the fields due this tick within the configured particle budget.
+     *
+     * @return The number of particle packets sent.
+     */
+    public int flushRenders() {
+        return scheduler.tick(plugin.getConfigManager().getRenderInterval(), plugin.getConfigManager().getParticleBudget());
+    }
+
+    /**
+     * Gets the render scheduler.
+     *
+     * @return The render scheduler.
+     */
+    public RenderScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Renders a field's visual effects.
+     *
+     * @param field The field to render.
+     */
+    public void renderField(VectorField field) {
+        field.render();
+    }
+
+    /**
+     * Plays a field's configured ambient sound at its center.
+     *
+     * @param field The field.
+     */
+    public void playFieldSound(VectorField field) {
+        String type = field.getClass().getSimpleName().toLowerCase().replace("field", "");
+        nmsUtil.playSound(field.getLocation(), plugin.getConfigManager().getSoundEffect(type), 1.0F, 1.0F);
+    }
+
+    /**
+     * Estimates the particles one render of a field spawns, from its cached point cloud.
+     *
+     * @param field The field.
+     * @return The particle count per render (1 for unknown field types).
+     */
+    public int estimateParticles(VectorField field) {
+        double density = plugin.getConfigManager().getParticleDensity();
+        if (field instanceof LinearField linear) {
+            return geometry.linear(field.getRange(), density, linear.getDirection()).length / 3;
+        } else if (field instanceof VortexField) {
+            return geometry.vortex(field.getRange(), density).length / 3 + (plugin.getConfigManager().isVortexLeavesEnabled() ? 1 : 0);
+        } else if (field instanceof RadialField || field instanceof ExpressionField) {
+            return geometry.radial(field.getRange(), density).length / 3;
+        }
+        return 1;
+    }
+
+    /**
+     * Drops every cached point cloud, e.g. after the particle density is reloaded.
+     */
+    public void clearGeometry() {
+        geometry.clear();
     }
 
     /**
@@ -30,18 +108,10 @@ public class ParticleManager {
      * @param range The field's range.
      */
     public void renderRadialField(Location location, int range) {
-        tickCounter++;
-        if (tickCounter % 5 != 0) return;
         double density = plugin.getConfigManager().getParticleDensity();
         String particleType = plugin.getConfigManager().getParticleType("radial");
-        for (double i = 0; i < range; i += density) {
-            double x = Math.cos(i) * i;
-            double z = Math.sin(i) * i;
-            nmsUtil.spawnParticle(location.clone().add(x, 0, z), particleType);
-        }
-        if (tickCounter % 20 == 0) {
-            nmsUtil.playSound(location, plugin.getConfigManager().getSoundEffect("radial"), 1.0F, 1.0F);
-        }
+        nmsUtil.spawnParticles(location.getWorld(), location.getX(), location.getY(), location.getZ(),
+            geometry.radial(range, density), particleType);
     }
 
     /**
@@ -52,19 +122,24 @@ public class ParticleManager {
      * @param direction The field's direction.
      */
     public void renderLinearField(Location location, int range, Vector direction) {
-        tickCounter++;
-        if (tickCounter % 5 != 0) return;
         double density = plugin.getConfigManager().getParticleDensity();
         String particleType = plugin.getConfigManager().getParticleType("linear");
-        Vector step = direction.clone().multiply(density);
-        Location current = location.clone();
-        for (double i = 0; i < range; i += density) {
-            nmsUtil.spawnParticle(current, particleType);
-            current.add(step);
-        }
-        if (tickCounter % 20 == 0) {
-            nmsUtil.playSound(location, plugin.getConfigManager().getSoundEffect("linear"), 1.0F, 1.0F);
-        }
+        nmsUtil.spawnParticles(location.getWorld(), location.getX(), location.getY(), location.getZ(),
+            geometry.linear(range, density, direction), particleType);
+    }
+
+    /**
+     * Renders particle effects for an expression field using NMS. Its force has no fixed shape, so
+     * the outline of its range is drawn like a radial field's.
+     *
+     * @param location The field's center.
+     * @param range The field's range.
+     */
+    public void renderExpressionField(Location location, int range) {
+        double density = plugin.getConfigManager().getParticleDensity();
+        String particleType = plugin.getConfigManager().getParticleType("expression");
+        nmsUtil.spawnParticles(location.getWorld(), location.getX(), location.getY(), location.getZ(),
+            geometry.radial(range, density), particleType);
     }
 
     /**
@@ -74,20 +149,12 @@ public class ParticleManager {
      * @param range The field's range.
      */
     public void renderVortexField(Location location, int range) {
-        tickCounter++;
-        if (tickCounter % 5 != 0) return;
         double density = plugin.getConfigManager().getParticleDensity();
         String particleType = plugin.getConfigManager().getParticleType("vortex");
-        for (double i = 0; i < range * 2 * Math.PI; i += density) {
-            double x = Math.cos(i) * (range / 2.0);
-            double z = Math.sin(i) * (range / 2.0);
-            nmsUtil.spawnParticle(location.clone().add(x, i / 2.0, z), particleType);
-        }
+        nmsUtil.spawnParticles(location.getWorld(), location.getX(), location.getY(), location.getZ(),
+            geometry.vortex(range, density), particleType);
         if (plugin.getConfigManager().isVortexLeavesEnabled()) {
             nmsUtil.spawnParticle(location, "minecraft:falling_obsidian_tear");
         }
-        if (tickCounter % 20 == 0) {
-            nmsUtil.playSound(location, plugin.getConfigManager().getSoundEffect("vortex"), 1.0F, 1.0F);
-        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package pro.akii.ks.core.fieldforge.particles;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import pro.akii.ks.core.fieldforge.fields.VectorField;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Spreads field renders evenly across ticks and caps the particle packets sent per tick.
+ * Each field gets its own phase within the render interval; due fields with the closest
+ * viewers render first, and whatever exceeds the budget is deferred to the next tick.
+ */
+public class RenderScheduler {
+    private static final int VIEW_DISTANCE = 16;
+    private static final int SOUND_INTERVAL_TICKS = 20;
+    private static final Comparator<Candidate> PRIORITY = Comparator
+        .comparing((Candidate c) -> !c.slot().deferred)
+        .thenComparingDouble(Candidate::nearestViewerSquared);
+
+    private final ParticleManager particleManager;
+    private final Map<VectorField, Slot> slots;
+    private final List<VectorField> submitted;
+    private final List<Candidate> due;
+    private long tick;
+    private int nextPhase;
+    private int lastTickPackets;
+    private int lastTickDeferred;
+
+    /**
+     * Constructs a new RenderScheduler instance.
+     *
+     * @param particleManager The particle manager that performs the renders.
+     */
+    public RenderScheduler(ParticleManager particleManager) {
+        this.particleManager = particleManager;
+        this.slots = new WeakHashMap<>();
+        this.submitted = new ArrayList<>();
+        this.due = new ArrayList<>();
+    }
+
+    /**
+     * Marks a field as eligible for rendering this tick.
+     *
+     * @param field The active field with visuals enabled.
+     */
+    public void submit(VectorField field) {
+        submitted.add(field);
+    }
+
+    /**
+     * Renders the submitted fields that are due this tick, closest viewers first, within the packet budget.
+     *
+     * @param interval The number of ticks between renders of the same field.
+     * @param budget The maximum particle packets to send this tick.
+     * @return The number of particle packets sent.
+     */
+    public int tick(int interval, int budget) {
+        interval = Math.max(1, interval);
+        for (VectorField field : submitted) {
+            Slot slot = slots.computeIfAbsent(field, k -> new Slot(nextPhase++));
+            if (!slot.deferred && Math.floorMod(tick + slot.phase, interval) != 0) continue;
+            Location center = field.getLocation();
+            double reach = field.getRange() + VIEW_DISTANCE;
+            int viewers = 0;
+            double nearest = Double.MAX_VALUE;
+            for (Player player : center.getWorld().getPlayers()) {
+                double distance = player.getLocation().distanceSquared(center);
+                if (distance > reach * reach) continue;
+                viewers++;
+                nearest = Math.min(nearest, distance);
+            }
+            if (viewers == 0) {
+                slot.deferred = false;
+                continue;
+            }
+            due.add(new Candidate(field, slot, nearest, particleManager.estimateParticles(field) * viewers));
+        }
+        due.sort(PRIORITY);
+        int used = 0;
+        int deferred = 0;
+        int soundEvery = Math.max(1, SOUND_INTERVAL_TICKS / interval);
+        for (Candidate candidate : due) {
+            if (used > 0 && used + candidate.cost() > budget) {
+                candidate.slot().deferred = true;
+                deferred++;
+                continue;
+            }
+            Slot slot = candidate.slot();
+            slot.deferred = false;
+            particleManager.renderField(candidate.field());
+            if (slot.renders++ % soundEvery == 0) {
+                particleManager.playFieldSound(candidate.field());
+            }
+            used += candidate.cost();
+        }
+        due.clear();
+        submitted.clear();
+        tick++;
+        lastTickPackets = used;
+        lastTickDeferred = deferred;
+        return used;
+    }
+
+    /**
+     * Gets the number of particle packets sent during the last scheduled tick.
+     *
+     * @return The packet count.
+     */
+    public int getLastTickPackets() {
+        return lastTickPackets;
+    }
+
+    /**
+     * Gets the number of due renders pushed to the next tick by the budget during the last scheduled tick.
+     *
+     * @return The deferred render count.
+     */
+    public int getLastTickDeferred() {
+        return lastTickDeferred;
+    }
+
+    private static final class Slot {
+        private final int phase;
+        private boolean deferred;
+        private int renders;
+
+        private Slot(int phase) {
+            this.phase = phase;
+        }
+    }
+
+    private record Candidate(VectorField field, Slot slot, double nearestViewerSquared, int cost) {
+    }
+}
@@ -0,0 +1,313 @@
+package pro.akii.ks.core.fieldforge.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Versioned binary file of {@link FieldRecord}s.
+ * <p>
+ * Layout: a fixed header (magic, version, record count, string count, payload length, payload
+ * CRC32C, header CRC32C) followed by the payload: a string table holding world and type names,
+ * then the records, each prefixed with its length so readers can skip fields a newer version
+ * appended. Files are written to a temporary sibling, forced to disk and renamed over the target,
+ * so a crash leaves either the old or the new file. Loading maps the file into memory and
+ * verifies both checksums before decoding anything.
+ */
+public class BinaryFieldStore {
+    private static final int MAGIC = 0x46464C44; // "FFLD"
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 28;
+    private static final byte FLAG_ACTIVE = 1;
+    private static final byte FLAG_CREATOR = 1 << 1;
+    private static final byte FLAG_DIRECTION = 1 << 2;
+    private static final byte FLAG_EXPRESSION = 1 << 3;
+    // Windows keeps a mapped file locked until the mapping is garbage collected, which would make
+    // the rename of the next save fail, so files are read into the heap there instead.
+    private static final boolean MAP_FILES = !System.getProperty("os.name", "").startsWith("Windows");
+
+    /**
+     * Writes records to a file atomically, replacing any previous contents.
+     *
+     * @param file The target file.
+     * @param records The records to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Path file, Collection<FieldRecord> records) throws IOException {
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> table = new ArrayList<>();
+        for (FieldRecord record : records) {
+            intern(record.world(), strings, table);
+            intern(record.type(), strings, table);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + records.size() * 80);
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (String value : table) {
+            writeUtf(value, out);
+        }
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(128);
+        DataOutputStream recordOut = new DataOutputStream(recordBytes);
+        for (FieldRecord record : records) {
+            recordBytes.reset();
+            encode(record, strings, recordOut);
+            out.writeShort(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+        out.flush();
+        ByteBuffer payload = ByteBuffer.wrap(bytes.toByteArray());
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+            .putInt(records.size()).putInt(table.size()).putInt(payload.remaining()).putInt((int) crc.getValue());
+        crc.reset();
+        crc.update(header.array(), 0, HEADER_BYTES - 4);
+        header.putInt((int) crc.getValue());
+        header.flip();
+
+        writeAtomically(file, header, payload);
+    }
+
+    /**
+     * Reads all records from a file, through a memory mapping where the platform allows it.
+     *
+     * @param file The file to read.
+     * @return The records in file order.
+     * @throws IOException If the file cannot be read, is not a field store, has an unsupported
+     *                     version or fails its checksum.
+     */
+    public static List<FieldRecord> read(Path file) throws IOException {
+        ByteBuffer buffer = readFile(file);
+        if (buffer.remaining() < HEADER_BYTES) {
+            throw new IOException("Truncated field store: " + file);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, HEADER_BYTES - 4));
+        if (buffer.getInt(HEADER_BYTES - 4) != (int) crc.getValue()) {
+            throw new IOException("Corrupt field store header: " + file);
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a field store: " + file);
+        }
+        short version = buffer.getShort();
+        if (version > VERSION) {
+            throw new IOException("Unsupported field store version " + version + ": " + file);
+        }
+        buffer.getShort();
+        int recordCount = buffer.getInt();
+        int stringCount = buffer.getInt();
+        int payloadLength = buffer.getInt();
+        int payloadCrc = buffer.getInt();
+        buffer.getInt();
+        if (buffer.remaining() < payloadLength) {
+            throw new IOException("Truncated field store: " + file);
+        }
+        crc.reset();
+        crc.update(buffer.slice(HEADER_BYTES, payloadLength));
+        if (payloadCrc != (int) crc.getValue()) {
+            throw new IOException("Field store checksum mismatch: " + file);
+        }
+
+        String[] table = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            table[i] = readUtf(buffer);
+        }
+        List<FieldRecord> records = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            int length = buffer.getShort() & 0xFFFF;
+            int end = buffer.position() + length;
+            records.add(decode(buffer, table));
+            buffer.position(end);
+        }
+        return records;
+    }
+
+    /**
+     * Encodes one record with its strings inline, for formats without a string table.
+     *
+     * @param record The record.
+     * @param out The stream to write to.
+     * @throws IOException If the stream fails.
+     */
+    static void writeRecord(FieldRecord record, DataOutputStream out) throws IOException {
+        out.writeLong(record.id());
+        writeUtf(record.type(), out);
+        writeUtf(record.world(), out);
+        writeAttributes(record, out);
+    }
+
+    /**
+     * Decodes one record written by {@link #writeRecord(FieldRecord, DataOutputStream)}.
+     *
+     * @param buffer The buffer positioned at the record.
+     * @return The record.
+     */
+    static FieldRecord readRecord(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        String type = readUtf(buffer);
+        String world = readUtf(buffer);
+        return readAttributes(id, type, world, buffer);
+    }
+
+    /**
+     * Writes buffers to a temporary sibling of a file, forces it to disk and renames it over the
+     * file, so a crash leaves either the old or the new contents.
+     *
+     * @param file The target file.
+     * @param buffers The contents, written in order.
+     * @throws IOException If the file cannot be written.
+     */
+    static void writeAtomically(Path file, ByteBuffer... buffers) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (ByteBuffer buffer : buffers) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a whole file, through a memory mapping where the platform allows it.
+     *
+     * @param file The file to read.
+     * @return The contents.
+     * @throws IOException If the file cannot be read.
+     */
+    static ByteBuffer readFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (MAP_FILES) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until full or end of file
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    private static void encode(FieldRecord record, Map<String, Integer> strings, DataOutputStream out) throws IOException {
+        out.writeLong(record.id());
+        out.writeShort(strings.get(record.type()));
+        out.writeShort(strings.get(record.world()));
+        writeAttributes(record, out);
+    }
+
+    private static FieldRecord decode(ByteBuffer buffer, String[] table) {
+        long id = buffer.getLong();
+        String type = table[buffer.getShort() & 0xFFFF];
+        String world = table[buffer.getShort() & 0xFFFF];
+        return readAttributes(id, type, world, buffer);
+    }
+
+    private static void writeAttributes(FieldRecord record, DataOutputStream out) throws IOException {
+        boolean directional = record.directionX() != 0 || record.directionY() != 0 || record.directionZ() != 0;
+        byte flags = 0;
+        if (record.active()) flags |= FLAG_ACTIVE;
+        if (record.creator() != null) flags |= FLAG_CREATOR;
+        if (directional) flags |= FLAG_DIRECTION;
+        if (record.expression() != null) flags |= FLAG_EXPRESSION;
+        out.writeByte(flags);
+        out.writeDouble(record.x());
+        out.writeDouble(record.y());
+        out.writeDouble(record.z());
+        out.writeDouble(record.strength());
+        out.writeInt(record.range());
+        out.writeLong(record.durationTicks());
+        out.writeLong(record.remainingTicks());
+        out.writeInt(record.updateInterval());
+        if (record.creator() != null) {
+            out.writeLong(record.creator().getMostSignificantBits());
+            out.writeLong(record.creator().getLeastSignificantBits());
+        }
+        if (directional) {
+            out.writeDouble(record.directionX());
+            out.writeDouble(record.directionY());
+            out.writeDouble(record.directionZ());
+        }
+        if (record.expression() != null) {
+            writeUtf(record.expression(), out);
+        }
+    }
+
+    private static FieldRecord readAttributes(long id, String type, String world, ByteBuffer buffer) {
+        byte flags = buffer.get();
+        double x = buffer.getDouble();
+        double y = buffer.getDouble();
+        double z = buffer.getDouble();
+        double strength = buffer.getDouble();
+        int range = buffer.getInt();
+        long duration = buffer.getLong();
+        long remaining = buffer.getLong();
+        int interval = buffer.getInt();
+        UUID creator = (flags & FLAG_CREATOR) != 0 ? new UUID(buffer.getLong(), buffer.getLong()) : null;
+        double dx = 0, dy = 0, dz = 0;
+        if ((flags & FLAG_DIRECTION) != 0) {
+            dx = buffer.getDouble();
+            dy = buffer.getDouble();
+            dz = buffer.getDouble();
+        }
+        String expression = (flags & FLAG_EXPRESSION) != 0 ? readUtf(buffer) : null;
+        return new FieldRecord(id, type, world, x, y, z, strength, range, dx, dy, dz, creator,
+            duration, remaining, (flags & FLAG_ACTIVE) != 0, interval, expression);
+    }
+
+    /**
+     * Writes a string as its UTF-8 length (unsigned short) followed by the bytes.
+     *
+     * @param value The string.
+     * @param out The stream to write to.
+     * @throws IOException If the stream fails.
+     */
+    static void writeUtf(String value, DataOutputStream out) throws IOException {
+        byte[] utf = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(utf.length);
+        out.write(utf);
+    }
+
+    /**
+     * Reads a string written by {@link #writeUtf(String, DataOutputStream)}.
+     *
+     * @param buffer The buffer positioned at the string.
+     * @return The string.
+     */
+    static String readUtf(ByteBuffer buffer) {
+        byte[] utf = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(utf);
+        return new String(utf, StandardCharsets.UTF_8);
+    }
+
+    private static void intern(String value, Map<String, Integer> strings, List<String> table) {
+        if (!strings.containsKey(value)) {
+            strings.put(value, table.size());
+            table.add(value);
+        }
+    }
+}
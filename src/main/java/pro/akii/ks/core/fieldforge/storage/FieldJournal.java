@@ -0,0 +1,429 @@
+package pro.akii.ks.core.fieldforge.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+
+/**
+ * Write-behind, append-only journal of field mutations on top of a {@link ShardedFieldStore}.
+ * <p>
+ * The main thread encodes each mutation into a few bytes and queues it; a single writer thread
+ * appends queued entries in batches and forces each batch to disk, so callers never wait on I/O.
+ * Every entry is framed with its length and a CRC32C, so a write torn by a crash is detected and
+ * replay stops there, and names the shard of its field, so replay only reads the shards it touches.
+ * Compaction writes the changed shards and truncates the journal; since it goes through the same
+ * queue, entries queued before it are covered by the written shards and entries queued after it
+ * land in the fresh journal. Other storage I/O is {@linkplain #submit(Callable) submitted} to the
+ * same thread, so a shard read queued after a write of that shard sees the written contents.
+ * Entries set absolute values, so replaying a journal over shards that already include some of
+ * them yields the same state.
+ */
+public class FieldJournal {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FieldJournal.class);
+    private static final int MAGIC = 0x46464A4C; // "FFJL"
+    private static final short VERSION = 2;
+    private static final int HEADER_BYTES = 8;
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_STRENGTH = 3;
+    private static final byte OP_ACTIVE = 4;
+    private static final byte OP_INTERVAL = 5;
+    private static final Pending STOP = new Pending(null, null);
+    private final Path journalFile;
+    private final BlockingQueue<Pending> queue;
+    private final ByteArrayOutputStream entryBytes;
+    private final DataOutputStream entryOut;
+    private final Thread writer;
+    private FileChannel channel;
+    private int entriesSinceCompaction;
+    private volatile boolean keepEntries;
+
+    /**
+     * Constructs a new FieldJournal and starts its writer thread.
+     *
+     * @param journalFile The journal file.
+     */
+    public FieldJournal(Path journalFile) {
+        this.journalFile = journalFile;
+        this.queue = new LinkedBlockingQueue<>();
+        this.entryBytes = new ByteArrayOutputStream(128);
+        this.entryOut = new DataOutputStream(entryBytes);
+        this.writer = new Thread(this::run, "FieldForge-Journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Records a created field, or the full state of a field.
+     *
+     * @param record The field's record.
+     */
+    public void put(FieldRecord record) {
+        try {
+            writeHeader(OP_PUT, ShardKey.ofRecord(record));
+            BinaryFieldStore.writeRecord(record, entryOut);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        enqueueEntry();
+    }
+
+    /**
+     * Records a removed field.
+     *
+     * @param key The shard of the field.
+     * @param id The field ID.
+     */
+    public void remove(ShardKey key, long id) {
+        try {
+            writeHeader(OP_REMOVE, key);
+            entryOut.writeLong(id);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        enqueueEntry();
+    }
+
+    /**
+     * Records a strength change.
+     *
+     * @param key The shard of the field.
+     * @param id The field ID.
+     * @param strength The new strength.
+     */
+    public void setStrength(ShardKey key, long id, double strength) {
+        try {
+            writeHeader(OP_STRENGTH, key);
+            entryOut.writeLong(id);
+            entryOut.writeDouble(strength);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        enqueueEntry();
+    }
+
+    /**
+     * Records an active state change.
+     *
+     * @param key The shard of the field.
+     * @param id The field ID.
+     * @param active The new active state.
+     */
+    public void setActive(ShardKey key, long id, boolean active) {
+        try {
+            writeHeader(OP_ACTIVE, key);
+            entryOut.writeLong(id);
+            entryOut.writeBoolean(active);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        enqueueEntry();
+    }
+
+    /**
+     * Records an update interval change.
+     *
+     * @param key The shard of the field.
+     * @param id The field ID.
+     * @param ticks The new update interval in ticks.
+     */
+    public void setUpdateInterval(ShardKey key, long id, int ticks) {
+        try {
+            writeHeader(OP_INTERVAL, key);
+            entryOut.writeLong(id);
+            entryOut.writeInt(ticks);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        enqueueEntry();
+    }
+
+    /**
+     * Queues a compaction: the writer runs the snapshot task, which must write every shard changed
+     * since the last compaction, and then truncates the journal. If the snapshot task or any write
+     * {@linkplain #submitWrite(Callable) submitted} before it failed, the journal is kept instead, so the
+     * entries the failed write would have covered are replayed on the next start.
+     *
+     * @param snapshot The task writing the changed shards, run on the writer thread.
+     * @return A future completed once the snapshot is on disk, or exceptionally if writing failed.
+     */
+    public CompletableFuture<Void> compact(Callable<?> snapshot) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        queue.add(new Pending(null, () -> {
+            try {
+                snapshot.call();
+                if (keepEntries) {
+                    LOGGER.warn("Keeping field journal entries after an earlier failed write; they are replayed on the next start");
+                } else {
+                    FileChannel out = openChannel();
+                    writeFileHeader(out);
+                    out.force(true);
+                }
+                done.complete(null);
+            } catch (Exception e) {
+                keepEntries = true;
+                LOGGER.error("Failed to compact field journal: {}", e.getMessage(), e);
+                done.completeExceptionally(e);
+            }
+        }));
+        entriesSinceCompaction = 0;
+        return done;
+    }
+
+    /**
+     * Queues other storage I/O to run on the writer thread after everything queued so far.
+     *
+     * @param task The task.
+     * @param <T> The result type.
+     * @return A future completed with the task's result, or exceptionally if it failed.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> done = new CompletableFuture<>();
+        queue.add(new Pending(null, () -> {
+            try {
+                done.complete(task.call());
+            } catch (Exception e) {
+                done.completeExceptionally(e);
+            }
+        }));
+        return done;
+    }
+
+    /**
+     * Queues a write of journaled data, such as a shard that is being dropped from memory, to run
+     * on the writer thread after everything queued so far. If it fails, no later compaction
+     * truncates the journal, so its entries are replayed on the next start.
+     *
+     * @param task The write.
+     * @return A future completed once the write is done, or exceptionally if it failed.
+     */
+    public CompletableFuture<Void> submitWrite(Callable<?> task) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        queue.add(new Pending(null, () -> {
+            try {
+                task.call();
+                done.complete(null);
+            } catch (Exception e) {
+                keepEntries = true;
+                LOGGER.error("Failed to write fields; keeping the journal until the next start: {}", e.getMessage(), e);
+                done.completeExceptionally(e);
+            }
+        }));
+        return done;
+    }
+
+    /**
+     * Gets the number of entries queued since the last compaction was requested.
+     *
+     * @return The entry count.
+     */
+    public int getEntriesSinceCompaction() {
+        return entriesSinceCompaction;
+    }
+
+    /**
+     * Checks whether the journal file holds any entries, valid or not.
+     *
+     * @return True if the file is longer than its header.
+     */
+    public boolean hasEntries() {
+        try {
+            return Files.exists(journalFile) && Files.size(journalFile) > HEADER_BYTES;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Applies the journal to stored records. Replay stops at the first entry that is truncated or
+     * fails its checksum; entries before it are kept. Must be called before any entry is queued.
+     *
+     * @param shards Gives the records by ID of the shard an entry belongs to, updated in place.
+     *               Entries of a version 1 journal name no shard and are applied to the records of
+     *               the {@code null} shard.
+     * @return The number of entries applied.
+     * @throws IOException If the journal exists but cannot be read or has an unsupported version.
+     */
+    public int replay(Function<ShardKey, Map<Long, FieldRecord>> shards) throws IOException {
+        if (!Files.exists(journalFile)) return 0;
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(journalFile));
+        if (buffer.remaining() < HEADER_BYTES) return 0;
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a field journal: " + journalFile);
+        }
+        short version = buffer.getShort();
+        if (version > VERSION) {
+            throw new IOException("Unsupported field journal version " + version + ": " + journalFile);
+        }
+        buffer.getShort();
+        int applied = 0;
+        CRC32C crc = new CRC32C();
+        while (buffer.remaining() >= 8) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) break;
+            crc.reset();
+            crc.update(buffer.slice(buffer.position(), length));
+            if (checksum != (int) crc.getValue()) break;
+            int end = buffer.position() + length;
+            byte op = buffer.get();
+            ShardKey key = version >= 2 ? new ShardKey(BinaryFieldStore.readUtf(buffer), buffer.getInt(), buffer.getInt()) : null;
+            apply(op, buffer, shards.apply(key));
+            buffer.position(end);
+            applied++;
+        }
+        if (buffer.hasRemaining()) {
+            LOGGER.warn("Ignored {} bytes of torn or corrupt entries at the end of {}", buffer.remaining(), journalFile.getFileName());
+        }
+        return applied;
+    }
+
+    /**
+     * Writes everything queued so far, then stops the writer thread. Waits for the writer to finish.
+     */
+    public void close() {
+        queue.add(STOP);
+        try {
+            writer.join(30_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            LOGGER.error("Field journal writer did not finish within 30 seconds");
+        }
+    }
+
+    private void writeHeader(byte op, ShardKey key) throws IOException {
+        entryOut.writeByte(op);
+        BinaryFieldStore.writeUtf(key.world(), entryOut);
+        entryOut.writeInt(key.regionX());
+        entryOut.writeInt(key.regionZ());
+    }
+
+    private void enqueueEntry() {
+        queue.add(new Pending(entryBytes.toByteArray(), null));
+        entryBytes.reset();
+        entriesSinceCompaction++;
+    }
+
+    private static void apply(byte op, ByteBuffer buffer, Map<Long, FieldRecord> records) {
+        if (op == OP_PUT) {
+            FieldRecord record = BinaryFieldStore.readRecord(buffer);
+            records.put(record.id(), record);
+            return;
+        }
+        long id = buffer.getLong();
+        switch (op) {
+            case OP_REMOVE:
+                records.remove(id);
+                break;
+            case OP_STRENGTH:
+                double strength = buffer.getDouble();
+                records.computeIfPresent(id, (k, record) -> record.withStrength(strength));
+                break;
+            case OP_ACTIVE:
+                boolean active = buffer.get() != 0;
+                records.computeIfPresent(id, (k, record) -> record.withActive(active));
+                break;
+            case OP_INTERVAL:
+                int ticks = buffer.getInt();
+                records.computeIfPresent(id, (k, record) -> record.withUpdateInterval(ticks));
+                break;
+            default:
+                LOGGER.warn("Skipping field journal entry with unknown operation {}", op);
+        }
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>();
+        ByteArrayOutputStream pendingBytes = new ByteArrayOutputStream(4096);
+        CRC32C crc = new CRC32C();
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch);
+            for (Pending pending : batch) {
+                if (pending.entry() != null) {
+                    crc.reset();
+                    crc.update(pending.entry());
+                    ByteBuffer frame = ByteBuffer.allocate(8).putInt(pending.entry().length).putInt((int) crc.getValue());
+                    pendingBytes.write(frame.array(), 0, 8);
+                    pendingBytes.write(pending.entry(), 0, pending.entry().length);
+                    continue;
+                }
+                flush(pendingBytes);
+                if (pending == STOP) {
+                    running = false;
+                    break;
+                }
+                pending.task().run();
+            }
+            flush(pendingBytes);
+            batch.clear();
+        }
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to close field journal: {}", e.getMessage(), e);
+        }
+    }
+
+    private void flush(ByteArrayOutputStream pendingBytes) {
+        if (pendingBytes.size() == 0) return;
+        try {
+            FileChannel out = openChannel();
+            ByteBuffer bytes = ByteBuffer.wrap(pendingBytes.toByteArray());
+            while (bytes.hasRemaining()) {
+                out.write(bytes);
+            }
+            out.force(false);
+        } catch (IOException e) {
+            LOGGER.error("Failed to append to field journal: {}", e.getMessage(), e);
+        }
+        pendingBytes.reset();
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            // A journal without entries may still carry the header of an older version.
+            if (channel.size() <= HEADER_BYTES) {
+                writeFileHeader(channel);
+            }
+        }
+        return channel;
+    }
+
+    private static void writeFileHeader(FileChannel out) throws IOException {
+        out.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putShort(VERSION).putShort((short) 0);
+        header.flip();
+        out.write(header);
+    }
+
+    private record Pending(byte[] entry, Runnable task) {
+    }
+}
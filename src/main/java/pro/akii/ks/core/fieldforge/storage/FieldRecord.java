@@ -0,0 +1,74 @@
+package pro.akii.ks.core.fieldforge.storage;
+
+import java.util.UUID;
+
+/**
+ * Persistent form of a field. Holds no Bukkit objects, so records can be encoded, decoded and
+ * written away from the main thread.
+ *
+ * @param id The stable field ID.
+ * @param type The field type name (radial, linear, vortex, expression).
+ * @param world The name of the field's world.
+ * @param x The X coordinate of the center.
+ * @param y The Y coordinate of the center.
+ * @param z The Z coordinate of the center.
+ * @param strength The force magnitude.
+ * @param range The effective radius in blocks.
+ * @param directionX The X component of the direction, for directional fields.
+ * @param directionY The Y component of the direction, for directional fields.
+ * @param directionZ The Z component of the direction, for directional fields.
+ * @param creator The UUID of the field creator, or null if API-created.
+ * @param durationTicks The configured lifetime in ticks (0 for permanent).
+ * @param remainingTicks The lifetime left in ticks (0 for permanent).
+ * @param active Whether the field is active.
+ * @param updateInterval The update interval in ticks.
+ * @param expression The force expressions of expression fields, joined by semicolons, or null.
+ */
+public record FieldRecord(long id, String type, String world, double x, double y, double z, double strength, int range,
+                          double directionX, double directionY, double directionZ, UUID creator,
+                          long durationTicks, long remainingTicks, boolean active, int updateInterval,
+                          String expression) {
+    /**
+     * Copies this record with a different ID.
+     *
+     * @param id The new ID.
+     * @return The updated record.
+     */
+    public FieldRecord withId(long id) {
+        return new FieldRecord(id, type, world, x, y, z, strength, range, directionX, directionY, directionZ,
+            creator, durationTicks, remainingTicks, active, updateInterval, expression);
+    }
+
+    /**
+     * Copies this record with a different strength.
+     *
+     * @param strength The new strength.
+     * @return The updated record.
+     */
+    public FieldRecord withStrength(double strength) {
+        return new FieldRecord(id, type, world, x, y, z, strength, range, directionX, directionY, directionZ,
+            creator, durationTicks, remainingTicks, active, updateInterval, expression);
+    }
+
+    /**
+     * Copies this record with a different active state.
+     *
+     * @param active The new active state.
+     * @return The updated record.
+     */
+    public FieldRecord withActive(boolean active) {
+        return new FieldRecord(id, type, world, x, y, z, strength, range, directionX, directionY, directionZ,
+            creator, durationTicks, remainingTicks, active, updateInterval, expression);
+    }
+
+    /**
+     * Copies this record with a different update interval.
+     *
+     * @param updateInterval The new update interval in ticks.
+     * @return The updated record.
+     */
+    public FieldRecord withUpdateInterval(int updateInterval) {
+        return new FieldRecord(id, type, world, x, y, z, strength, range, directionX, directionY, directionZ,
+            creator, durationTicks, remainingTicks, active, updateInterval, expression);
+    }
+}
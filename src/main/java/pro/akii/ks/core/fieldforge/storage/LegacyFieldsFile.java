@@ -0,0 +1,79 @@
+package pro.akii.ks.core.fieldforge.storage;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reader for the fields.yml format used before {@link BinaryFieldStore}: a YAML list of
+ * comma-joined entries {@code type,world,x,y,z,strength,range,direction,creator,duration,active}
+ * followed by optional {@code key=value} entries (id, remaining, interval). Only used to migrate
+ * existing installations.
+ */
+public class LegacyFieldsFile {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LegacyFieldsFile.class);
+
+    /**
+     * Reads every parseable entry of a legacy fields file. Entries without an ID get ID 0.
+     *
+     * @param file The fields.yml file.
+     * @return The records, skipping malformed entries.
+     */
+    public static List<FieldRecord> read(File file) {
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        List<FieldRecord> records = new ArrayList<>();
+        for (String entry : config.getStringList("fields")) {
+            try {
+                records.add(parse(entry));
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed to migrate field: {}", entry, e);
+            }
+        }
+        return records;
+    }
+
+    private static FieldRecord parse(String entry) {
+        String[] parts = entry.split(",");
+        String type = parts[0];
+        double dx = 0, dy = 0, dz = 0;
+        // Directions were written with Vector.toString(), which is itself comma-separated on
+        // current servers ("x,y,z") and shifts every later column by two.
+        int shift = 0;
+        if ("linear".equals(type)) {
+            if (parts[7].startsWith("Vector(")) {
+                String[] dirParts = parts[7].replace("Vector(", "").replace(")", "").split(", ");
+                dx = Double.parseDouble(dirParts[0].split("=")[1]);
+                dy = Double.parseDouble(dirParts[1].split("=")[1]);
+                dz = Double.parseDouble(dirParts[2].split("=")[1]);
+            } else {
+                dx = Double.parseDouble(parts[7]);
+                dy = Double.parseDouble(parts[8]);
+                dz = Double.parseDouble(parts[9]);
+                shift = 2;
+            }
+        }
+        UUID creator = "none".equals(parts[8 + shift]) ? null : UUID.fromString(parts[8 + shift]);
+        long duration = Long.parseLong(parts[9 + shift]);
+        boolean active = Boolean.parseBoolean(parts[10 + shift]);
+        long id = 0;
+        long remaining = duration;
+        int interval = 1;
+        for (int i = parts.length - 1; i > 10 + shift && parts[i].contains("="); i--) {
+            if (parts[i].startsWith("id=")) {
+                id = Long.parseLong(parts[i].substring(3));
+            } else if (parts[i].startsWith("remaining=")) {
+                remaining = Long.parseLong(parts[i].substring(10));
+            } else if (parts[i].startsWith("interval=")) {
+                interval = Integer.parseInt(parts[i].substring(9));
+            }
+        }
+        return new FieldRecord(id, type, parts[1], Double.parseDouble(parts[2]), Double.parseDouble(parts[3]),
+            Double.parseDouble(parts[4]), Double.parseDouble(parts[5]), Integer.parseInt(parts[6]),
+            dx, dy, dz, creator, duration, remaining, active, interval, null);
+    }
+}
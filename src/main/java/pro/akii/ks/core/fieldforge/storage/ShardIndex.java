@@ -0,0 +1,15 @@
+package pro.akii.ks.core.fieldforge.storage;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Store-wide state that must be known without loading every shard: the next free field ID and
+ * how many fields each player owns in each shard, which per-player limits are checked against.
+ *
+ * @param nextFieldId The ID the next created field receives.
+ * @param owners The number of fields per creator, by shard. Shards without player-created fields
+ *               may be absent.
+ */
+public record ShardIndex(long nextFieldId, Map<ShardKey, Map<UUID, Integer>> owners) {
+}
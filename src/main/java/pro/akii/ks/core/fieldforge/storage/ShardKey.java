@@ -0,0 +1,67 @@
+package pro.akii.ks.core.fieldforge.storage;
+
+/**
+ * Identifies a shard of the field store: the fields centered in one region of 32×32 chunks of a world.
+ *
+ * @param world The name of the world.
+ * @param regionX The region X coordinate (chunk X divided by 32, rounded down).
+ * @param regionZ The region Z coordinate (chunk Z divided by 32, rounded down).
+ */
+public record ShardKey(String world, int regionX, int regionZ) {
+    /** Bits dropped from a chunk coordinate to get its region coordinate. */
+    public static final int REGION_SHIFT = 5;
+    /** Width of a region in chunks. */
+    public static final int REGION_CHUNKS = 1 << REGION_SHIFT;
+
+    /**
+     * Gets the shard of a chunk.
+     *
+     * @param world The name of the world.
+     * @param chunkX The chunk X coordinate.
+     * @param chunkZ The chunk Z coordinate.
+     * @return The shard key.
+     */
+    public static ShardKey ofChunk(String world, int chunkX, int chunkZ) {
+        return new ShardKey(world, chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+    }
+
+    /**
+     * Gets the shard of a block.
+     *
+     * @param world The name of the world.
+     * @param blockX The block X coordinate.
+     * @param blockZ The block Z coordinate.
+     * @return The shard key.
+     */
+    public static ShardKey ofBlock(String world, int blockX, int blockZ) {
+        return ofChunk(world, blockX >> 4, blockZ >> 4);
+    }
+
+    /**
+     * Gets the shard a record is stored in, from the block containing its center.
+     *
+     * @param record The record.
+     * @return The shard key.
+     */
+    public static ShardKey ofRecord(FieldRecord record) {
+        return ofBlock(record.world(), (int) Math.floor(record.x()), (int) Math.floor(record.z()));
+    }
+
+    /**
+     * Gets the X coordinate of the region's first chunk.
+     *
+     * @return The chunk X coordinate.
+     */
+    public int minChunkX() {
+        return regionX << REGION_SHIFT;
+    }
+
+    /**
+     * Gets the Z coordinate of the region's first chunk.
+     *
+     * @return The chunk Z coordinate.
+     */
+    public int minChunkZ() {
+        return regionZ << REGION_SHIFT;
+    }
+}
@@ -0,0 +1,253 @@
+package pro.akii.ks.core.fieldforge.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+/**
+ * Field store split into one {@link BinaryFieldStore} file per {@link ShardKey}, laid out as
+ * {@code <root>/<world>/r.<regionX>.<regionZ>.dat}, plus an index file holding the
+ * {@link ShardIndex}. Shards are read and written independently, so only the regions with loaded
+ * chunks need to be in memory. Empty shards have no file.
+ */
+public class ShardedFieldStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardedFieldStore.class);
+    private static final int INDEX_MAGIC = 0x46464958; // "FFIX"
+    private static final short INDEX_VERSION = 1;
+    private static final int INDEX_HEADER_BYTES = 16;
+    private static final Pattern SHARD_FILE = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.dat");
+    private final Path root;
+    private final Path indexFile;
+
+    /**
+     * Constructs a new ShardedFieldStore.
+     *
+     * @param root The directory holding the shards and the index.
+     */
+    public ShardedFieldStore(Path root) {
+        this.root = root;
+        this.indexFile = root.resolve("index.dat");
+    }
+
+    /**
+     * Gets the index file.
+     *
+     * @return The path of the index.
+     */
+    public Path getIndexFile() {
+        return indexFile;
+    }
+
+    /**
+     * Gets the file a shard is stored in.
+     *
+     * @param key The shard.
+     * @return The path of the shard file, which may not exist.
+     */
+    public Path getShardFile(ShardKey key) {
+        return root.resolve(key.world()).resolve("r." + key.regionX() + "." + key.regionZ() + ".dat");
+    }
+
+    /**
+     * Checks whether the store has been written before.
+     *
+     * @return True if the index file exists.
+     */
+    public boolean exists() {
+        return Files.exists(indexFile);
+    }
+
+    /**
+     * Reads the records of a shard.
+     *
+     * @param key The shard.
+     * @return The records in file order, or an empty list if the shard has no file.
+     * @throws IOException If the shard file cannot be read or is corrupt.
+     */
+    public List<FieldRecord> readShard(ShardKey key) throws IOException {
+        Path file = getShardFile(key);
+        if (!Files.exists(file)) return new ArrayList<>();
+        return BinaryFieldStore.read(file);
+    }
+
+    /**
+     * Replaces the records of a shard atomically, deleting its file if there are none.
+     *
+     * @param key The shard.
+     * @param records The records of every field in the shard.
+     * @throws IOException If the shard file cannot be written.
+     */
+    public void writeShard(ShardKey key, Collection<FieldRecord> records) throws IOException {
+        Path file = getShardFile(key);
+        if (records.isEmpty()) {
+            Files.deleteIfExists(file);
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        BinaryFieldStore.write(file, records);
+    }
+
+    /**
+     * Reads the index.
+     *
+     * @return The index, or the index {@linkplain #rebuildIndex() rebuilt} from the shards if none
+     *         was written yet.
+     * @throws IOException If the index cannot be read or fails its checksum.
+     */
+    public ShardIndex readIndex() throws IOException {
+        if (!Files.exists(indexFile)) return rebuildIndex();
+        ByteBuffer buffer = BinaryFieldStore.readFile(indexFile);
+        if (buffer.remaining() < INDEX_HEADER_BYTES || buffer.getInt() != INDEX_MAGIC) {
+            throw new IOException("Not a field store index: " + indexFile);
+        }
+        short version = buffer.getShort();
+        if (version > INDEX_VERSION) {
+            throw new IOException("Unsupported field store index version " + version + ": " + indexFile);
+        }
+        buffer.getShort();
+        int payloadLength = buffer.getInt();
+        int payloadCrc = buffer.getInt();
+        if (buffer.remaining() < payloadLength) {
+            throw new IOException("Truncated field store index: " + indexFile);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(INDEX_HEADER_BYTES, payloadLength));
+        if (payloadCrc != (int) crc.getValue()) {
+            throw new IOException("Field store index checksum mismatch: " + indexFile);
+        }
+        long nextFieldId = buffer.getLong();
+        int shardCount = buffer.getInt();
+        Map<ShardKey, Map<UUID, Integer>> owners = new HashMap<>(shardCount * 2);
+        for (int i = 0; i < shardCount; i++) {
+            ShardKey key = new ShardKey(BinaryFieldStore.readUtf(buffer), buffer.getInt(), buffer.getInt());
+            int ownerCount = buffer.getInt();
+            Map<UUID, Integer> counts = new HashMap<>(ownerCount * 2);
+            for (int j = 0; j < ownerCount; j++) {
+                counts.put(new UUID(buffer.getLong(), buffer.getLong()), buffer.getInt());
+            }
+            owners.put(key, counts);
+        }
+        return new ShardIndex(nextFieldId, owners);
+    }
+
+    /**
+     * Replaces the index atomically.
+     *
+     * @param index The index.
+     * @throws IOException If the index cannot be written.
+     */
+    public void writeIndex(ShardIndex index) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + index.owners().size() * 48);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(index.nextFieldId());
+        out.writeInt(index.owners().size());
+        for (Map.Entry<ShardKey, Map<UUID, Integer>> shard : index.owners().entrySet()) {
+            BinaryFieldStore.writeUtf(shard.getKey().world(), out);
+            out.writeInt(shard.getKey().regionX());
+            out.writeInt(shard.getKey().regionZ());
+            out.writeInt(shard.getValue().size());
+            for (Map.Entry<UUID, Integer> owner : shard.getValue().entrySet()) {
+                out.writeLong(owner.getKey().getMostSignificantBits());
+                out.writeLong(owner.getKey().getLeastSignificantBits());
+                out.writeInt(owner.getValue());
+            }
+        }
+        out.flush();
+        ByteBuffer payload = ByteBuffer.wrap(bytes.toByteArray());
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_BYTES);
+        header.putInt(INDEX_MAGIC).putShort(INDEX_VERSION).putShort((short) 0)
+            .putInt(payload.remaining()).putInt((int) crc.getValue());
+        header.flip();
+        Files.createDirectories(root);
+        BinaryFieldStore.writeAtomically(indexFile, header, payload);
+    }
+
+    /**
+     * Rebuilds the index by reading every shard, for when the index is missing or corrupt.
+     * Shards that fail to load are skipped.
+     *
+     * @return The rebuilt index.
+     * @throws IOException If the store directory cannot be listed.
+     */
+    public ShardIndex rebuildIndex() throws IOException {
+        long nextFieldId = 1;
+        Map<ShardKey, Map<UUID, Integer>> owners = new HashMap<>();
+        for (ShardKey key : listShards()) {
+            List<FieldRecord> records;
+            try {
+                records = readShard(key);
+            } catch (IOException e) {
+                LOGGER.error("Skipping unreadable shard {} while rebuilding the index: {}", getShardFile(key), e.getMessage());
+                continue;
+            }
+            for (FieldRecord record : records) {
+                nextFieldId = Math.max(nextFieldId, record.id() + 1);
+            }
+            Map<UUID, Integer> counts = countOwners(records);
+            if (!counts.isEmpty()) {
+                owners.put(key, counts);
+            }
+        }
+        return new ShardIndex(nextFieldId, owners);
+    }
+
+    /**
+     * Counts the records of each creator.
+     *
+     * @param records The records.
+     * @return The number of records per creator, leaving out API-created records.
+     */
+    public static Map<UUID, Integer> countOwners(Collection<FieldRecord> records) {
+        Map<UUID, Integer> counts = new HashMap<>();
+        for (FieldRecord record : records) {
+            if (record.creator() != null) {
+                counts.merge(record.creator(), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Lists every shard that has a file.
+     *
+     * @return The shard keys.
+     * @throws IOException If the store directory cannot be listed.
+     */
+    private List<ShardKey> listShards() throws IOException {
+        if (!Files.isDirectory(root)) return Collections.emptyList();
+        List<ShardKey> keys = new ArrayList<>();
+        try (DirectoryStream<Path> worlds = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path world : worlds) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(world)) {
+                    for (Path file : files) {
+                        Matcher matcher = SHARD_FILE.matcher(file.getFileName().toString());
+                        if (matcher.matches()) {
+                            keys.add(new ShardKey(world.getFileName().toString(),
+                                Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+                        }
+                    }
+                }
+            }
+        }
+        return keys;
+    }
+}
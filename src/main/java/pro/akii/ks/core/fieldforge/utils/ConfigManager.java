@@ -2,6 +2,7 @@ package pro.akii.ks.core.fieldforge.utils;
 
 import lombok.Getter;
 import pro.akii.ks.core.fieldforge.FieldForgePlugin;
+import pro.akii.ks.core.fieldforge.fields.UpdateMode;
 
 @Getter
 public class ConfigManager {
@@ -10,6 +11,17 @@ public class ConfigManager {
     private final double particleDensity;
     private final double maxForce;
     private final boolean vortexLeavesEnabled;
+    private final UpdateMode updateMode;
+    private final int packetBatchSize;
+    private final int renderInterval;
+    private final int particleBudget;
+    private final int forceThreads;
+    private final double tickBudgetMs;
+    private final double farFieldDistance;
+    private final int journalCompactInterval;
+    private final boolean bakedFieldsEnabled;
+    private final int bakedVoxelSize;
+    private final int bakedMinOverlap;
 
     /**
      * Constructs a new ConfigManager instance.
@@ -22,6 +34,17 @@ public class ConfigManager {
         this.particleDensity = plugin.getConfig().getDouble("vector-fields.particle-density", 0.5);
         this.maxForce = plugin.getConfig().getDouble("vector-fields.max-force", 5.0);
         this.vortexLeavesEnabled = plugin.getConfig().getBoolean("vector-fields.environmental-effects.vortex-leaves", true);
+        this.updateMode = UpdateMode.fromConfig(plugin.getConfig().getString("vector-fields.update-mode", "field"));
+        this.packetBatchSize = plugin.getConfig().getInt("vector-fields.packet-batch-size", 4096);
+        this.renderInterval = plugin.getConfig().getInt("vector-fields.render-interval", 5);
+        this.particleBudget = plugin.getConfig().getInt("vector-fields.particle-budget", 2000);
+        this.forceThreads = plugin.getConfig().getInt("vector-fields.force-threads", 0);
+        this.tickBudgetMs = plugin.getConfig().getDouble("vector-fields.tick-budget-ms", 10.0);
+        this.farFieldDistance = plugin.getConfig().getDouble("vector-fields.far-field-distance", 48.0);
+        this.journalCompactInterval = plugin.getConfig().getInt("vector-fields.journal-compact-interval", 300);
+        this.bakedFieldsEnabled = plugin.getConfig().getBoolean("vector-fields.baked-fields.enabled", false);
+        this.bakedVoxelSize = plugin.getConfig().getInt("vector-fields.baked-fields.voxel-size", 2);
+        this.bakedMinOverlap = plugin.getConfig().getInt("vector-fields.baked-fields.min-overlap", 2);
     }
 
     /**
@@ -0,0 +1,161 @@
+package pro.akii.ks.core.fieldforge.fields;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.PluginManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import pro.akii.ks.core.fieldforge.fields.types.RadialField;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives a {@link MembershipTracker} through steady and churning ticks at growing pair counts and
+ * checks that events fire only for the pairs that changed. How the cost of a tick scales with the
+ * pair count is measured by {@code MembershipTrackerBenchmark}.
+ */
+class MembershipTrackerTest {
+    private static final int FIELDS = 64;
+    private static final int FIELDS_PER_ENTITY = 4;
+
+    private final Map<Long, VectorField> fieldsById = new HashMap<>();
+
+    @BeforeAll
+    static void installServer() {
+        if (Bukkit.getServer() != null) return;
+        PluginManager pluginManager = proxy(PluginManager.class, Map.of());
+        Bukkit.setServer(proxy(Server.class, Map.of(
+            "getPluginManager", pluginManager,
+            "getLogger", Logger.getLogger("MembershipTrackerTest"))));
+    }
+
+    @Test
+    void steadyTickFiresNoEvents() {
+        for (int pairs = 1_000; pairs <= 64_000; pairs *= 4) {
+            MembershipTracker tracker = new MembershipTracker(createFields());
+            Entity[] entities = createEntities(pairs / FIELDS_PER_ENTITY);
+
+            observe(tracker, entities, 0);
+            tracker.commit();
+            assertEquals(pairs, tracker.getEventsFired(), "enter events at " + pairs + " pairs");
+
+            for (int tick = 0; tick < 3; tick++) {
+                long events = tracker.getEventsFired();
+                observe(tracker, entities, 0);
+                tracker.commit();
+                assertEquals(events, tracker.getEventsFired(), "steady tick events at " + pairs + " pairs");
+            }
+            assertEquals(entities.length, tracker.getTrackedEntities());
+        }
+    }
+
+    @Test
+    void churnFiresEventsOnlyForChangedPairs() {
+        for (int pairs = 1_000; pairs <= 64_000; pairs *= 4) {
+            MembershipTracker tracker = new MembershipTracker(createFields());
+            Entity[] entities = createEntities(pairs / FIELDS_PER_ENTITY);
+            observe(tracker, entities, 0);
+            tracker.commit();
+
+            // Every tenth entity moves on to the next group of fields: one exit and one enter per pair.
+            int moved = 0;
+            for (int e = 0; e < entities.length; e++) {
+                int shift = e % 10 == 0 ? FIELDS_PER_ENTITY : 0;
+                moved += shift != 0 ? FIELDS_PER_ENTITY : 0;
+                for (int f = 0; f < FIELDS_PER_ENTITY; f++) {
+                    tracker.observe(fieldsById.get(fieldId(e, f, shift)), entities[e]);
+                }
+            }
+            long events = tracker.getEventsFired();
+            tracker.commit();
+            assertEquals(2L * moved, tracker.getEventsFired() - events, "churn events at " + pairs + " pairs");
+            assertEquals(entities.length, tracker.getTrackedEntities(), "tracked entities at " + pairs + " pairs");
+        }
+    }
+
+    @Test
+    void retainedFieldsKeepTheirMembers() {
+        MembershipTracker tracker = new MembershipTracker(createFields());
+        Entity[] entities = createEntities(1_000);
+        observe(tracker, entities, 0);
+        tracker.commit();
+
+        long events = tracker.getEventsFired();
+        tracker.commit(fieldsById.keySet());
+        assertEquals(events, tracker.getEventsFired());
+        assertEquals(entities.length, tracker.getTrackedEntities());
+
+        tracker.commit(Set.of());
+        assertEquals(events + 1_000L * FIELDS_PER_ENTITY, tracker.getEventsFired());
+        assertEquals(0, tracker.getTrackedEntities());
+    }
+
+    private Map<Long, VectorField> createFields() {
+        fieldsById.clear();
+        for (long id = 1; id <= FIELDS; id++) {
+            VectorField field = new RadialField(new Location(null, id * 64, 64, 0), 1.0, 8, null, 0);
+            field.setId(id);
+            fieldsById.put(id, field);
+        }
+        return fieldsById;
+    }
+
+    private void observe(MembershipTracker tracker, Entity[] entities, int shift) {
+        for (int e = 0; e < entities.length; e++) {
+            for (int f = 0; f < FIELDS_PER_ENTITY; f++) {
+                tracker.observe(fieldsById.get(fieldId(e, f, shift)), entities[e]);
+            }
+        }
+    }
+
+    private static long fieldId(int entity, int field, int shift) {
+        return (entity * FIELDS_PER_ENTITY + field + shift) % FIELDS + 1;
+    }
+
+    private static Entity[] createEntities(int count) {
+        Entity[] entities = new Entity[count];
+        for (int i = 0; i < count; i++) {
+            entities[i] = proxy(Entity.class, Map.of("getEntityId", i));
+        }
+        return entities;
+    }
+
+    /**
+     * Creates an interface stub answering the named methods with fixed values, identity for the
+     * {@link Object} methods and null, zero or false for everything else.
+     */
+    private static <T> T proxy(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return self == args[0];
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "toString":
+                    return type.getSimpleName() + answers;
+                default:
+                    break;
+            }
+            Object answer = answers.get(method.getName());
+            if (answer != null) return answer;
+            Class<?> returnType = method.getReturnType();
+            if (returnType == boolean.class) return false;
+            if (returnType == int.class) return 0;
+            if (returnType == long.class) return 0L;
+            if (returnType == double.class) return 0.0;
+            if (returnType == float.class) return 0.0f;
+            if (returnType == short.class) return (short) 0;
+            if (returnType == byte.class) return (byte) 0;
+            if (returnType == char.class) return '\0';
+            return null;
+        }));
+    }
+}